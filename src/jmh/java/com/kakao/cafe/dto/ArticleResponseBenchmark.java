@@ -0,0 +1,49 @@
+package com.kakao.cafe.dto;
+
+import com.kakao.cafe.domain.Article;
+import com.kakao.cafe.domain.Reply;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ArticleResponseBenchmark {
+
+    @Param({"0", "10", "100"})
+    private int replyCount;
+
+    private Article article;
+    private List<Reply> replies;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+
+        article = new Article(1, "writer", "title", "contents", now, replyCount);
+        replies = IntStream.rangeClosed(1, replyCount)
+            .mapToObj(id -> new Reply(id, 1, "userId", "comment " + id, now))
+            .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public ArticleResponse of() {
+        return ArticleResponse.of(article, replies);
+    }
+
+    @Benchmark
+    public ArticleResponse from() {
+        return ArticleResponse.from(article);
+    }
+}
@@ -0,0 +1,103 @@
+package com.kakao.cafe.repository.jdbc;
+
+import com.kakao.cafe.config.QueryProps;
+import com.kakao.cafe.domain.Article;
+import com.kakao.cafe.domain.User;
+import com.kakao.cafe.replica.ReplicaRouter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+// 이름 있는 파라미터를 호출마다 바꾸는 방식과 시작할 때 만든 QueryPlan 으로 실행하는 방식 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FindByIdBenchmark {
+
+    private EmbeddedDatabase database;
+    private NamedParameterJdbcTemplate namedTemplate;
+    private ArticleJdbcRepository articleRepository;
+
+    private String selectArticle;
+    private ParsedSql updateArticle;
+    private QueryPlan.Binder updateArticleBinder;
+
+    private Article article;
+
+    @Setup
+    public void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+            .generateUniqueName(true)
+            .setType(EmbeddedDatabaseType.H2)
+            .addScript("classpath:/schema-h2.sql")
+            .build();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        QueryProps queryProps = new QueryProps();
+        QueryTemplate queryTemplate = new QueryTemplate(jdbcTemplate,
+            new JdbcBatchTemplate(jdbcTemplate, 500),
+            new QueryMetrics(new SimpleMeterRegistry(), SlowQueryLog.disabled()),
+            ReplicaRouter.primaryOnly());
+
+        namedTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        articleRepository = new ArticleJdbcRepository(queryTemplate,
+            new GeneratedKeyHolderFactory(), queryProps);
+
+        selectArticle = queryProps.get(Query.SELECT_ARTICLE);
+        updateArticle = NamedParameterUtils.parseSqlStatement(
+            queryProps.get(Query.UPDATE_ARTICLE));
+        updateArticleBinder = queryProps.getPlan(Query.UPDATE_ARTICLE)
+            .binder("title", "contents", "articleId");
+
+        new UserJdbcRepository(queryTemplate, queryProps).save(
+            User.createWithInput("writer", "password", "name", "writer@example.com"));
+        article = articleRepository.save(Article.createWithInput("writer", "title", "contents"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    @Benchmark
+    public Article findByIdNamed() {
+        return namedTemplate.queryForObject(selectArticle,
+            new MapSqlParameterSource("articleId", article.getArticleId()),
+            articleRepository.getArticleRowMapper());
+    }
+
+    @Benchmark
+    public Optional<Article> findByIdPlan() {
+        return articleRepository.findById(article.getArticleId());
+    }
+
+    // 데이터베이스 왕복 없이 값 배열을 만드는 비용만 비교
+    @Benchmark
+    public Object[] bindBeanProperty() {
+        return NamedParameterUtils.buildValueArray(updateArticle,
+            new BeanPropertySqlParameterSource(article), null);
+    }
+
+    @Benchmark
+    public Object[] bindPlan() {
+        return updateArticleBinder.bind(article.getTitle(), article.getContents(),
+            article.getArticleId()).getArgs();
+    }
+}
@@ -0,0 +1,32 @@
+package com.kakao.cafe.repository.jdbc;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.util.Map;
+
+// 컬럼 라벨별 고정 값을 반환하는 ResultSet, RowMapper 만 측정하기 위해 사용
+class FixedResultSet {
+
+    private FixedResultSet() {
+    }
+
+    static ResultSet of(Map<String, Object> row) {
+        return (ResultSet) Proxy.newProxyInstance(
+            ResultSet.class.getClassLoader(),
+            new Class[]{ResultSet.class},
+            (proxy, method, args) -> {
+                Object value = row.get((String) args[0]);
+
+                switch (method.getName()) {
+                    case "getInt":
+                        return value == null ? 0 : ((Number) value).intValue();
+                    case "getString":
+                        return value == null ? null : value.toString();
+                    case "getObject":
+                        return value;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+    }
+}
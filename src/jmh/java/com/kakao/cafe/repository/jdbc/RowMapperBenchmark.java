@@ -0,0 +1,79 @@
+package com.kakao.cafe.repository.jdbc;
+
+import com.kakao.cafe.config.QueryProps;
+import com.kakao.cafe.domain.Article;
+import com.kakao.cafe.domain.Reply;
+import com.kakao.cafe.domain.User;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RowMapperBenchmark {
+
+    private ArticleJdbcRepository articleRepository;
+    private ReplyJdbcRepository replyRepository;
+    private UserJdbcRepository userRepository;
+
+    private ResultSet articleRow;
+    private ResultSet replyRow;
+    private ResultSet userRow;
+
+    @Setup
+    public void setUp() {
+        // RowMapper 는 저장소의 의존성을 사용하지 않음, 생성자에서 파라미터 순서만 계산
+        QueryProps queryProps = new QueryProps();
+        articleRepository = new ArticleJdbcRepository(null, null, queryProps);
+        replyRepository = new ReplyJdbcRepository(null, null, queryProps);
+        userRepository = new UserJdbcRepository(null, queryProps);
+
+        LocalDateTime now = LocalDateTime.now();
+
+        articleRow = FixedResultSet.of(Map.of(
+            "article_id", 1,
+            "writer", "writer",
+            "title", "title",
+            "contents", "contents",
+            "created_date", now,
+            "reply_count", 3));
+
+        replyRow = FixedResultSet.of(Map.of(
+            "reply_id", 1,
+            "article_id", 1,
+            "user_id", "userId",
+            "comment", "comment",
+            "created_date", now));
+
+        userRow = FixedResultSet.of(Map.of(
+            "user_id", "userId",
+            "password", "password",
+            "name", "name",
+            "email", "user@example.com"));
+    }
+
+    @Benchmark
+    public Article mapArticle() throws SQLException {
+        return articleRepository.getArticleRowMapper().mapRow(articleRow, 0);
+    }
+
+    @Benchmark
+    public Reply mapReply() throws SQLException {
+        return replyRepository.getReplyRowMapper().mapRow(replyRow, 0);
+    }
+
+    @Benchmark
+    public User mapUser() throws SQLException {
+        return userRepository.getUserRowMapper().mapRow(userRow, 0);
+    }
+}
@@ -0,0 +1,107 @@
+package com.kakao.cafe.service;
+
+import com.kakao.cafe.config.QueryProps;
+import com.kakao.cafe.domain.Article;
+import com.kakao.cafe.domain.Reply;
+import com.kakao.cafe.domain.User;
+import com.kakao.cafe.dto.ArticleResponse;
+import com.kakao.cafe.replica.ReplicaRouter;
+import com.kakao.cafe.repository.jdbc.ArticleJdbcRepository;
+import com.kakao.cafe.repository.jdbc.GeneratedKeyHolderFactory;
+import com.kakao.cafe.repository.jdbc.JdbcBatchTemplate;
+import com.kakao.cafe.repository.jdbc.QueryMetrics;
+import com.kakao.cafe.repository.jdbc.QueryTemplate;
+import com.kakao.cafe.repository.jdbc.ReplyJdbcRepository;
+import com.kakao.cafe.repository.jdbc.SlowQueryLog;
+import com.kakao.cafe.repository.jdbc.UserJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArticleServiceBenchmark {
+
+    @Param({"100", "1000"})
+    private int articleCount;
+
+    @Param({"5"})
+    private int repliesPerArticle;
+
+    private EmbeddedDatabase database;
+    private ArticleService articleService;
+
+    @Setup
+    public void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+            .generateUniqueName(true)
+            .setType(EmbeddedDatabaseType.H2)
+            .addScript("classpath:/schema-h2.sql")
+            .build();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        QueryProps queryProps = new QueryProps();
+        GeneratedKeyHolderFactory keyHolderFactory = new GeneratedKeyHolderFactory();
+        QueryTemplate queryTemplate = new QueryTemplate(jdbcTemplate,
+            new JdbcBatchTemplate(jdbcTemplate, 500),
+            new QueryMetrics(new SimpleMeterRegistry(), SlowQueryLog.disabled()),
+            ReplicaRouter.primaryOnly());
+
+        ArticleJdbcRepository articleRepository = new ArticleJdbcRepository(queryTemplate,
+            keyHolderFactory, queryProps);
+        ReplyJdbcRepository replyRepository = new ReplyJdbcRepository(queryTemplate,
+            keyHolderFactory, queryProps);
+        UserJdbcRepository userRepository = new UserJdbcRepository(queryTemplate, queryProps);
+
+        seed(articleRepository, replyRepository, userRepository);
+
+        articleService = new ArticleService(articleRepository, replyRepository, event -> {
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    @Benchmark
+    public List<ArticleResponse> findArticles() {
+        return articleService.findArticles();
+    }
+
+    private void seed(ArticleJdbcRepository articleRepository,
+        ReplyJdbcRepository replyRepository, UserJdbcRepository userRepository) {
+        userRepository.save(
+            User.createWithInput("writer", "password", "name", "writer@example.com"));
+
+        List<Article> articles = new ArrayList<>();
+        for (int i = 0; i < articleCount; i++) {
+            articles.add(Article.createWithInput("writer", "title " + i, "contents " + i));
+        }
+        articleRepository.saveAll(articles);
+
+        List<Reply> replies = new ArrayList<>();
+        for (Article article : articles) {
+            for (int j = 0; j < repliesPerArticle; j++) {
+                replies.add(
+                    Reply.createWithInput(article.getArticleId(), "writer", "comment " + j));
+            }
+        }
+        replyRepository.saveAll(replies);
+    }
+}
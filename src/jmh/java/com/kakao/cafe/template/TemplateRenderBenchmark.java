@@ -0,0 +1,104 @@
+package com.kakao.cafe.template;
+
+import com.kakao.cafe.dto.ArticlePageResponse;
+import com.kakao.cafe.dto.ArticleResponse;
+import com.kakao.cafe.dto.NavbarResponse;
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.util.StreamUtils;
+
+// ./gradlew jmh -PjmhIncludes=TemplateRenderBenchmark
+// qna/list 를 요청마다 컴파일(spring.mustache.cache=false), 캐시한 JMustache, 사전 컴파일 템플릿으로 렌더링
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TemplateRenderBenchmark {
+
+    private static final String TEMPLATE = "qna/list";
+
+    @Param({"1000"})
+    private int articleCount;
+
+    private Mustache.Compiler mustache;
+    private Template cached;
+    private PrecompiledTemplate precompiled;
+    private Map<String, Object> model;
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<ArticleResponse> articles = IntStream.rangeClosed(1, articleCount)
+            .mapToObj(id -> ArticleResponse.createWithArticle(id, "writer" + id, "title " + id,
+                "contents " + id, now))
+            .collect(Collectors.toList());
+        model = Map.of(
+            "articles", articles,
+            "page", new ArticlePageResponse(articles, true, now, articleCount),
+            NavbarResponse.MODEL_KEY, NavbarResponse.from(null));
+
+        mustache = Mustache.compiler().withLoader(name -> new StringReader(load(name)));
+        cached = mustache.compile(load(TEMPLATE));
+        precompiled = new TemplateCompiler(mustache, TemplateRenderBenchmark::load,
+            StandardCharsets.UTF_8).compile(TEMPLATE);
+        out = new ByteArrayOutputStream(1 << 20);
+    }
+
+    @Benchmark
+    public int jmustacheNoCache() throws IOException {
+        return render(mustache.compile(load(TEMPLATE)));
+    }
+
+    @Benchmark
+    public int jmustacheCached() throws IOException {
+        return render(cached);
+    }
+
+    @Benchmark
+    public int precompiled() throws IOException {
+        out.reset();
+        precompiled.execute(model, out);
+        return out.size();
+    }
+
+    private int render(Template template) throws IOException {
+        out.reset();
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        template.execute(model, writer);
+        writer.flush();
+        return out.size();
+    }
+
+    private static String load(String name) {
+        try {
+            return StreamUtils.copyToString(
+                new ClassPathResource("templates/" + name + ".html").getInputStream(),
+                StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
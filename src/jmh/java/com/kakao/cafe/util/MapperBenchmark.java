@@ -0,0 +1,65 @@
+package com.kakao.cafe.util;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+
+    private Source source;
+
+    @Setup
+    public void setUp() {
+        source = new Source(1, "writer", "title", "contents", LocalDateTime.now());
+    }
+
+    @Benchmark
+    public Target map() {
+        return Mapper.map(source, Target.class);
+    }
+
+    @Benchmark
+    public Target reflectionBaseline() {
+        return ReflectionMapper.map(source, Target.class);
+    }
+
+    public static class Source {
+
+        private Integer articleId;
+        private String writer;
+        private String title;
+        private String contents;
+        private LocalDateTime createdDate;
+
+        public Source(Integer articleId, String writer, String title, String contents,
+            LocalDateTime createdDate) {
+            this.articleId = articleId;
+            this.writer = writer;
+            this.title = title;
+            this.contents = contents;
+            this.createdDate = createdDate;
+        }
+    }
+
+    public static class Target {
+
+        private Integer articleId;
+        private String writer;
+        private String title;
+        private String contents;
+        private LocalDateTime createdDate;
+        private Integer replyCount;
+
+        private Target() {
+        }
+    }
+}
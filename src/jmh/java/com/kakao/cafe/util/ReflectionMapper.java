@@ -0,0 +1,45 @@
+package com.kakao.cafe.util;
+
+import com.kakao.cafe.exception.ErrorCode;
+import com.kakao.cafe.exception.InternalOperationException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Map;
+
+// 호출마다 리플렉션을 수행하던 이전 Mapper 구현, 비교 기준으로만 사용
+class ReflectionMapper {
+
+    private ReflectionMapper() {
+    }
+
+    static <T> T map(Object obj, Class<T> type) {
+        if (obj == null || type == null) {
+            throw new InternalOperationException(ErrorCode.INTERNAL_ERROR);
+        }
+
+        try {
+            Map<String, Object> sourceMap = new HashMap<>();
+            for (Field field : obj.getClass().getDeclaredFields()) {
+                field.setAccessible(true);
+                sourceMap.put(field.getName(), field.get(obj));
+            }
+
+            Constructor<T> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            T instance = constructor.newInstance();
+
+            for (Field field : type.getDeclaredFields()) {
+                field.setAccessible(true);
+
+                if (sourceMap.get(field.getName()) != null) {
+                    field.set(instance, sourceMap.get(field.getName()));
+                }
+            }
+            return instance;
+
+        } catch (Exception e) {
+            throw new InternalOperationException(ErrorCode.INTERNAL_ERROR);
+        }
+    }
+}
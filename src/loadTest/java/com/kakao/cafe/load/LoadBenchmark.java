@@ -0,0 +1,139 @@
+package com.kakao.cafe.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 동시 연결 수만큼 요청을 계속 보내 처리량과 응답 시간 분포를 측정
+// ./gradlew loadTest -PloadUrl=http://localhost:8080/users -PloadConnections=2000 -PloadSeconds=30
+public class LoadBenchmark {
+
+    private final HttpClient client;
+    private final HttpRequest request;
+    private final int connections;
+
+    private final AtomicLong errors = new AtomicLong();
+    private volatile long deadline;
+    private volatile boolean recording;
+
+    public LoadBenchmark(URI uri, int connections) {
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+        this.request = HttpRequest.newBuilder(uri)
+            .timeout(Duration.ofSeconds(30))
+            .GET()
+            .build();
+        this.connections = connections;
+    }
+
+    public static void main(String[] args) {
+        URI uri = URI.create(args.length > 0 ? args[0] : "http://localhost:8080/users");
+        int connections = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+        int warmupSeconds = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+
+        new LoadBenchmark(uri, connections).run(warmupSeconds, seconds);
+    }
+
+    public void run(int warmupSeconds, int seconds) {
+        System.out.printf("%s, %d connections, warmup %ds, measure %ds%n", request.uri(),
+            connections, warmupSeconds, seconds);
+
+        // 워밍업 동안의 결과는 버림
+        runFor(warmupSeconds);
+        errors.set(0);
+
+        recording = true;
+        long startTime = System.nanoTime();
+        List<Recorder> recorders = runFor(seconds);
+        long elapsedNanos = System.nanoTime() - startTime;
+
+        report(recorders, elapsedNanos);
+    }
+
+    private List<Recorder> runFor(int seconds) {
+        deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+
+        List<Recorder> recorders = new ArrayList<>();
+        List<CompletableFuture<Void>> loops = new ArrayList<>();
+
+        for (int i = 0; i < connections; i++) {
+            Recorder recorder = new Recorder();
+            recorders.add(recorder);
+            loops.add(loop(recorder));
+        }
+
+        CompletableFuture.allOf(loops.toArray(new CompletableFuture[0])).join();
+        return recorders;
+    }
+
+    // 연결 하나가 응답을 받으면 바로 다음 요청을 보냄, 스레드를 점유하지 않음
+    private CompletableFuture<Void> loop(Recorder recorder) {
+        if (System.nanoTime() >= deadline) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        long startTime = System.nanoTime();
+        return client.sendAsync(request, BodyHandlers.discarding())
+            .handle((response, throwable) -> {
+                if (throwable != null || response.statusCode() >= 500) {
+                    errors.incrementAndGet();
+                } else if (recording) {
+                    recorder.record(System.nanoTime() - startTime);
+                }
+                return null;
+            })
+            .thenCompose(ignored -> loop(recorder));
+    }
+
+    private void report(List<Recorder> recorders, long elapsedNanos) {
+        int count = recorders.stream().mapToInt(recorder -> recorder.size).sum();
+        long[] latencies = new long[count];
+
+        int offset = 0;
+        for (Recorder recorder : recorders) {
+            System.arraycopy(recorder.latencies, 0, latencies, offset, recorder.size);
+            offset += recorder.size;
+        }
+        Arrays.sort(latencies);
+
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        System.out.printf("requests   %d (errors %d)%n", count, errors.get());
+        System.out.printf("throughput %.1f req/s%n", count / seconds);
+        System.out.printf("p50        %.2f ms%n", percentile(latencies, 50));
+        System.out.printf("p99        %.2f ms%n", percentile(latencies, 99));
+        System.out.printf("max        %.2f ms%n", percentile(latencies, 100));
+    }
+
+    private double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    // 연결마다 하나씩 사용해 응답 시간을 잠금 없이 기록
+    private static class Recorder {
+
+        private long[] latencies = new long[1024];
+        private int size;
+
+        void record(long latencyNanos) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.kakao.cafe.asset;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.util.List;
+import java.util.regex.Pattern;
+import javax.servlet.http.HttpServletRequest;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceTransformer;
+import org.springframework.web.servlet.resource.ResourceTransformerChain;
+
+// 정적 리소스 응답 헤더를 추가
+// 해시가 붙은 경로로 요청한 리소스는 1년, immutable 로 캐시하고 압축 파일이 있는 리소스는 Vary: Accept-Encoding
+// ResourceHttpRequestHandler 는 핸들러의 Cache-Control 을 설정한 뒤 HttpResource 의 헤더로 덮어씀
+public class AssetHeaderTransformer implements ResourceTransformer {
+
+    private static final String CACHE_CONTROL = "max-age=31536000, public, immutable";
+    private static final Pattern VERSIONED_FILENAME = Pattern.compile(".+-[0-9a-f]{32}\\.[^.]+");
+    private static final List<String> ENCODED_EXTENSIONS = List.of(".br", ".gz");
+
+    // CssLinkResourceTransformer 보다 먼저 등록해야 변환된 css 에도 헤더가 유지됨
+    @Override
+    public Resource transform(HttpServletRequest request, Resource resource,
+        ResourceTransformerChain transformerChain) throws IOException {
+        Resource transformed = transformerChain.transform(request, resource);
+
+        boolean versioned = isVersioned(request, resource);
+        boolean encodable = hasEncodedVariant(resource);
+        if (!versioned && !encodable) {
+            return transformed;
+        }
+
+        // 버전 리소스의 ETag, 압축 리소스의 Content-Encoding, Vary 를 유지
+        HttpHeaders headers = new HttpHeaders();
+        if (transformed instanceof HttpResource) {
+            headers.putAll(((HttpResource) transformed).getResponseHeaders());
+        } else if (resource instanceof HttpResource) {
+            headers.putAll(((HttpResource) resource).getResponseHeaders());
+        }
+
+        if (versioned) {
+            headers.setCacheControl(CACHE_CONTROL);
+        }
+        // 압축하지 않은 응답도 공유 캐시가 Accept-Encoding 별로 저장하도록 함
+        if (encodable && !headers.getVary().contains(HttpHeaders.ACCEPT_ENCODING)) {
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        return new HeaderResource(transformed, headers);
+    }
+
+    // VersionResourceResolver 는 해시를 검증한 뒤 해시를 뺀 원본 리소스를 반환하므로 파일 이름이 달라짐
+    private boolean isVersioned(HttpServletRequest request, Resource resource) {
+        String requested = StringUtils.getFilename(request.getRequestURI());
+        return requested != null
+            && VERSIONED_FILENAME.matcher(requested).matches()
+            && !requested.equals(resource.getFilename());
+    }
+
+    // 빌드할 때 만든 .br, .gz 파일이 있는지 확인, EncodedResourceResolver 가 고른 리소스는 이미 Vary 를 포함
+    private boolean hasEncodedVariant(Resource resource) throws IOException {
+        if (resource instanceof HttpResource
+            && ((HttpResource) resource).getResponseHeaders()
+            .containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            return true;
+        }
+
+        String filename = resource.getFilename();
+        if (filename == null) {
+            return false;
+        }
+        for (String extension : ENCODED_EXTENSIONS) {
+            if (resource.createRelative(filename + extension).exists()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class HeaderResource extends AbstractResource implements HttpResource {
+
+        private final Resource resource;
+        private final HttpHeaders headers;
+
+        HeaderResource(Resource resource, HttpHeaders headers) {
+            this.resource = resource;
+            this.headers = headers;
+        }
+
+        @Override
+        public boolean exists() {
+            return resource.exists();
+        }
+
+        @Override
+        public boolean isReadable() {
+            return resource.isReadable();
+        }
+
+        @Override
+        public URL getURL() throws IOException {
+            return resource.getURL();
+        }
+
+        @Override
+        public URI getURI() throws IOException {
+            return resource.getURI();
+        }
+
+        @Override
+        public File getFile() throws IOException {
+            return resource.getFile();
+        }
+
+        @Override
+        public long contentLength() throws IOException {
+            return resource.contentLength();
+        }
+
+        @Override
+        public long lastModified() throws IOException {
+            return resource.lastModified();
+        }
+
+        @Override
+        public Resource createRelative(String relativePath) throws IOException {
+            return resource.createRelative(relativePath);
+        }
+
+        @Override
+        public String getFilename() {
+            return resource.getFilename();
+        }
+
+        @Override
+        public String getDescription() {
+            return resource.getDescription();
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return resource.getInputStream();
+        }
+
+        @Override
+        public HttpHeaders getResponseHeaders() {
+            return headers;
+        }
+    }
+}
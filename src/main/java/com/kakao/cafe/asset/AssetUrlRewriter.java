@@ -0,0 +1,61 @@
+package com.kakao.cafe.asset;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.web.servlet.resource.ContentVersionStrategy;
+import org.springframework.web.servlet.resource.VersionStrategy;
+
+// 템플릿의 정적 리소스 경로에 내용 해시를 붙여 (/css/styles.css -> /css/styles-{md5}.css)
+// 내용이 바뀌면 URL 도 바뀌므로 브라우저가 재검증 없이 오래 캐시할 수 있음
+public class AssetUrlRewriter {
+
+    private static final Pattern ASSET_URL = Pattern.compile(
+        "(href|src)=\"(/(?:css|js|fonts|images)/[^\"?#]+)\"");
+
+    private final ResourceLoader resourceLoader;
+    private final String location;
+
+    // MvcConfig 의 VersionResourceResolver 와 같은 전략을 사용해야 요청한 해시를 검증할 수 있음
+    private final VersionStrategy versionStrategy = new ContentVersionStrategy();
+
+    // 경로 -> 해시를 붙인 경로, 정적 리소스는 배포 중에 바뀌지 않으므로 한 번만 계산
+    private final Map<String, String> versionedPaths = new ConcurrentHashMap<>();
+
+    public AssetUrlRewriter(ResourceLoader resourceLoader, String location) {
+        this.resourceLoader = resourceLoader;
+        this.location = location;
+    }
+
+    public String rewrite(String source) {
+        Matcher matcher = ASSET_URL.matcher(source);
+        if (!matcher.find()) {
+            return source;
+        }
+
+        StringBuilder rewritten = new StringBuilder(source.length());
+        do {
+            String url = matcher.group(1) + "=\"" + getVersionedPath(matcher.group(2)) + "\"";
+            matcher.appendReplacement(rewritten, Matcher.quoteReplacement(url));
+        } while (matcher.find());
+        matcher.appendTail(rewritten);
+
+        return rewritten.toString();
+    }
+
+    // 없는 리소스는 경로를 그대로 반환
+    public String getVersionedPath(String path) {
+        return versionedPaths.computeIfAbsent(path, this::addVersion);
+    }
+
+    private String addVersion(String path) {
+        Resource resource = resourceLoader.getResource(location + path.substring(1));
+        if (!resource.exists()) {
+            return path;
+        }
+        return versionStrategy.addVersion(path, versionStrategy.getResourceVersion(resource));
+    }
+}
@@ -0,0 +1,56 @@
+package com.kakao.cafe.config;
+
+import com.kakao.cafe.repository.cache.ArticleCacheRepository;
+import com.kakao.cafe.repository.cache.ReplyCacheRepository;
+import com.kakao.cafe.repository.jdbc.ArticleJdbcRepository;
+import com.kakao.cafe.repository.jdbc.ReplyJdbcRepository;
+import com.kakao.cafe.repository.writebehind.ReplyWriteBehindRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+@ConditionalOnProperty(name = "cafe.cache.enabled", havingValue = "true")
+public class CacheConfig {
+
+    private final long maximumSize;
+    private final Duration expireAfterWrite;
+    private final MeterRegistry registry;
+
+    public CacheConfig(@Value("${cafe.cache.maximum-size}") long maximumSize,
+        @Value("${cafe.cache.expire-after-write-seconds}") long expireAfterWriteSeconds,
+        MeterRegistry registry) {
+        this.maximumSize = maximumSize;
+        this.expireAfterWrite = Duration.ofSeconds(expireAfterWriteSeconds);
+        this.registry = registry;
+    }
+
+    @Bean
+    @Primary
+    public ArticleCacheRepository articleCacheRepository(ArticleJdbcRepository articleRepository) {
+        return new ArticleCacheRepository(articleRepository, maximumSize, expireAfterWrite,
+            registry);
+    }
+
+    @Bean
+    @Primary
+    public ReplyCacheRepository replyCacheRepository(ReplyJdbcRepository replyRepository,
+        ArticleCacheRepository articleCacheRepository,
+        ObjectProvider<ReplyWriteBehindRepository> replyWriteBehindRepository) {
+        ReplyWriteBehindRepository writeBehindRepository =
+            replyWriteBehindRepository.getIfAvailable();
+
+        if (writeBehindRepository == null) {
+            return new ReplyCacheRepository(replyRepository, articleCacheRepository, maximumSize,
+                expireAfterWrite, registry);
+        }
+
+        return new ReplyCacheRepository(writeBehindRepository, articleCacheRepository,
+            maximumSize, expireAfterWrite, registry);
+    }
+}
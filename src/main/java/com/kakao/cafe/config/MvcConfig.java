@@ -1,5 +1,6 @@
 package com.kakao.cafe.config;
 
+import com.kakao.cafe.asset.AssetHeaderTransformer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.filter.HiddenHttpMethodFilter;
@@ -7,10 +8,18 @@ import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.CssLinkResourceTransformer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
 
 @Configuration
 public class MvcConfig implements WebMvcConfigurer {
 
+    public static final String STATIC_LOCATION = "classpath:/static/";
+
+    // 해시가 없는 경로는 짧게 캐시, 해시가 붙은 경로는 AssetHeaderTransformer 가 1년으로 설정
+    private static final int UNVERSIONED_CACHE_SECONDS = 20;
+
     private final HandlerInterceptor authInterceptor;
 
     public MvcConfig(HandlerInterceptor handlerInterceptor) {
@@ -26,9 +35,16 @@ public class MvcConfig implements WebMvcConfigurer {
     // https://stackoverflow.com/questions/24661289/spring-boot-not-serving-static-content
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        // 템플릿은 AssetUrlRewriter 로 /css/styles-{md5}.css 같은 경로를 참조하고, css 안의 경로는 변환해서 응답
+        // 빌드할 때 만든 .br, .gz 파일을 Accept-Encoding 에 따라 선택하고, 요청마다 압축하지 않음
         registry.addResourceHandler("/**")
-            .addResourceLocations("classpath:/static/")
-            .setCachePeriod(20);
+            .addResourceLocations(STATIC_LOCATION)
+            .setCachePeriod(UNVERSIONED_CACHE_SECONDS)
+            .resourceChain(true)
+            .addResolver(new EncodedResourceResolver())
+            .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"))
+            .addTransformer(new AssetHeaderTransformer())
+            .addTransformer(new CssLinkResourceTransformer());
     }
 
     @Override
@@ -0,0 +1,35 @@
+package com.kakao.cafe.config;
+
+import com.kakao.cafe.pagecache.PageCache;
+import com.kakao.cafe.pagecache.PageCacheFilter;
+import com.kakao.cafe.session.SessionManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "cafe.page-cache.enabled", havingValue = "true")
+public class PageCacheConfig {
+
+    @Bean
+    public PageCache pageCache(@Value("${cafe.page-cache.maximum-size}") long maximumSize,
+        @Value("${cafe.page-cache.expire-after-write-seconds}") long expireAfterWriteSeconds,
+        @Value("${cafe.page-cache.wait-timeout-millis}") long waitTimeoutMillis,
+        MeterRegistry registry) {
+        return new PageCache(maximumSize, Duration.ofSeconds(expireAfterWriteSeconds),
+            Duration.ofMillis(waitTimeoutMillis), registry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<PageCacheFilter> pageCacheFilter(PageCache pageCache,
+        SessionManager sessionManager) {
+        FilterRegistrationBean<PageCacheFilter> registration = new FilterRegistrationBean<>(
+            new PageCacheFilter(pageCache, sessionManager));
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+}
@@ -1,31 +1,52 @@
 package com.kakao.cafe.config;
 
 import com.kakao.cafe.repository.jdbc.Query;
+import com.kakao.cafe.repository.jdbc.QueryPlan;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.util.HashMap;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
 import java.util.Map;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
 import org.yaml.snakeyaml.Yaml;
 
+// query.yml 을 시작할 때 한 번 읽어 Query 마다 파싱해 둠, 없는 Query 가 있으면 시작하지 않음
 @Component
 public class QueryProps {
 
-    private Map<String, String> props = new HashMap<>();
+    private final Map<Query, QueryPlan> plans = new EnumMap<>(Query.class);
 
     public QueryProps() {
-        try {
-            ClassPathResource resource = new ClassPathResource("query.yml");
-            props = new Yaml().load(new InputStreamReader(resource.getInputStream()));
+        Map<String, String> props = load();
 
-        } catch (IOException e) {
-            e.printStackTrace();
+        for (Query query : Query.values()) {
+            String sql = props.get(query.name());
+            if (sql == null || sql.isBlank()) {
+                throw new IllegalStateException("query.yml 에 " + query + " 가 없습니다");
+            }
+            plans.put(query, QueryPlan.parse(query, sql));
         }
     }
 
     public String get(Query query) {
-        return props.get(query.name());
+        return plans.get(query).getNamedSql();
+    }
+
+    public QueryPlan getPlan(Query query) {
+        return plans.get(query);
     }
 
+    private static Map<String, String> load() {
+        ClassPathResource resource = new ClassPathResource("query.yml");
+
+        try (InputStreamReader reader = new InputStreamReader(resource.getInputStream(),
+            StandardCharsets.UTF_8)) {
+            return new Yaml().load(reader);
+
+        } catch (IOException e) {
+            throw new UncheckedIOException("query.yml 을 읽지 못했습니다", e);
+        }
+    }
 }
@@ -0,0 +1,72 @@
+package com.kakao.cafe.config;
+
+import com.kakao.cafe.replica.ReadYourWritesFilter;
+import com.kakao.cafe.replica.Replica;
+import com.kakao.cafe.replica.ReplicaRouter;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// cafe.replica.enabled=true 면 cafe.replica.urls 의 DataSource 로 조회를 나눠 보냄
+// replica DataSource 는 빈으로 등록하지 않으므로 spring.datasource 는 그대로 primary 로 자동 설정됨
+@Configuration
+public class ReplicaConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRouter replicaRouter(
+        @Value("${cafe.replica.enabled:false}") boolean enabled,
+        @Value("${cafe.replica.urls:}") String[] urls,
+        @Value("${cafe.replica.username:}") String username,
+        @Value("${cafe.replica.password:}") String password,
+        @Value("${cafe.replica.read-your-writes-seconds:5}") long readYourWritesSeconds,
+        @Value("${cafe.replica.max-lag-seconds:3}") long maxLagSeconds,
+        @Value("${cafe.replica.lag-query:}") String lagQuery,
+        @Value("${cafe.replica.health-check-millis:1000}") long healthCheckMillis) {
+        if (!enabled) {
+            return ReplicaRouter.primaryOnly();
+        }
+        // 복제 지연을 확인하지 않으면 지연된 replica 를 제외하지 못하므로 기본값 없이 설정하도록 함
+        if (lagQuery.isBlank()) {
+            throw new IllegalStateException("cafe.replica.lag-query 설정이 필요합니다");
+        }
+
+        List<Replica> replicas = new ArrayList<>();
+        for (String url : urls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            replicas.add(new Replica("replica-" + replicas.size(), DataSourceBuilder.create()
+                .url(url.trim())
+                .username(username)
+                .password(password)
+                .build()));
+        }
+        if (replicas.isEmpty()) {
+            throw new IllegalStateException("cafe.replica.urls 설정이 필요합니다");
+        }
+
+        return new ReplicaRouter(replicas, Duration.ofSeconds(readYourWritesSeconds),
+            maxLagSeconds, lagQuery, Duration.ofMillis(healthCheckMillis), Clock.systemUTC());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cafe.replica.enabled", havingValue = "true")
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+        @Value("${cafe.replica.cookie-name:CAFE_PRIMARY}") String cookieName,
+        @Value("${cafe.replica.read-your-writes-seconds:5}") long readYourWritesSeconds) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+            new ReadYourWritesFilter(cookieName, Duration.ofSeconds(readYourWritesSeconds),
+                Clock.systemUTC()));
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
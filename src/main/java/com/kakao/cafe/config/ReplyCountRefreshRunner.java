@@ -0,0 +1,29 @@
+package com.kakao.cafe.config;
+
+import com.kakao.cafe.repository.jdbc.ArticleJdbcRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 기존 데이터의 article.reply_count 를 채우거나 복구하기 위해 한 번 실행
+@Component
+@ConditionalOnProperty(name = "cafe.reply-count.refresh-on-startup", havingValue = "true")
+public class ReplyCountRefreshRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplyCountRefreshRunner.class);
+
+    private final ArticleJdbcRepository articleRepository;
+
+    public ReplyCountRefreshRunner(ArticleJdbcRepository articleRepository) {
+        this.articleRepository = articleRepository;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int refreshed = articleRepository.refreshReplyCount();
+        logger.info("reply_count refreshed for {} articles", refreshed);
+    }
+}
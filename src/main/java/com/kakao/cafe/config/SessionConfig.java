@@ -0,0 +1,67 @@
+package com.kakao.cafe.config;
+
+import com.kakao.cafe.controller.SessionInterceptor;
+import com.kakao.cafe.session.HttpSessionManager;
+import com.kakao.cafe.session.SessionManager;
+import com.kakao.cafe.session.SessionTokenCodec;
+import com.kakao.cafe.session.SignedCookieSessionManager;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// cafe.session.mode=servlet : HttpSession (기본)
+// cafe.session.mode=cookie  : 서명된 쿠키, 세션 복제나 sticky session 없이 여러 노드로 분산 가능
+@Configuration
+public class SessionConfig implements WebMvcConfigurer {
+
+    private final SessionManager sessionManager;
+
+    public SessionConfig(SessionManager sessionManager) {
+        this.sessionManager = sessionManager;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SessionInterceptor(sessionManager))
+            .order(Ordered.HIGHEST_PRECEDENCE);
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "cafe.session.mode", havingValue = "servlet",
+        matchIfMissing = true)
+    static class ServletSessionConfig {
+
+        @Bean
+        public SessionManager sessionManager() {
+            return new HttpSessionManager();
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "cafe.session.mode", havingValue = "cookie")
+    static class CookieSessionConfig {
+
+        @Bean
+        public SessionManager sessionManager(@Value("${cafe.session.secret:}") String secret,
+            @Value("${cafe.session.cookie-name:CAFE_SESSION}") String cookieName,
+            @Value("${cafe.session.max-age-seconds:1800}") long maxAgeSeconds,
+            @Value("${cafe.session.cookie-secure:false}") boolean secure) {
+            // 모든 노드가 같은 키를 사용해야 하므로 기본값 없이 설정을 요구
+            if (secret.isBlank()) {
+                throw new IllegalStateException("cafe.session.secret 설정이 필요합니다");
+            }
+            SessionTokenCodec codec = new SessionTokenCodec(
+                secret.getBytes(StandardCharsets.UTF_8), Clock.systemUTC(),
+                Duration.ofSeconds(maxAgeSeconds));
+
+            return new SignedCookieSessionManager(codec, cookieName, secure);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.kakao.cafe.config;
+
+import com.kakao.cafe.asset.AssetUrlRewriter;
+import com.kakao.cafe.template.PrecompiledMustacheViewResolver;
+import com.kakao.cafe.template.TemplateCompiler;
+import com.samskivert.mustache.Mustache;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mustache.MustacheProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternUtils;
+import org.springframework.util.StreamUtils;
+
+@Configuration
+public class TemplateConfig {
+
+    @Bean
+    public AssetUrlRewriter assetUrlRewriter(ResourceLoader resourceLoader) {
+        return new AssetUrlRewriter(resourceLoader, MvcConfig.STATIC_LOCATION);
+    }
+
+    // Spring Boot 의 기본 TemplateLoader 대신 사용, partial(header, reference) 의 정적 리소스 경로에 해시를 붙임
+    @Bean
+    public Mustache.TemplateLoader mustacheTemplateLoader(MustacheProperties properties,
+        ResourceLoader resourceLoader, AssetUrlRewriter assetUrlRewriter) {
+        String prefix = properties.getPrefix();
+        String suffix = properties.getSuffix();
+        Charset charset = properties.getCharset();
+
+        return name -> new StringReader(
+            assetUrlRewriter.rewrite(load(resourceLoader, prefix + name + suffix, charset)));
+    }
+
+    // 템플릿을 시작할 때 한 번만 컴파일, 값 조회와 escape 는 Spring Boot 의 Mustache 컴파일러 설정을 따름
+    @Bean
+    @ConditionalOnProperty(name = "cafe.template.mode", havingValue = "precompiled")
+    public PrecompiledMustacheViewResolver precompiledMustacheViewResolver(
+        Mustache.Compiler mustacheCompiler, MustacheProperties properties,
+        ResourceLoader resourceLoader, AssetUrlRewriter assetUrlRewriter) {
+        ResourcePatternResolver resourceResolver =
+            ResourcePatternUtils.getResourcePatternResolver(resourceLoader);
+        String prefix = properties.getPrefix();
+        String suffix = properties.getSuffix();
+        Charset charset = properties.getCharset();
+
+        TemplateCompiler compiler = new TemplateCompiler(mustacheCompiler,
+            name -> assetUrlRewriter.rewrite(
+                load(resourceResolver, prefix + name + suffix, charset)), charset);
+
+        return new PrecompiledMustacheViewResolver(compiler, resourceResolver, prefix, suffix,
+            properties.getContentType().toString());
+    }
+
+    private String load(ResourceLoader resourceLoader, String location, Charset charset) {
+        // 템플릿 캐시를 끄면 요청마다 불러오므로 스트림을 닫아 파일 핸들이 남지 않게 함
+        try (InputStream inputStream = resourceLoader.getResource(location).getInputStream()) {
+            return StreamUtils.copyToString(inputStream, charset);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.kakao.cafe.config;
+
+import com.kakao.cafe.domain.Reply;
+import com.kakao.cafe.replica.ReplicaRouter;
+import com.kakao.cafe.repository.ReplyRepository;
+import com.kakao.cafe.repository.jdbc.ReplyJdbcRepository;
+import com.kakao.cafe.repository.writebehind.ReplyDeadLetter;
+import com.kakao.cafe.repository.writebehind.ReplyWriteBehindRepository;
+import com.kakao.cafe.service.ArticleChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+@ConditionalOnProperty(name = "cafe.reply.write-behind.enabled", havingValue = "true")
+public class WriteBehindConfig {
+
+    // 종료 시 close 로 큐에 남은 댓글을 저장, DataSource 보다 먼저 종료됨
+    @Bean(destroyMethod = "close")
+    public ReplyWriteBehindRepository replyWriteBehindRepository(
+        ReplyJdbcRepository replyRepository, ReplicaRouter replicaRouter,
+        @Value("${cafe.reply.write-behind.capacity}") int capacity,
+        @Value("${cafe.reply.write-behind.batch-size}") int batchSize,
+        @Value("${cafe.reply.write-behind.offer-timeout-millis}") long offerTimeoutMillis,
+        @Value("${cafe.reply.write-behind.shutdown-timeout-seconds}") long shutdownTimeoutSeconds,
+        @Value("${cafe.reply.write-behind.dead-letter-file}") String deadLetterFile,
+        MeterRegistry registry, ApplicationEventPublisher eventPublisher) {
+        ReplyWriteBehindRepository writeBehindRepository = new ReplyWriteBehindRepository(
+            replyRepository, capacity, batchSize, Duration.ofMillis(offerTimeoutMillis),
+            Duration.ofSeconds(shutdownTimeoutSeconds),
+            new ReplyDeadLetter(Path.of(deadLetterFile), registry), replicaRouter);
+
+        // reply_count 는 writer 가 저장할 때 바뀌므로 저장 후 질문 캐시와 화면 캐시를 다시 제거
+        writeBehindRepository.addFlushListener(replies -> replies.stream()
+            .map(Reply::getArticleId)
+            .distinct()
+            .forEach(articleId -> eventPublisher.publishEvent(
+                new ArticleChangedEvent(articleId))));
+
+        return writeBehindRepository;
+    }
+
+    // 캐시를 사용하면 CacheConfig 가 쓰기 지연 저장소를 감싸 @Primary 로 등록
+    @Bean(destroyMethod = "")
+    @Primary
+    @ConditionalOnProperty(name = "cafe.cache.enabled", havingValue = "false", matchIfMissing = true)
+    public ReplyRepository primaryReplyRepository(
+        ReplyWriteBehindRepository replyWriteBehindRepository) {
+        return replyWriteBehindRepository;
+    }
+}
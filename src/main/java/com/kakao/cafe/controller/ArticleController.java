@@ -1,11 +1,16 @@
 package com.kakao.cafe.controller;
 
+import com.kakao.cafe.domain.ResourceVersion;
+import com.kakao.cafe.dto.ArticlePageResponse;
 import com.kakao.cafe.dto.ArticleResponse;
 import com.kakao.cafe.dto.ArticleSaveRequest;
 import com.kakao.cafe.service.ArticleService;
 import com.kakao.cafe.session.SessionUser;
-import java.util.List;
-import javax.servlet.http.HttpSession;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import javax.servlet.http.HttpServletRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,6 +18,8 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @Controller
 public class ArticleController {
@@ -25,15 +32,28 @@ public class ArticleController {
 
     // article
     @GetMapping("/")
-    public String listArticles(Model model) {
-        List<ArticleResponse> articles = articleService.findArticles();
-        model.addAttribute("articles", articles);
+    public String listArticles(@RequestParam(required = false)
+        @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime createdDate,
+        @RequestParam(required = false) Integer articleId, Model model) {
+        ArticlePageResponse page = articleService.findArticlePage(createdDate, articleId);
+        model.addAttribute("articles", page.getArticles());
+        model.addAttribute("page", page);
         return "qna/list";
     }
 
     @GetMapping("articles/{id}")
-    public String showArticle(@PathVariable(value = "id") Integer articleId, Model model) {
-        ArticleResponse article = articleService.findArticle(articleId);
+    public String showArticle(@PathVariable(value = "id") Integer articleId, Model model,
+        ServletWebRequest webRequest) {
+        // 질문과 댓글을 조회하기 전에 버전만으로 변경 여부를 확인
+        Optional<ResourceVersion> version = articleService.findArticleVersion(articleId);
+        if (version.isPresent() && ConditionalRequests.checkNotModified(webRequest,
+            "article-" + articleId, version.get())) {
+            return null;
+        }
+
+        ArticleResponse article = version.isPresent()
+            ? articleService.findArticle(articleId, version.get())
+            : articleService.findArticle(articleId);
         model.addAttribute("article", article);
         return "qna/show";
     }
@@ -44,16 +64,16 @@ public class ArticleController {
     }
 
     @PostMapping("/articles")
-    public String createArticle(ArticleSaveRequest request, HttpSession session) {
-        SessionUser user = SessionUser.from(session);
+    public String createArticle(ArticleSaveRequest request, HttpServletRequest httpRequest) {
+        SessionUser user = SessionUser.from(httpRequest);
         articleService.write(user, request);
         return "redirect:/";
     }
 
     @GetMapping("articles/{id}/form")
     public String formUpdateArticle(@PathVariable(value = "id") Integer articleId, Model model,
-        HttpSession session) {
-        SessionUser user = SessionUser.from(session);
+        HttpServletRequest httpRequest) {
+        SessionUser user = SessionUser.from(httpRequest);
         ArticleResponse article = articleService.mapUserArticle(user, articleId);
         model.addAttribute("article", article);
         return "qna/form";
@@ -61,16 +81,16 @@ public class ArticleController {
 
     @PutMapping("articles/{id}")
     public String updateArticle(@PathVariable(value = "id") Integer articleId,
-        ArticleSaveRequest request, HttpSession session) {
-        SessionUser user = SessionUser.from(session);
+        ArticleSaveRequest request, HttpServletRequest httpRequest) {
+        SessionUser user = SessionUser.from(httpRequest);
         articleService.updateArticle(user, request, articleId);
         return "redirect:/";
     }
 
     @DeleteMapping("articles/{id}")
     public String deleteArticle(@PathVariable(value = "id") Integer articleId,
-        HttpSession session) {
-        SessionUser user = SessionUser.from(session);
+        HttpServletRequest httpRequest) {
+        SessionUser user = SessionUser.from(httpRequest);
         articleService.deleteArticle(user, articleId);
         return "redirect:/";
     }
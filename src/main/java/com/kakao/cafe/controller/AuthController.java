@@ -2,8 +2,10 @@ package com.kakao.cafe.controller;
 
 import com.kakao.cafe.dto.UserLoginRequest;
 import com.kakao.cafe.service.UserService;
+import com.kakao.cafe.session.SessionManager;
 import com.kakao.cafe.session.SessionUser;
-import javax.servlet.http.HttpSession;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -12,9 +14,11 @@ import org.springframework.web.bind.annotation.PostMapping;
 public class AuthController {
 
     private final UserService userService;
+    private final SessionManager sessionManager;
 
-    public AuthController(UserService userService) {
+    public AuthController(UserService userService, SessionManager sessionManager) {
         this.userService = userService;
+        this.sessionManager = sessionManager;
     }
 
     @GetMapping("/login/form")
@@ -23,15 +27,16 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public String login(UserLoginRequest request, HttpSession session) {
+    public String login(UserLoginRequest request, HttpServletRequest httpRequest,
+        HttpServletResponse httpResponse) {
         SessionUser user = userService.login(request);
-        session.setAttribute(SessionUser.SESSION_KEY, user);
+        sessionManager.login(httpRequest, httpResponse, user);
         return "redirect:/users";
     }
 
     @GetMapping("/logout")
-    public String logout(HttpSession session) {
-        session.removeAttribute(SessionUser.SESSION_KEY);
+    public String logout(HttpServletRequest httpRequest, HttpServletResponse httpResponse) {
+        sessionManager.logout(httpRequest, httpResponse);
         return "redirect:/users";
     }
 
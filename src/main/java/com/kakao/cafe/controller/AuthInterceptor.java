@@ -1,10 +1,9 @@
 package com.kakao.cafe.controller;
 
-import com.kakao.cafe.session.SessionUser;
+import com.kakao.cafe.session.SessionManager;
 import java.io.IOException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import javax.servlet.http.HttpSession;
 import org.springframework.stereotype.Component;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
@@ -12,6 +11,12 @@ import org.springframework.web.servlet.HandlerInterceptor;
 @Component
 public class AuthInterceptor implements HandlerInterceptor {
 
+    private final SessionManager sessionManager;
+
+    public AuthInterceptor(SessionManager sessionManager) {
+        this.sessionManager = sessionManager;
+    }
+
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
         Object handler) throws Exception {
@@ -20,13 +25,7 @@ public class AuthInterceptor implements HandlerInterceptor {
             return true;
         }
 
-        HttpSession session = request.getSession();
-        if (session == null) {
-            return redirectLoginForm(response);
-        }
-
-        SessionUser user = (SessionUser) session.getAttribute(SessionUser.SESSION_KEY);
-        if (user == null) {
+        if (sessionManager.resolve(request, response).isEmpty()) {
             return redirectLoginForm(response);
         }
         return true;
@@ -0,0 +1,52 @@
+package com.kakao.cafe.controller;
+
+import com.kakao.cafe.domain.ResourceVersion;
+import com.kakao.cafe.session.SessionUser;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+
+// 버전만으로 If-None-Match, If-Modified-Since 를 검증해 본문 조회, 렌더링 없이 304 로 응답
+final class ConditionalRequests {
+
+    // 배포로 템플릿이 바뀌면 이전 ETag 가 일치하지 않도록 애플리케이션 시작 시각을 포함
+    private static final String DEPLOYMENT = Long.toString(System.currentTimeMillis(),
+        Character.MAX_RADIX);
+    private static final String ANONYMOUS = "anonymous";
+
+    private ConditionalRequests() {
+    }
+
+    // 변경되지 않았으면 true, 이때 컨트롤러는 null 을 반환해 304 로 응답
+    static boolean checkNotModified(ServletWebRequest webRequest, String resource,
+        ResourceVersion version) {
+        SessionUser viewer = (SessionUser) webRequest.getAttribute(SessionUser.REQUEST_KEY,
+            RequestAttributes.SCOPE_REQUEST);
+
+        // 로그인 여부, 유저에 따라 navbar 가 달라지므로 공유 캐시는 쿠키별로 구분하고, 로그인 화면은 저장하지 않음
+        HttpServletResponse response = webRequest.getResponse();
+        if (response != null) {
+            CacheControl cacheControl = viewer == null
+                ? CacheControl.noCache()
+                : CacheControl.noCache().cachePrivate();
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.COOKIE);
+        }
+
+        return webRequest.checkNotModified(etag(resource, version, viewer),
+            version.getLastModified());
+    }
+
+    // 같은 버전이면 같은 화면이 렌더링되므로 strong ETag 로 사용
+    private static String etag(String resource, ResourceVersion version, SessionUser viewer) {
+        String viewerTag = viewer == null
+            ? ANONYMOUS
+            : Integer.toHexString(viewer.getUserId().hashCode());
+
+        return "\"" + resource + "-" + version.getVersion() + "-" + viewerTag + "-" + DEPLOYMENT
+            + "\"";
+    }
+
+}
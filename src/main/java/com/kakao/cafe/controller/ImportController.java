@@ -0,0 +1,77 @@
+package com.kakao.cafe.controller;
+
+import com.kakao.cafe.dto.ImportResult;
+import com.kakao.cafe.dto.Result;
+import com.kakao.cafe.exception.ErrorCode;
+import com.kakao.cafe.exception.InvalidRequestException;
+import com.kakao.cafe.importer.ImportFormat;
+import com.kakao.cafe.importer.RowReader;
+import com.kakao.cafe.service.ImportService;
+import com.kakao.cafe.session.SessionUser;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// 요청 본문을 RequestBody 로 바인딩하지 않고 reader 에서 직접 한 행씩 읽음
+// 행의 writer, userId 를 그대로 저장하므로 cafe.import.operators 에 등록된 유저만 실행
+@RestController
+@RequestMapping("/articles")
+public class ImportController {
+
+    private final ImportService importService;
+    private final Set<String> operators;
+
+    public ImportController(ImportService importService,
+        @Value("${cafe.import.operators:}") String[] operators) {
+        this.importService = importService;
+        this.operators = Arrays.stream(operators)
+            .map(String::trim)
+            .filter(operator -> !operator.isEmpty())
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @PostMapping("/import")
+    public ImportResult importArticles(HttpServletRequest request) throws IOException {
+        validateOperator(request);
+        try (RowReader reader = open(request)) {
+            return importService.importArticles(reader);
+        }
+    }
+
+    @PostMapping("/answers/import")
+    public ImportResult importAnswers(HttpServletRequest request) throws IOException {
+        validateOperator(request);
+        try (RowReader reader = open(request)) {
+            return importService.importReplies(reader);
+        }
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Result> handleInvalidRequest(InvalidRequestException e) {
+        return ResponseEntity.status(e.getErrorCode().getHttpStatus())
+            .body(Result.error(e));
+    }
+
+    @ExceptionHandler
+    public Result handleException(Exception e) {
+        return Result.error(e);
+    }
+
+    private void validateOperator(HttpServletRequest request) {
+        if (!operators.contains(SessionUser.from(request).getUserId())) {
+            throw new InvalidRequestException(ErrorCode.INVALID_IMPORT_OPERATOR);
+        }
+    }
+
+    private RowReader open(HttpServletRequest request) throws IOException {
+        return ImportFormat.from(request.getContentType()).open(request.getReader());
+    }
+}
@@ -2,9 +2,13 @@ package com.kakao.cafe.controller;
 
 import com.kakao.cafe.dto.ReplyResponse;
 import com.kakao.cafe.dto.Result;
+import com.kakao.cafe.exception.ErrorCode;
+import com.kakao.cafe.exception.InternalOperationException;
 import com.kakao.cafe.service.ReplyService;
 import com.kakao.cafe.session.SessionUser;
-import javax.servlet.http.HttpSession;
+import javax.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -25,18 +29,29 @@ public class ReplyController {
     // reply
     @PostMapping("/{questionId}/answers")
     public ReplyResponse createAnswer(@PathVariable(value = "questionId") Integer articleId,
-        String comment, HttpSession session) {
-        SessionUser user = SessionUser.from(session);
+        String comment, HttpServletRequest request) {
+        SessionUser user = SessionUser.from(request);
         return replyService.comment(user, articleId, comment);
     }
 
     @DeleteMapping(value = "/{questionId}/answers/{id}")
-    public Result deleteAnswer(@PathVariable(value = "id") Integer replyId, HttpSession session) {
-        SessionUser user = SessionUser.from(session);
+    public Result deleteAnswer(@PathVariable(value = "id") Integer replyId, HttpServletRequest request) {
+        SessionUser user = SessionUser.from(request);
         replyService.deleteReply(user, replyId);
         return Result.ok();
     }
 
+    // 쓰기 지연 큐가 가득 차면 클라이언트가 잠시 후 재시도하도록 503 으로 응답
+    @ExceptionHandler
+    public ResponseEntity<Result> handleInternalOperation(InternalOperationException e) {
+        if (e.getErrorCode() != ErrorCode.REPLY_QUEUE_FULL) {
+            return ResponseEntity.ok(Result.error(e));
+        }
+        return ResponseEntity.status(e.getErrorCode().getHttpStatus())
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(Result.error(e));
+    }
+
     @ExceptionHandler
     public Result handleException(Exception e) {
         return Result.error(e);
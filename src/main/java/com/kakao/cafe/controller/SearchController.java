@@ -0,0 +1,34 @@
+package com.kakao.cafe.controller;
+
+import com.kakao.cafe.dto.SearchResponse;
+import com.kakao.cafe.service.SearchService;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+@Controller
+public class SearchController {
+
+    private final SearchService searchService;
+
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    @GetMapping("/search")
+    public String search(@RequestParam(value = "q", required = false) String query,
+        Model model) {
+        SearchResponse search = searchService.search(query);
+        model.addAttribute("search", search);
+        model.addAttribute("articles", search.getArticles());
+        return "qna/search";
+    }
+
+    @GetMapping("/api/search")
+    @ResponseBody
+    public SearchResponse searchApi(@RequestParam(value = "q", required = false) String query) {
+        return searchService.search(query);
+    }
+}
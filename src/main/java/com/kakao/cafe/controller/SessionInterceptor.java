@@ -0,0 +1,45 @@
+package com.kakao.cafe.controller;
+
+import com.kakao.cafe.dto.NavbarResponse;
+import com.kakao.cafe.session.SessionManager;
+import com.kakao.cafe.session.SessionUser;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+// 모든 요청에서 로그인 유저를 확인해 SessionUser.from, 화면의 navbar 에서 사용할 수 있도록 연결
+// 세션을 새로 만들지 않으므로 로그인하지 않은 요청은 세션을 할당하지 않음
+public class SessionInterceptor implements HandlerInterceptor {
+
+    private static final String REDIRECT_PREFIX = "redirect:";
+
+    private final SessionManager sessionManager;
+
+    public SessionInterceptor(SessionManager sessionManager) {
+        this.sessionManager = sessionManager;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+        Object handler) {
+        sessionManager.resolve(request, response)
+            .ifPresent(user -> request.setAttribute(SessionUser.REQUEST_KEY, user));
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response,
+        Object handler, ModelAndView modelAndView) {
+        if (modelAndView == null || isRedirect(modelAndView)) {
+            return;
+        }
+        SessionUser user = (SessionUser) request.getAttribute(SessionUser.REQUEST_KEY);
+        modelAndView.addObject(NavbarResponse.MODEL_KEY, NavbarResponse.from(user));
+    }
+
+    private boolean isRedirect(ModelAndView modelAndView) {
+        String viewName = modelAndView.getViewName();
+        return viewName != null && viewName.startsWith(REDIRECT_PREFIX);
+    }
+}
@@ -1,11 +1,15 @@
 package com.kakao.cafe.controller;
 
+import com.kakao.cafe.domain.ResourceVersion;
 import com.kakao.cafe.dto.UserResponse;
 import com.kakao.cafe.dto.UserSaveRequest;
 import com.kakao.cafe.service.UserService;
+import com.kakao.cafe.session.SessionManager;
 import com.kakao.cafe.session.SessionUser;
 import java.util.List;
-import javax.servlet.http.HttpSession;
+import java.util.Optional;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,15 +17,18 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @Controller
 @RequestMapping("/users")
 public class UserController {
 
     private final UserService userService;
+    private final SessionManager sessionManager;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, SessionManager sessionManager) {
         this.userService = userService;
+        this.sessionManager = sessionManager;
     }
 
     @GetMapping
@@ -32,8 +39,18 @@ public class UserController {
     }
 
     @GetMapping("/{userId}")
-    public String showUser(@PathVariable String userId, Model model) {
-        UserResponse user = userService.findUser(userId);
+    public String showUser(@PathVariable String userId, Model model,
+        ServletWebRequest webRequest) {
+        // 유저 아이디에는 ETag 에 쓸 수 없는 문자가 있을 수 있으므로 해시값을 사용
+        Optional<ResourceVersion> version = userService.findUserVersion(userId);
+        if (version.isPresent() && ConditionalRequests.checkNotModified(webRequest,
+            "user-" + Integer.toHexString(userId.hashCode()), version.get())) {
+            return null;
+        }
+
+        UserResponse user = version.isPresent()
+            ? userService.findUser(userId, version.get())
+            : userService.findUser(userId);
         model.addAttribute("user", user);
         return "user/profile";
     }
@@ -44,15 +61,17 @@ public class UserController {
     }
 
     @PostMapping
-    public String createUser(UserSaveRequest request, HttpSession session) {
+    public String createUser(UserSaveRequest request, HttpServletRequest httpRequest,
+        HttpServletResponse httpResponse) {
         SessionUser user = userService.register(request);
-        session.setAttribute(SessionUser.SESSION_KEY, user);
+        sessionManager.login(httpRequest, httpResponse, user);
         return "redirect:/users";
     }
 
     @GetMapping("/{userId}/form")
-    public String formUpdateUser(@PathVariable String userId, Model model, HttpSession session) {
-        SessionUser user = SessionUser.from(session);
+    public String formUpdateUser(@PathVariable String userId, Model model,
+        HttpServletRequest httpRequest) {
+        SessionUser user = SessionUser.from(httpRequest);
         user.validate(userId);
 
         UserResponse findUser = userService.findUser(userId);
@@ -62,8 +81,8 @@ public class UserController {
 
     @PutMapping("/{userId}")
     public String updateUser(@PathVariable String userId, UserSaveRequest request,
-        HttpSession session) {
-        SessionUser user = SessionUser.from(session);
+        HttpServletRequest httpRequest) {
+        SessionUser user = SessionUser.from(httpRequest);
         user.validate(userId);
 
         userService.updateUser(user, request);
@@ -11,11 +11,11 @@ public class Article {
     private String contents;
     private LocalDateTime createdDate;
 
-    // derived
+    // denormalized
     private Integer replyCount;
 
     public static Article createWithInput(String writer, String title, String contents) {
-        return new Article(null, writer, title, contents, LocalDateTime.now(), null);
+        return new Article(null, writer, title, contents, LocalDateTime.now(), 0);
     }
 
     public static Article createWithoutReplyCount(Integer articleId, String writer, String title,
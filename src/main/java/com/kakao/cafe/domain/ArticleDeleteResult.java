@@ -0,0 +1,9 @@
+package com.kakao.cafe.domain;
+
+// 작성자와 댓글 조건을 함께 확인하는 질문 삭제의 결과
+public enum ArticleDeleteResult {
+    DELETED,
+    NOT_FOUND,
+    NOT_WRITER,
+    HAS_OTHER_REPLIES
+}
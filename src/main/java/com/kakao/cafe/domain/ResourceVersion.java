@@ -0,0 +1,37 @@
+package com.kakao.cafe.domain;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// 질문, 유저가 변경될 때마다 증가하는 버전과 마지막 수정 시각, 조건부 요청 검증에 사용
+public class ResourceVersion {
+
+    private final long version;
+    private final LocalDateTime updatedDate;
+
+    public ResourceVersion(long version, LocalDateTime updatedDate) {
+        this.version = version;
+        this.updatedDate = updatedDate;
+    }
+
+    public ResourceVersion next() {
+        return new ResourceVersion(version + 1, LocalDateTime.now());
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getUpdatedDate() {
+        return updatedDate;
+    }
+
+    // Last-Modified 에 사용할 epoch 밀리초, 수정 시각이 없으면 -1
+    public long getLastModified() {
+        if (updatedDate == null) {
+            return -1;
+        }
+        return updatedDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+}
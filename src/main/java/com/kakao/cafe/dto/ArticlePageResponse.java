@@ -0,0 +1,68 @@
+package com.kakao.cafe.dto;
+
+import com.kakao.cafe.domain.Article;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ArticlePageResponse {
+
+    private List<ArticleResponse> articles;
+
+    // 다음 페이지 커서
+    private Boolean hasNext;
+    private LocalDateTime nextCreatedDate;
+    private Integer nextArticleId;
+
+    public ArticlePageResponse(List<ArticleResponse> articles, Boolean hasNext,
+        LocalDateTime nextCreatedDate, Integer nextArticleId) {
+        this.articles = articles;
+        this.hasNext = hasNext;
+        this.nextCreatedDate = nextCreatedDate;
+        this.nextArticleId = nextArticleId;
+    }
+
+    // size + 1 개까지 조회한 결과로부터 size 개의 페이지와 다음 페이지 커서를 구성
+    public static ArticlePageResponse of(List<Article> articles, int size) {
+        boolean hasNext = articles.size() > size;
+
+        List<ArticleResponse> responses = articles.stream()
+            .limit(size)
+            .map(ArticleResponse::from)
+            .collect(Collectors.toList());
+
+        if (!hasNext) {
+            return new ArticlePageResponse(responses, false, null, null);
+        }
+
+        Article last = articles.get(size - 1);
+        return new ArticlePageResponse(responses, true, last.getCreatedDate(),
+            last.getArticleId());
+    }
+
+    public List<ArticleResponse> getArticles() {
+        return articles;
+    }
+
+    public Boolean getHasNext() {
+        return hasNext;
+    }
+
+    public LocalDateTime getNextCreatedDate() {
+        return nextCreatedDate;
+    }
+
+    public Integer getNextArticleId() {
+        return nextArticleId;
+    }
+
+    @Override
+    public String toString() {
+        return "ArticlePageResponse{" +
+            "articles=" + articles +
+            ", hasNext=" + hasNext +
+            ", nextCreatedDate=" + nextCreatedDate +
+            ", nextArticleId=" + nextArticleId +
+            '}';
+    }
+}
@@ -79,6 +79,14 @@ public class ArticleResponse {
         return contents;
     }
 
+    public LocalDateTime getCreatedDate() {
+        return createdDate;
+    }
+
+    public List<ReplyResponse> getReplies() {
+        return replies;
+    }
+
     public Integer getReplyCount() {
         return replyCount;
     }
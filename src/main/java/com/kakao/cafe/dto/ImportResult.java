@@ -0,0 +1,67 @@
+package com.kakao.cafe.dto;
+
+import java.util.List;
+
+public class ImportResult {
+
+    private final long total;
+    private final long imported;
+    private final long rejected;
+    private final long elapsedMillis;
+    private final long rowsPerSecond;
+    private final List<Rejection> rejections;
+
+    public ImportResult(long total, long imported, long rejected, long elapsedMillis,
+        List<Rejection> rejections) {
+        this.total = total;
+        this.imported = imported;
+        this.rejected = rejected;
+        this.elapsedMillis = elapsedMillis;
+        this.rowsPerSecond = elapsedMillis == 0 ? total : total * 1000 / elapsedMillis;
+        this.rejections = List.copyOf(rejections);
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public long getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    // 거부된 행 중 앞쪽 일부만 포함, 전체 개수는 rejected
+    public List<Rejection> getRejections() {
+        return rejections;
+    }
+
+    public static class Rejection {
+
+        private final long line;
+        private final String reason;
+
+        public Rejection(long line, String reason) {
+            this.line = line;
+            this.reason = reason;
+        }
+
+        public long getLine() {
+            return line;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+    }
+}
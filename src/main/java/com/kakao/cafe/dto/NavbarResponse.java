@@ -0,0 +1,39 @@
+package com.kakao.cafe.dto;
+
+import com.kakao.cafe.session.SessionUser;
+
+public class NavbarResponse {
+
+    public static final String MODEL_KEY = "navbar";
+
+    private static final NavbarResponse ANONYMOUS = new NavbarResponse(false, null, null);
+
+    private final boolean loggedIn;
+    private final String userId;
+    private final String name;
+
+    private NavbarResponse(boolean loggedIn, String userId, String name) {
+        this.loggedIn = loggedIn;
+        this.userId = userId;
+        this.name = name;
+    }
+
+    public static NavbarResponse from(SessionUser user) {
+        if (user == null) {
+            return ANONYMOUS;
+        }
+        return new NavbarResponse(true, user.getUserId(), user.getName());
+    }
+
+    public boolean isLoggedIn() {
+        return loggedIn;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,45 @@
+package com.kakao.cafe.dto;
+
+import com.kakao.cafe.search.SearchHit;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class SearchResponse {
+
+    private String query;
+
+    // 점수가 높은 순
+    private List<ArticleResponse> articles;
+
+    public SearchResponse(String query, List<ArticleResponse> articles) {
+        this.query = query;
+        this.articles = articles;
+    }
+
+    public static SearchResponse of(String query, List<SearchHit> hits) {
+        List<ArticleResponse> articles = hits.stream()
+            .map(hit -> ArticleResponse.from(hit.getArticle()))
+            .collect(Collectors.toList());
+        return new SearchResponse(query, articles);
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public List<ArticleResponse> getArticles() {
+        return articles;
+    }
+
+    public Integer getCount() {
+        return articles.size();
+    }
+
+    @Override
+    public String toString() {
+        return "SearchResponse{" +
+            "query='" + query + '\'' +
+            ", articles=" + articles +
+            '}';
+    }
+}
@@ -9,7 +9,7 @@ class CommonException extends RuntimeException {
         this.errorCode = errorCode;
     }
 
-    protected ErrorCode getErrorCode() {
+    public ErrorCode getErrorCode() {
         return errorCode;
     }
 }
@@ -14,7 +14,10 @@ public enum ErrorCode {
     INVALID_ARTICLE_WRITER(HttpStatus.FORBIDDEN, "다른 유저의 글을 수정하거나 삭제할 수 없습니다."),
     REPLY_NOT_FOUND(HttpStatus.NOT_FOUND, "등록되지 않은 댓글입니다."),
     INVALID_REPLY_WRITER(HttpStatus.FORBIDDEN, "다른 유저의 댓글을 수정하거나 삭제할 수 없습니다."),
-    INVALID_ARTICLE_DELETE(HttpStatus.FORBIDDEN, "다른 유저의 댓글이 등록된 질문은 삭제할 수 없습니다.");
+    INVALID_ARTICLE_DELETE(HttpStatus.FORBIDDEN, "다른 유저의 댓글이 등록된 질문은 삭제할 수 없습니다."),
+    INVALID_IMPORT_FORMAT(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "text/csv 또는 application/x-ndjson 형식만 가져올 수 있습니다."),
+    INVALID_IMPORT_OPERATOR(HttpStatus.FORBIDDEN, "가져오기 권한이 없는 유저입니다."),
+    REPLY_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "댓글 요청이 많아 저장하지 못했습니다. 잠시 후 다시 시도해 주세요.");
 
     private final HttpStatus httpStatus;
     private final String message;
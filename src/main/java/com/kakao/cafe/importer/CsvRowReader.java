@@ -0,0 +1,154 @@
+package com.kakao.cafe.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// RFC 4180 CSV, 첫 레코드를 헤더로 사용하고 따옴표 안의 쉼표, 줄바꿈을 허용
+public class CsvRowReader implements RowReader {
+
+    static final int MAX_RECORD_LENGTH = 64 * 1024;
+
+    private static final int EOF = -1;
+    private static final char QUOTE = '"';
+    private static final char SEPARATOR = ',';
+    private static final String RECORD_TOO_LONG = "레코드 길이가 최대 길이를 초과했습니다.";
+
+    private final BufferedReader reader;
+    private List<String> header;
+
+    // 지금까지 읽은 줄 수, 레코드 안의 줄바꿈도 포함
+    private long lineCount;
+    private String recordError;
+
+    public CsvRowReader(Reader reader) {
+        this.reader = new BufferedReader(reader);
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        if (header == null && !readHeader()) {
+            return null;
+        }
+
+        while (true) {
+            long lineNumber = lineCount + 1;
+            List<String> fields = readRecord();
+
+            if (fields == null) {
+                return null;
+            }
+            if (recordError != null) {
+                return ImportRow.rejected(lineNumber, recordError);
+            }
+            // 빈 줄은 건너뜀
+            if (fields.size() == 1 && fields.get(0).isEmpty()) {
+                continue;
+            }
+            if (fields.size() != header.size()) {
+                return ImportRow.rejected(lineNumber, "컬럼 수가 헤더와 일치하지 않습니다.");
+            }
+
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                values.put(header.get(i), fields.get(i));
+            }
+            return ImportRow.of(lineNumber, values);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private boolean readHeader() throws IOException {
+        List<String> fields = readRecord();
+
+        if (fields == null || recordError != null) {
+            return false;
+        }
+
+        header = new ArrayList<>();
+        for (String field : fields) {
+            // UTF-8 BOM 제거
+            header.add(field.replace("\uFEFF", "").trim());
+        }
+        return true;
+    }
+
+    // 레코드 하나를 읽어 필드 목록을 반환, 입력이 끝났으면 null
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == EOF) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int length = 0;
+        recordError = null;
+
+        while (c != EOF) {
+            if (quoted) {
+                if (c == QUOTE) {
+                    int next = reader.read();
+                    if (next != QUOTE) {
+                        // 닫는 따옴표, 다음 문자는 따옴표 밖에서 다시 처리
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                }
+                if (c == '\n') {
+                    lineCount++;
+                }
+                length = append(field, c, length);
+
+            } else if (c == QUOTE && field.length() == 0) {
+                quoted = true;
+
+            } else if (c == SEPARATOR) {
+                // 구분자도 길이에 포함해 필드 수가 끝없이 늘지 않도록 함
+                if (length >= MAX_RECORD_LENGTH) {
+                    recordError = RECORD_TOO_LONG;
+                } else {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    length++;
+                }
+
+            } else if (c == '\n') {
+                lineCount++;
+                fields.add(field.toString());
+                return fields;
+
+            } else if (c != '\r') {
+                length = append(field, c, length);
+            }
+            c = reader.read();
+        }
+
+        if (quoted && recordError == null) {
+            recordError = "따옴표가 닫히지 않았습니다.";
+        }
+        lineCount++;
+        fields.add(field.toString());
+        return fields;
+    }
+
+    // 레코드가 너무 길면 더 저장하지 않고 레코드 끝까지 읽기만 함
+    private int append(StringBuilder field, int c, int length) {
+        if (length >= MAX_RECORD_LENGTH) {
+            recordError = RECORD_TOO_LONG;
+            return length;
+        }
+        field.append((char) c);
+        return length + 1;
+    }
+}
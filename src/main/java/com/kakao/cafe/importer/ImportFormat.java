@@ -0,0 +1,45 @@
+package com.kakao.cafe.importer;
+
+import com.kakao.cafe.exception.ErrorCode;
+import com.kakao.cafe.exception.InvalidRequestException;
+import java.io.Reader;
+import java.util.function.Function;
+import org.springframework.http.MediaType;
+import org.springframework.util.InvalidMimeTypeException;
+
+public enum ImportFormat {
+
+    CSV(MediaType.valueOf("text/csv"), CsvRowReader::new),
+    NDJSON(MediaType.valueOf("application/x-ndjson"), NdjsonRowReader::new);
+
+    private final MediaType mediaType;
+    private final Function<Reader, RowReader> readerFactory;
+
+    ImportFormat(MediaType mediaType, Function<Reader, RowReader> readerFactory) {
+        this.mediaType = mediaType;
+        this.readerFactory = readerFactory;
+    }
+
+    public static ImportFormat from(String contentType) {
+        if (contentType == null) {
+            throw new InvalidRequestException(ErrorCode.INVALID_IMPORT_FORMAT);
+        }
+
+        try {
+            MediaType requestType = MediaType.parseMediaType(contentType);
+
+            for (ImportFormat format : values()) {
+                if (format.mediaType.includes(requestType)) {
+                    return format;
+                }
+            }
+        } catch (InvalidMimeTypeException e) {
+            throw new InvalidRequestException(ErrorCode.INVALID_IMPORT_FORMAT);
+        }
+        throw new InvalidRequestException(ErrorCode.INVALID_IMPORT_FORMAT);
+    }
+
+    public RowReader open(Reader reader) {
+        return readerFactory.apply(reader);
+    }
+}
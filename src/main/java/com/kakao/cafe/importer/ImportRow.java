@@ -0,0 +1,41 @@
+package com.kakao.cafe.importer;
+
+import java.util.Map;
+
+public class ImportRow {
+
+    private final long lineNumber;
+    private final Map<String, String> values;
+    private final String error;
+
+    private ImportRow(long lineNumber, Map<String, String> values, String error) {
+        this.lineNumber = lineNumber;
+        this.values = values;
+        this.error = error;
+    }
+
+    public static ImportRow of(long lineNumber, Map<String, String> values) {
+        return new ImportRow(lineNumber, values, null);
+    }
+
+    // 파싱 단계에서 거부된 행
+    public static ImportRow rejected(long lineNumber, String error) {
+        return new ImportRow(lineNumber, Map.of(), error);
+    }
+
+    public boolean isRejected() {
+        return error != null;
+    }
+
+    public String get(String column) {
+        return values.get(column);
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
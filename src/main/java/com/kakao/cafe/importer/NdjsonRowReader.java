@@ -0,0 +1,90 @@
+package com.kakao.cafe.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+
+// 한 줄에 JSON 객체 하나씩, 줄 단위로 파싱해 잘못된 줄만 거부
+public class NdjsonRowReader implements RowReader {
+
+    static final int MAX_LINE_LENGTH = 64 * 1024;
+
+    private static final int EOF = -1;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final BufferedReader reader;
+    private final StringBuilder line = new StringBuilder();
+    private long lineCount;
+    private boolean overflow;
+
+    public NdjsonRowReader(Reader reader) {
+        this.reader = new BufferedReader(reader);
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        while (readLine()) {
+            long lineNumber = lineCount;
+
+            if (overflow) {
+                return ImportRow.rejected(lineNumber, "레코드 길이가 최대 길이를 초과했습니다.");
+            }
+            if (line.toString().isBlank()) {
+                continue;
+            }
+
+            try {
+                JsonNode node = OBJECT_MAPPER.readTree(line.toString());
+                if (!node.isObject()) {
+                    return ImportRow.rejected(lineNumber, "JSON 객체가 아닙니다.");
+                }
+
+                Map<String, String> values = new HashMap<>();
+                node.fields().forEachRemaining(field -> values.put(field.getKey(),
+                    field.getValue().isNull() ? null : field.getValue().asText()));
+                return ImportRow.of(lineNumber, values);
+
+            } catch (JsonProcessingException e) {
+                return ImportRow.rejected(lineNumber, "JSON 형식이 올바르지 않습니다.");
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // 한 줄을 line 에 읽음, 최대 길이를 넘는 부분은 버림
+    private boolean readLine() throws IOException {
+        line.setLength(0);
+        overflow = false;
+
+        int c = reader.read();
+        if (c == EOF) {
+            return false;
+        }
+
+        while (c != EOF && c != '\n') {
+            if (line.length() < MAX_LINE_LENGTH) {
+                line.append((char) c);
+            } else {
+                overflow = true;
+            }
+            c = reader.read();
+        }
+        lineCount++;
+
+        int last = line.length() - 1;
+        if (last >= 0 && line.charAt(last) == '\r') {
+            line.setLength(last);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,11 @@
+package com.kakao.cafe.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+// 요청 본문을 한 행씩 읽어 메모리 사용량이 파일 크기와 무관하도록 함
+public interface RowReader extends Closeable {
+
+    // 더 읽을 행이 없으면 null
+    ImportRow next() throws IOException;
+}
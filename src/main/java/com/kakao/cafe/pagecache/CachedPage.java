@@ -0,0 +1,21 @@
+package com.kakao.cafe.pagecache;
+
+// 렌더링을 마친 응답, 인코딩된 바이트를 그대로 응답에 기록
+public class CachedPage {
+
+    private final String contentType;
+    private final byte[] body;
+
+    public CachedPage(String contentType, byte[] body) {
+        this.contentType = contentType;
+        this.body = body;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+}
@@ -0,0 +1,143 @@
+package com.kakao.cafe.pagecache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kakao.cafe.service.ArticleChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.context.event.EventListener;
+
+// 로그인하지 않은 요청의 렌더링 결과를 요청 경로별로 저장
+// 같은 key 의 캐시가 없으면 한 요청만 렌더링하고 나머지는 그 결과를 기다림
+public class PageCache {
+
+    private static final String LIST_KEY = "/";
+    private static final String LIST_QUERY_PREFIX = "/?";
+    private static final String ARTICLE_KEY_PREFIX = "/articles/";
+
+    private final ConcurrentMap<String, CompletableFuture<CachedPage>> pages;
+    private final Duration waitTimeout;
+
+    // 무효화마다 증가, 렌더링 중에 무효화된 결과는 저장하지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter coalesced;
+    private final Counter misses;
+
+    public PageCache(long maximumSize, Duration expireAfterWrite, Duration waitTimeout,
+        MeterRegistry registry) {
+        AsyncCache<String, CachedPage> cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .buildAsync();
+        this.pages = cache.asMap();
+        this.waitTimeout = waitTimeout;
+
+        this.hits = requests(registry, "hit");
+        this.coalesced = requests(registry, "coalesced");
+        this.misses = requests(registry, "miss");
+
+        Gauge.builder("cafe.page.cache.hit.ratio", this, PageCache::hitRatio)
+            .description("ratio of anonymous page requests served without rendering")
+            .register(registry);
+        Gauge.builder("cafe.page.cache.size", pages, ConcurrentMap::size)
+            .register(registry);
+    }
+
+    private static Counter requests(MeterRegistry registry, String result) {
+        return Counter.builder("cafe.page.cache.requests")
+            .description("anonymous page requests by cache result")
+            .tag("result", result)
+            .register(registry);
+    }
+
+    // 캐시된 페이지나 렌더링 중인 다른 요청의 결과가 있으면 반환
+    // 없으면 renderer 가 응답을 직접 렌더링하고, 캐시할 수 있는 결과를 저장한 뒤 null 반환
+    public CachedPage getOrRender(String key, PageRenderer renderer) throws Exception {
+        CompletableFuture<CachedPage> rendering = new CompletableFuture<>();
+        CompletableFuture<CachedPage> existing = pages.putIfAbsent(key, rendering);
+
+        if (existing != null) {
+            boolean rendered = existing.isDone();
+            CachedPage page = await(existing);
+            if (page != null) {
+                (rendered ? hits : coalesced).increment();
+                return page;
+            }
+            // 캐시할 수 없는 응답이면 각자 렌더링
+            misses.increment();
+            renderer.render();
+            return null;
+        }
+
+        misses.increment();
+        long startGeneration = generation.get();
+        try {
+            CachedPage page = renderer.render();
+            if (page == null || generation.get() != startGeneration) {
+                pages.remove(key, rendering);
+            }
+            rendering.complete(page);
+            return null;
+
+        } catch (Exception | Error e) {
+            pages.remove(key, rendering);
+            rendering.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public void invalidateArticle(Integer articleId) {
+        generation.incrementAndGet();
+        pages.remove(ARTICLE_KEY_PREFIX + articleId);
+        // 목록에는 제목, 댓글 수가 보이므로 모든 페이지를 제거
+        pages.keySet().removeIf(key -> key.equals(LIST_KEY) || key.startsWith(LIST_QUERY_PREFIX));
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        pages.clear();
+    }
+
+    @EventListener
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.isAll()) {
+            invalidateAll();
+            return;
+        }
+        invalidateArticle(event.getArticleId());
+    }
+
+    private CachedPage await(CompletableFuture<CachedPage> future) {
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+
+    private double hitRatio() {
+        double served = hits.count() + coalesced.count();
+        double total = served + misses.count();
+        return total == 0 ? 0 : served / total;
+    }
+
+    @FunctionalInterface
+    public interface PageRenderer {
+
+        // 응답을 렌더링하고, 캐시할 수 없는 응답이면 null 반환
+        CachedPage render() throws Exception;
+    }
+}
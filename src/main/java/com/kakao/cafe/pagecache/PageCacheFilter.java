@@ -0,0 +1,107 @@
+package com.kakao.cafe.pagecache;
+
+import com.kakao.cafe.session.SessionManager;
+import java.io.IOException;
+import java.util.List;
+import java.util.regex.Pattern;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+// 로그인하지 않은 유저의 질문 목록(/), 질문 상세(/articles/{id}) 요청을 PageCache 로 처리
+// 질문 상세는 로그인한 유저만 볼 수 있으므로 로그인 페이지로 이동하는 응답은 저장하지 않음
+public class PageCacheFilter extends OncePerRequestFilter {
+
+    public static final String CACHE_HEADER = "X-Page-Cache";
+
+    private static final Pattern CACHEABLE_PATH = Pattern.compile("/|/articles/\\d+");
+    private static final List<String> KEY_PARAMETERS = List.of("createdDate", "articleId");
+
+    private final PageCache pageCache;
+    private final SessionManager sessionManager;
+
+    public PageCacheFilter(PageCache pageCache, SessionManager sessionManager) {
+        this.pageCache = pageCache;
+        this.sessionManager = sessionManager;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+            || !CACHEABLE_PATH.matcher(request.getRequestURI()).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+        FilterChain filterChain) throws ServletException, IOException {
+        if (sessionManager.resolve(request, response).isPresent()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        CachedPage page;
+        try {
+            page = pageCache.getOrRender(key(request),
+                () -> render(request, response, filterChain));
+        } catch (IOException | ServletException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServletException(e);
+        }
+
+        if (page != null) {
+            write(response, page);
+        }
+    }
+
+    // 페이지가 사용하는 파라미터만 정해진 순서로 키에 넣음
+    // 임의의 파라미터를 붙인 요청이 새 항목을 만들어 캐시를 밀어내지 못하게 함
+    private String key(HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(request.getRequestURI());
+        char separator = '?';
+        for (String name : KEY_PARAMETERS) {
+            String value = request.getParameter(name);
+            if (value != null) {
+                key.append(separator).append(name).append('=').append(value);
+                separator = '&';
+            }
+        }
+        return key.toString();
+    }
+
+    private CachedPage render(HttpServletRequest request, HttpServletResponse response,
+        FilterChain filterChain) throws IOException, ServletException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+
+        CachedPage page = isCacheable(wrapper)
+            ? new CachedPage(wrapper.getContentType(), wrapper.getContentAsByteArray())
+            : null;
+        wrapper.copyBodyToResponse();
+        return page;
+    }
+
+    // 다른 유저에게 그대로 보낼 수 있는 응답만 저장
+    private boolean isCacheable(ContentCachingResponseWrapper wrapper) {
+        String contentType = wrapper.getContentType();
+        return wrapper.getStatus() == HttpServletResponse.SC_OK
+            && !wrapper.isCommitted()
+            && contentType != null
+            && MediaType.TEXT_HTML.isCompatibleWith(MediaType.parseMediaType(contentType))
+            && wrapper.getHeader(HttpHeaders.SET_COOKIE) == null;
+    }
+
+    private void write(HttpServletResponse response, CachedPage page) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(page.getContentType());
+        response.setContentLength(page.getBody().length);
+        response.setHeader(CACHE_HEADER, "HIT");
+        response.getOutputStream().write(page.getBody());
+    }
+}
@@ -0,0 +1,47 @@
+package com.kakao.cafe.replica;
+
+import java.util.function.LongConsumer;
+
+// 요청 스레드의 read-your-writes 상태, ReadYourWritesFilter 가 요청마다 연결하고 해제
+// primaryUntil(epoch millis) 전에는 방금 쓴 데이터가 replica 에 아직 없을 수 있으므로 primary 에서 읽음
+// 요청 밖(쓰기 지연 스레드, 시작할 때 실행하는 작업)에서는 상태가 없으므로 항상 replica 에서 읽음
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<ReadYourWrites> CURRENT = new ThreadLocal<>();
+
+    private final LongConsumer onPin;
+    private long primaryUntil;
+    private boolean pinnedInRequest;
+
+    private ReadYourWrites(long primaryUntil, LongConsumer onPin) {
+        this.primaryUntil = primaryUntil;
+        this.onPin = onPin;
+    }
+
+    // onPin 은 요청에서 처음 쓸 때 한 번만 호출, 다음 요청에 primaryUntil 을 전달할 때 사용
+    public static void open(long primaryUntil, LongConsumer onPin) {
+        CURRENT.set(new ReadYourWrites(primaryUntil, onPin));
+    }
+
+    public static void close() {
+        CURRENT.remove();
+    }
+
+    public static boolean pinned(long now) {
+        ReadYourWrites current = CURRENT.get();
+        return current != null && now < current.primaryUntil;
+    }
+
+    public static void pin(long until) {
+        ReadYourWrites current = CURRENT.get();
+        if (current == null || until <= current.primaryUntil) {
+            return;
+        }
+        current.primaryUntil = until;
+
+        if (!current.pinnedInRequest) {
+            current.pinnedInRequest = true;
+            current.onPin.accept(until);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.kakao.cafe.replica;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+// 쓰기가 있었던 요청의 응답에 primary 에서 읽을 시각을 쿠키로 남기고, 다음 요청에서 ReadYourWrites 로 연결
+// 세션 저장소(HttpSession, 서명된 쿠키)와 관계없이 여러 노드에서 같은 브라우저의 쓰기를 따라감
+// 쿠키 값을 바꿔도 window 보다 길게 primary 로 고정할 수 없고, 최악의 경우 그 유저의 조회만 primary 로 감
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final String cookieName;
+    private final Duration window;
+    private final Clock clock;
+
+    public ReadYourWritesFilter(String cookieName, Duration window, Clock clock) {
+        this.cookieName = cookieName;
+        this.window = window;
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+        FilterChain filterChain) throws ServletException, IOException {
+        long now = clock.millis();
+        long primaryUntil = Math.min(primaryUntil(request), now + window.toMillis());
+
+        // 쓰기는 컨트롤러가 응답을 쓰기 전에 실행되므로 이 시점에는 아직 헤더를 추가할 수 있음
+        ReadYourWrites.open(primaryUntil, until -> response.addCookie(cookie(until)));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.close();
+        }
+    }
+
+    private long primaryUntil(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, cookieName);
+        if (cookie == null) {
+            return 0;
+        }
+
+        try {
+            return Long.parseLong(cookie.getValue());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private Cookie cookie(long until) {
+        Cookie cookie = new Cookie(cookieName, String.valueOf(until));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+        return cookie;
+    }
+}
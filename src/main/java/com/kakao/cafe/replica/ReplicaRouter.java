@@ -0,0 +1,143 @@
+package com.kakao.cafe.replica;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// replica 에서 읽어도 되는 조회를 healthy 한 replica 에 round robin 으로 보냄
+// 트랜잭션 안의 조회, 쓰기 직후 read-your-writes 구간의 조회, healthy 한 replica 가 없으면 primary
+// health check 는 replica 마다 lagQuery 로 복제 지연(초)을 조회해 maxLagSeconds 를 넘거나 실패하면 제외
+public class ReplicaRouter implements MeterBinder, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRouter.class);
+
+    private final List<Replica> replicas;
+    private final long windowMillis;
+    private final long maxLagSeconds;
+    private final String lagQuery;
+    private final Clock clock;
+
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService healthChecker;
+
+    // healthCheckInterval 이 0 이면 health check 를 예약하지 않음, 테스트에서 checkHealth 를 직접 호출
+    public ReplicaRouter(List<Replica> replicas, Duration window, long maxLagSeconds,
+        String lagQuery, Duration healthCheckInterval, Clock clock) {
+        this.replicas = List.copyOf(replicas);
+        this.windowMillis = window.toMillis();
+        this.maxLagSeconds = maxLagSeconds;
+        this.lagQuery = lagQuery;
+        this.clock = clock;
+
+        if (this.replicas.isEmpty() || healthCheckInterval.isZero()) {
+            this.healthChecker = null;
+            return;
+        }
+
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.healthChecker.scheduleWithFixedDelay(this::checkHealth, 0,
+            healthCheckInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // replica 없이 모든 쿼리를 primary 로 보냄
+    public static ReplicaRouter primaryOnly() {
+        return new ReplicaRouter(List.of(), Duration.ZERO, 0, null, Duration.ZERO,
+            Clock.systemUTC());
+    }
+
+    public Optional<Replica> route() {
+        if (replicas.isEmpty()
+            || TransactionSynchronizationManager.isActualTransactionActive()
+            || ReadYourWrites.pinned(clock.millis())) {
+            return Optional.empty();
+        }
+
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.isHealthy()) {
+                return Optional.of(replica);
+            }
+        }
+        return Optional.empty();
+    }
+
+    // 쓰기 후 같은 세션의 조회는 window 동안 primary 에서 읽음
+    public void wrote() {
+        if (!replicas.isEmpty()) {
+            ReadYourWrites.pin(clock.millis() + windowMillis);
+        }
+    }
+
+    // 조회 중 연결에 실패한 replica 는 다음 health check 까지 제외
+    public void markDown(Replica replica, DataAccessException e) {
+        if (replica.isHealthy()) {
+            logger.warn("replica {} 를 제외합니다: {}", replica.getName(), e.getMessage());
+        }
+        replica.update(false, replica.getLagSeconds());
+    }
+
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try {
+                Number lag = replica.getJdbcTemplate().queryForObject(lagQuery, Number.class);
+                long lagSeconds = lag == null ? 0 : lag.longValue();
+                boolean healthy = lagSeconds <= maxLagSeconds;
+
+                if (replica.isHealthy() != healthy) {
+                    logger.warn("replica {} healthy={} lag={}s", replica.getName(), healthy,
+                        lagSeconds);
+                }
+                replica.update(healthy, lagSeconds);
+
+            } catch (DataAccessException e) {
+                markDown(replica, e);
+            }
+        }
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Replica replica : replicas) {
+            Gauge.builder("cafe.replica.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+                .description("1 if the replica serves reads")
+                .tag("replica", replica.getName())
+                .register(registry);
+            Gauge.builder("cafe.replica.lag", replica, Replica::getLagSeconds)
+                .description("replication lag reported by the last health check")
+                .baseUnit("seconds")
+                .tag("replica", replica.getName())
+                .register(registry);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            replica.close();
+        }
+    }
+}
@@ -1,19 +1,39 @@
 package com.kakao.cafe.repository;
 
 import com.kakao.cafe.domain.Article;
+import com.kakao.cafe.domain.ArticleDeleteResult;
+import com.kakao.cafe.domain.ResourceVersion;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 public interface ArticleRepository {
 
     Article save(Article article);
 
+    // 여러 질문을 한 번에 저장, 생성된 id 는 각 질문에 설정
+    List<Article> saveAll(Collection<Article> articles);
+
     List<Article> findAll();
 
+    // (createdDate, articleId) 커서 이후의 질문을 최신순으로 size 개까지 반환, 커서가 null 이면 첫 페이지
+    List<Article> findAllAfter(LocalDateTime createdDate, Integer articleId, Integer size);
+
     Optional<Article> findById(Integer articleId);
 
+    // 본문을 읽지 않고 버전만 조회, 삭제된 질문이면 empty
+    Optional<ResourceVersion> findVersionById(Integer articleId);
+
+    // 질문 버전이 version 이상인 데이터에서 action 의 조회를 실행, ETag 버전보다 오래된 본문을 읽지 않게 함
+    <T> T readAtVersion(Integer articleId, long version, Supplier<T> action);
+
     void deleteAll();
 
     void deleteById(Integer articleId);
 
+    // writer 가 작성했고 다른 유저의 댓글이 없는 질문만 삭제, 삭제하지 못하면 그 이유를 반환
+    ArticleDeleteResult deleteByIdAndWriter(Integer articleId, String writer);
+
 }
@@ -1,13 +1,17 @@
 package com.kakao.cafe.repository;
 
 import com.kakao.cafe.domain.Reply;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 public interface ReplyRepository {
 
     Reply save(Reply reply);
 
+    List<Reply> saveAll(Collection<Reply> replies);
+
     Optional<Reply> findById(Integer replyId);
 
     List<Reply> findByArticleId(Integer articleId);
@@ -15,4 +19,10 @@ public interface ReplyRepository {
     void deleteById(Integer replyId);
 
     Integer countByArticleIdAndNotUserId(String userId, Integer articleId);
+
+    // 아직 데이터베이스에 저장되지 않아 질문 버전에 반영되지 않은 댓글이 있는지 확인
+    boolean hasPendingReplies(Integer articleId);
+
+    // action 을 실행하는 동안 질문에 새 댓글이 저장되지 않도록 막음, 질문 삭제 전 확인과 삭제를 묶을 때 사용
+    <T> T lockArticle(Integer articleId, Supplier<T> action);
 }
@@ -1,17 +1,27 @@
 package com.kakao.cafe.repository;
 
+import com.kakao.cafe.domain.ResourceVersion;
 import com.kakao.cafe.domain.User;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 public interface UserRepository {
 
     User save(User user);
 
+    List<User> saveAll(Collection<User> users);
+
     List<User> findAll();
 
     Optional<User> findByUserId(String userId);
 
+    Optional<ResourceVersion> findVersionByUserId(String userId);
+
+    // 유저 버전이 version 이상인 데이터에서 action 의 조회를 실행, ETag 버전보다 오래된 본문을 읽지 않게 함
+    <T> T readAtVersion(String userId, long version, Supplier<T> action);
+
     void deleteAll();
 
 }
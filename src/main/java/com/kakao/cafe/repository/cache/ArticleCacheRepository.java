@@ -0,0 +1,145 @@
+package com.kakao.cafe.repository.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kakao.cafe.domain.Article;
+import com.kakao.cafe.domain.ArticleDeleteResult;
+import com.kakao.cafe.domain.ResourceVersion;
+import com.kakao.cafe.repository.ArticleRepository;
+import com.kakao.cafe.service.ArticleChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+// ArticleRepository 앞에서 findById 결과를 캐시하는 read-through 데코레이터
+// 적중률, 크기는 cache=articles 태그의 cache.gets, cache.size 지표로 확인
+public class ArticleCacheRepository implements ArticleRepository {
+
+    private final ArticleRepository articleRepository;
+    private final Cache<Integer, Article> articles;
+
+    public ArticleCacheRepository(ArticleRepository articleRepository, long maximumSize,
+        Duration expireAfterWrite, MeterRegistry registry) {
+        this.articleRepository = articleRepository;
+        this.articles = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(registry, articles, "articles");
+    }
+
+    @Override
+    public Article save(Article article) {
+        try {
+            return articleRepository.save(article);
+        } finally {
+            evict(article.getArticleId());
+        }
+    }
+
+    @Override
+    public List<Article> saveAll(Collection<Article> articles) {
+        try {
+            return articleRepository.saveAll(articles);
+        } finally {
+            articles.forEach(article -> evict(article.getArticleId()));
+        }
+    }
+
+    @Override
+    public List<Article> findAll() {
+        return articleRepository.findAll();
+    }
+
+    @Override
+    public List<Article> findAllAfter(LocalDateTime createdDate, Integer articleId, Integer size) {
+        return articleRepository.findAllAfter(createdDate, articleId, size);
+    }
+
+    @Override
+    public Optional<Article> findById(Integer articleId) {
+        if (articleId == null) {
+            return articleRepository.findById(null);
+        }
+
+        // 존재하지 않는 질문은 캐시하지 않음
+        Article article = articles.get(articleId,
+            key -> articleRepository.findById(key).orElse(null));
+
+        return Optional.ofNullable(article).map(this::copy);
+    }
+
+    // 조건부 요청 검증에 사용하므로 캐시를 거치지 않고 항상 저장소에서 조회
+    @Override
+    public Optional<ResourceVersion> findVersionById(Integer articleId) {
+        return articleRepository.findVersionById(articleId);
+    }
+
+    @Override
+    public <T> T readAtVersion(Integer articleId, long version, Supplier<T> action) {
+        return articleRepository.readAtVersion(articleId, version, action);
+    }
+
+    @Override
+    public void deleteAll() {
+        articleRepository.deleteAll();
+        articles.invalidateAll();
+    }
+
+    @Override
+    public void deleteById(Integer articleId) {
+        try {
+            articleRepository.deleteById(articleId);
+        } finally {
+            evict(articleId);
+        }
+    }
+
+    @Override
+    public ArticleDeleteResult deleteByIdAndWriter(Integer articleId, String writer) {
+        try {
+            return articleRepository.deleteByIdAndWriter(articleId, writer);
+        } finally {
+            evict(articleId);
+        }
+    }
+
+    // 댓글 저장, 삭제로 reply_count 가 바뀐 질문을 캐시에서 제거
+    public void evict(Integer articleId) {
+        if (articleId != null) {
+            articles.invalidate(articleId);
+        }
+    }
+
+    // 화면 캐시가 다시 렌더링할 때 이전 질문을 읽지 않도록 PageCache 보다 먼저 제거
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.isAll()) {
+            articles.invalidateAll();
+            return;
+        }
+        evict(event.getArticleId());
+    }
+
+    // Article 은 update 로 변경 가능하므로 캐시된 객체를 외부에 그대로 노출하지 않음
+    private Article copy(Article article) {
+        return new Article(
+            article.getArticleId(),
+            article.getWriter(),
+            article.getTitle(),
+            article.getContents(),
+            article.getCreatedDate(),
+            article.getReplyCount()
+        );
+    }
+}
@@ -0,0 +1,121 @@
+package com.kakao.cafe.repository.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kakao.cafe.domain.Reply;
+import com.kakao.cafe.repository.ReplyRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// 질문 id 별 댓글 목록을 캐시하는 read-through 데코레이터
+// 적중률, 크기는 cache=replies 태그의 cache.gets, cache.size 지표로 확인
+public class ReplyCacheRepository implements ReplyRepository {
+
+    private final ReplyRepository replyRepository;
+    private final ArticleCacheRepository articleCacheRepository;
+    private final Cache<Integer, List<Reply>> replies;
+
+    public ReplyCacheRepository(ReplyRepository replyRepository,
+        ArticleCacheRepository articleCacheRepository, long maximumSize,
+        Duration expireAfterWrite, MeterRegistry registry) {
+        this.replyRepository = replyRepository;
+        this.articleCacheRepository = articleCacheRepository;
+        this.replies = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(registry, replies, "replies");
+    }
+
+    @Override
+    public Reply save(Reply reply) {
+        try {
+            return replyRepository.save(reply);
+        } finally {
+            evict(reply.getArticleId());
+        }
+    }
+
+    @Override
+    public List<Reply> saveAll(Collection<Reply> replies) {
+        try {
+            return replyRepository.saveAll(replies);
+        } finally {
+            replies.stream()
+                .map(Reply::getArticleId)
+                .distinct()
+                .forEach(this::evict);
+        }
+    }
+
+    @Override
+    public Optional<Reply> findById(Integer replyId) {
+        return replyRepository.findById(replyId);
+    }
+
+    @Override
+    public List<Reply> findByArticleId(Integer articleId) {
+        if (articleId == null) {
+            return replyRepository.findByArticleId(null);
+        }
+
+        List<Reply> findReplies = replies.get(articleId,
+            key -> List.copyOf(replyRepository.findByArticleId(key)));
+
+        return findReplies.stream()
+            .map(this::copy)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public void deleteById(Integer replyId) {
+        // 삭제할 댓글의 질문 id 를 먼저 확인해 해당 질문의 캐시만 제거
+        Optional<Reply> reply = replyRepository.findById(replyId);
+
+        try {
+            replyRepository.deleteById(replyId);
+        } finally {
+            reply.ifPresent(findReply -> evict(findReply.getArticleId()));
+        }
+    }
+
+    @Override
+    public Integer countByArticleIdAndNotUserId(String userId, Integer articleId) {
+        return replyRepository.countByArticleIdAndNotUserId(userId, articleId);
+    }
+
+    @Override
+    public boolean hasPendingReplies(Integer articleId) {
+        return replyRepository.hasPendingReplies(articleId);
+    }
+
+    @Override
+    public <T> T lockArticle(Integer articleId, Supplier<T> action) {
+        return replyRepository.lockArticle(articleId, action);
+    }
+
+    private void evict(Integer articleId) {
+        if (articleId == null) {
+            return;
+        }
+        replies.invalidate(articleId);
+        articleCacheRepository.evict(articleId);
+    }
+
+    private Reply copy(Reply reply) {
+        return new Reply(
+            reply.getReplyId(),
+            reply.getArticleId(),
+            reply.getUserId(),
+            reply.getComment(),
+            reply.getCreatedDate()
+        );
+    }
+}
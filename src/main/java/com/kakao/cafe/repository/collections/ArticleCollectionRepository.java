@@ -1,41 +1,246 @@
 package com.kakao.cafe.repository.collections;
 
 import com.kakao.cafe.domain.Article;
+import com.kakao.cafe.domain.ArticleDeleteResult;
+import com.kakao.cafe.domain.ResourceVersion;
 import com.kakao.cafe.repository.ArticleRepository;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 public class ArticleCollectionRepository implements ArticleRepository {
 
-    private List<Article> articles = Collections.synchronizedList(new ArrayList<>());
+    private static final Comparator<Article> LATEST_FIRST = Comparator
+        .comparing(Article::getCreatedDate)
+        .thenComparing(Article::getArticleId)
+        .reversed();
+
+    private final Map<Integer, Entry> articles = new ConcurrentHashMap<>();
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    // 저장, 삭제마다 증가하는 버전, 조회 시점의 버전으로 일관된 스냅샷을 구성
+    // 버전을 질문에 기록한 뒤에 clock 을 올리므로 조회는 clock 이하의 변경을 모두 봄
+    private final AtomicLong clock = new AtomicLong();
+
+    // 버전 기록과 clock 증가를 쓰기끼리만 직렬화, 조회는 잠그지 않음
+    private final Lock writeLock = new ReentrantLock();
 
     @Override
     public Article save(Article article) {
-        article.setArticleId(articles.size() + 1);
-        articles.add(article);
+        if (article.getArticleId() == null) {
+            // persist
+            article.setArticleId(sequence.incrementAndGet());
+
+            Entry entry = new Entry(copy(article));
+            commit(version -> {
+                entry.createdVersion = version;
+                entry.updatedVersion = version;
+                articles.put(article.getArticleId(), entry);
+            });
+            return article;
+        }
+        // merge, 같은 질문에 대한 삭제와는 computeIfPresent 로 직렬화
+        Article stored = copy(article);
+        commit(version -> articles.computeIfPresent(article.getArticleId(),
+            (articleId, entry) -> entry.replace(stored, version)));
         return article;
     }
 
+    @Override
+    public List<Article> saveAll(Collection<Article> articles) {
+        return articles.stream()
+            .map(this::save)
+            .collect(Collectors.toList());
+    }
+
     @Override
     public List<Article> findAll() {
-        return articles;
+        return snapshot();
+    }
+
+    @Override
+    public List<Article> findAllAfter(LocalDateTime createdDate, Integer articleId, Integer size) {
+        return snapshot().stream()
+            .filter(article -> isAfter(article, createdDate, articleId))
+            .sorted(LATEST_FIRST)
+            .limit(size)
+            .collect(Collectors.toList());
     }
 
     @Override
     public Optional<Article> findById(Integer articleId) {
-        return articles.stream()
-            .filter(article -> article.equalsId(articleId))
-            .findAny();
+        if (articleId == null) {
+            return Optional.empty();
+        }
+        long version = clock.get();
+
+        return Optional.ofNullable(articles.get(articleId))
+            .filter(entry -> entry.isVisibleAt(version))
+            .map(entry -> copy(entry.at(version).article));
+    }
+
+    @Override
+    public Optional<ResourceVersion> findVersionById(Integer articleId) {
+        if (articleId == null) {
+            return Optional.empty();
+        }
+        long version = clock.get();
+
+        return Optional.ofNullable(articles.get(articleId))
+            .filter(entry -> entry.isVisibleAt(version))
+            .map(entry -> entry.at(version).resourceVersion);
+    }
+
+    // 메모리 저장소는 복제 지연이 없으므로 바로 실행
+    @Override
+    public <T> T readAtVersion(Integer articleId, long version, Supplier<T> action) {
+        return action.get();
     }
 
     @Override
     public void deleteAll() {
-        articles = new ArrayList<>();
+        articles.clear();
+        sequence.set(0);
     }
 
     @Override
     public void deleteById(Integer articleId) {
+        // soft delete, 같은 질문에 대한 merge 와는 computeIfPresent 로 직렬화
+        commit(version -> articles.computeIfPresent(articleId, (id, entry) -> {
+            if (entry.deletedVersion == Long.MAX_VALUE) {
+                entry.deletedVersion = version;
+            }
+            return entry;
+        }));
+    }
+
+    // 댓글은 저장하지 않으므로 작성자만 확인
+    @Override
+    public ArticleDeleteResult deleteByIdAndWriter(Integer articleId, String writer) {
+        if (articleId == null) {
+            return ArticleDeleteResult.NOT_FOUND;
+        }
+
+        AtomicReference<ArticleDeleteResult> result = new AtomicReference<>(
+            ArticleDeleteResult.NOT_FOUND);
+        commit(version -> articles.computeIfPresent(articleId, (id, entry) -> {
+            if (!entry.isVisibleAt(version - 1)) {
+                return entry;
+            }
+            if (!entry.article.equalsUserId(writer)) {
+                result.set(ArticleDeleteResult.NOT_WRITER);
+                return entry;
+            }
+            entry.deletedVersion = version;
+            result.set(ArticleDeleteResult.DELETED);
+            return entry;
+        }));
+        return result.get();
+    }
+
+    // 다음 버전을 질문에 기록한 뒤 clock 을 올려 조회에 공개
+    // 먼저 공개한 버전보다 작은 버전이 아직 기록되지 않은 상태를 조회가 보지 않음
+    private void commit(LongConsumer stamp) {
+        writeLock.lock();
+        try {
+            long version = clock.get() + 1;
+            stamp.accept(version);
+            clock.set(version);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 잠금 없이 현재 버전에서 보이는 질문만 id 순서대로 반환
+    private List<Article> snapshot() {
+        long version = clock.get();
+        int lastId = sequence.get();
+
+        List<Article> snapshot = new ArrayList<>();
+        for (int articleId = 1; articleId <= lastId; articleId++) {
+            Entry entry = articles.get(articleId);
+            if (entry != null && entry.isVisibleAt(version)) {
+                snapshot.add(copy(entry.at(version).article));
+            }
+        }
+        return snapshot;
+    }
+
+    // 저장소 밖에서 update 로 변경해도 저장된 질문과 스냅샷이 바뀌지 않도록 복사해서 저장, 반환
+    private Article copy(Article article) {
+        return new Article(
+            article.getArticleId(),
+            article.getWriter(),
+            article.getTitle(),
+            article.getContents(),
+            article.getCreatedDate(),
+            article.getReplyCount()
+        );
+    }
+
+    private boolean isAfter(Article article, LocalDateTime createdDate, Integer articleId) {
+        if (createdDate == null || articleId == null) {
+            return true;
+        }
+        int compared = article.getCreatedDate().compareTo(createdDate);
+        return compared < 0 || (compared == 0 && article.getArticleId() < articleId);
+    }
+
+    private static class Entry {
+
+        private final Article article;
+
+        // 스냅샷 버전과 별개로, 질문이 변경될 때마다 증가하는 조건부 요청용 버전
+        private final ResourceVersion resourceVersion;
+
+        // 저장, 삭제가 완료되기 전에는 Long.MAX_VALUE
+        private volatile long createdVersion = Long.MAX_VALUE;
+        private volatile long deletedVersion = Long.MAX_VALUE;
+
+        // 이 내용이 조회에 보이기 시작한 버전과 바로 이전 내용
+        // 수정 중에 시작한 조회는 이전 내용을 봄, 한 조회 동안 두 번 이상 수정되면 남아있는 가장 오래된 내용
+        private volatile long updatedVersion = Long.MAX_VALUE;
+        private volatile Entry previous;
+
+        Entry(Article article) {
+            this(article, new ResourceVersion(0, LocalDateTime.now()));
+        }
+
+        private Entry(Article article, ResourceVersion resourceVersion) {
+            this.article = article;
+            this.resourceVersion = resourceVersion;
+        }
+
+        Entry replace(Article article, long version) {
+            Entry entry = new Entry(article, resourceVersion.next());
+            entry.createdVersion = createdVersion;
+            entry.deletedVersion = deletedVersion;
+            entry.updatedVersion = version;
+            entry.previous = new Entry(this.article, resourceVersion);
+            entry.previous.updatedVersion = updatedVersion;
+            return entry;
+        }
+
+        Entry at(long version) {
+            Entry previous = this.previous;
+            return updatedVersion > version && previous != null ? previous : this;
+        }
+
+        boolean isVisibleAt(long version) {
+            return createdVersion <= version && version < deletedVersion;
+        }
     }
 }
@@ -1,50 +1,100 @@
 package com.kakao.cafe.repository.collections;
 
+import com.kakao.cafe.domain.ResourceVersion;
 import com.kakao.cafe.domain.User;
+import com.kakao.cafe.exception.DuplicateException;
 import com.kakao.cafe.exception.ErrorCode;
 import com.kakao.cafe.exception.NotFoundException;
 import com.kakao.cafe.repository.UserRepository;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 public class UserCollectionRepository implements UserRepository {
 
-    private List<User> users = Collections.synchronizedList(new ArrayList<>());
+    // userId -> User
+    private final Map<String, User> users = new ConcurrentHashMap<>();
+    // userId -> 조건부 요청용 버전
+    private final Map<String, ResourceVersion> versions = new ConcurrentHashMap<>();
+    private final AtomicInteger sequence = new AtomicInteger();
 
     @Override
     public User save(User user) {
 
         if (Objects.isNull(user.getUserNum())) {
-            // persist
-            user.setUserNum(users.size() + 1);
-            users.add(user);
+            // persist, 저장에 성공한 경우에만 번호를 할당해 중복 저장이 객체와 시퀀스를 바꾸지 않도록 함
+            User savedUser = users.computeIfAbsent(user.getUserId(), userId -> {
+                user.setUserNum(sequence.incrementAndGet());
+                return user;
+            });
+
+            if (savedUser != user) {
+                throw new DuplicateException(ErrorCode.DUPLICATE_USER);
+            }
+            versions.put(user.getUserId(), new ResourceVersion(0, LocalDateTime.now()));
             return user;
         }
-        // merge
-        User findUser = findByUserId(user.getUserId())
-            .orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND));
-        findUser.update(user.getName(), user.getEmail());
+        // merge, 저장된 객체를 변경하지 않고 교체해 동시에 읽는 쪽이 변경 중인 값을 보지 않도록 함
+        User mergedUser = users.computeIfPresent(user.getUserId(),
+            (userId, findUser) -> new User(findUser.getUserNum(), userId,
+                findUser.getPassword(), user.getName(), user.getEmail()));
+
+        if (mergedUser == null) {
+            throw new NotFoundException(ErrorCode.USER_NOT_FOUND);
+        }
+        versions.computeIfPresent(user.getUserId(), (userId, version) -> version.next());
         return user;
     }
 
+    @Override
+    public List<User> saveAll(Collection<User> users) {
+        return users.stream()
+            .map(this::save)
+            .collect(Collectors.toList());
+    }
+
     @Override
     public List<User> findAll() {
-        return users;
+        return users.values().stream()
+            .sorted(Comparator.comparing(User::getUserNum))
+            .collect(Collectors.toUnmodifiableList());
     }
 
     @Override
     public Optional<User> findByUserId(String userId) {
-        return users.stream()
-            .filter(user -> user.getUserId().equals(userId))
-            .findAny();
+        if (userId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(users.get(userId));
+    }
+
+    @Override
+    public Optional<ResourceVersion> findVersionByUserId(String userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(versions.get(userId));
+    }
+
+    // 메모리 저장소는 복제 지연이 없으므로 바로 실행
+    @Override
+    public <T> T readAtVersion(String userId, long version, Supplier<T> action) {
+        return action.get();
     }
 
     @Override
     public void deleteAll() {
-        users = new ArrayList<>();
+        users.clear();
+        versions.clear();
+        sequence.set(0);
     }
 
 }
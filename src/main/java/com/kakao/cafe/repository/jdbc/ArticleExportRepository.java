@@ -0,0 +1,129 @@
+package com.kakao.cafe.repository.jdbc;
+
+import com.kakao.cafe.config.QueryProps;
+import com.kakao.cafe.domain.Article;
+import com.kakao.cafe.domain.Reply;
+import com.kakao.cafe.repository.jdbc.QueryPlan.Binder;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+// 전체 질문을 List 로 모으지 않고 forward-only ResultSet 에서 한 행씩 전달
+// QueryMetrics 에는 스트림 전체의 실행 시간과 전달한 행 수를 기록
+@Repository
+public class ArticleExportRepository {
+
+    private static final String ARTICLE_ID = "article_id";
+    private static final String WRITER = "writer";
+    private static final String TITLE = "title";
+    private static final String CONTENTS = "contents";
+    private static final String CREATED_DATE = "created_date";
+    private static final String REPLY_COUNT = "reply_count";
+    private static final String REPLY_ID = "reply_id";
+    private static final String USER_ID = "user_id";
+    private static final String COMMENT = "comment";
+    private static final String REPLY_CREATED_DATE = "reply_created_date";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final QueryMetrics queryMetrics;
+
+    private final Binder exportArticles;
+    private final Binder exportArticlesWithReplies;
+
+    // 공유 JdbcTemplate 의 설정을 바꾸지 않도록 fetch size 를 지정한 템플릿을 따로 사용
+    public ArticleExportRepository(DataSource dataSource, QueryProps queryProps,
+        QueryMetrics queryMetrics, @Value("${cafe.export.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.queryMetrics = queryMetrics;
+
+        this.exportArticles = queryProps.getPlan(Query.EXPORT_ARTICLES).binder();
+        this.exportArticlesWithReplies = queryProps.getPlan(Query.EXPORT_ARTICLES_WITH_REPLIES)
+            .binder();
+    }
+
+    public void streamArticles(Consumer<Article> consumer) {
+        stream(exportArticles.bind(), rs -> consumer.accept(mapArticle(rs)));
+    }
+
+    // article_id 순으로 정렬된 조인 결과를 질문 단위로 묶어 전달, 한 질문의 댓글만 메모리에 유지
+    public void streamArticlesWithReplies(BiConsumer<Article, List<Reply>> consumer) {
+        ArticleReplyHandler handler = new ArticleReplyHandler(consumer);
+
+        stream(exportArticlesWithReplies.bind(), handler);
+        handler.finish();
+    }
+
+    private void stream(BoundQuery query, RowCallbackHandler handler) {
+        queryMetrics.stream(query, () -> {
+            int[] rows = new int[1];
+            jdbcTemplate.query(query.getSql(), new ArgumentPreparedStatementSetter(query.getArgs()),
+                (RowCallbackHandler) rs -> {
+                    handler.processRow(rs);
+                    rows[0]++;
+                });
+            return rows[0];
+        });
+    }
+
+    private static Article mapArticle(ResultSet rs) throws SQLException {
+        return new Article(
+            rs.getInt(ARTICLE_ID),
+            rs.getString(WRITER),
+            rs.getString(TITLE),
+            rs.getString(CONTENTS),
+            rs.getObject(CREATED_DATE, LocalDateTime.class),
+            rs.getInt(REPLY_COUNT)
+        );
+    }
+
+    private static class ArticleReplyHandler implements RowCallbackHandler {
+
+        private final BiConsumer<Article, List<Reply>> consumer;
+        private Article article;
+        private List<Reply> replies = new ArrayList<>();
+
+        ArticleReplyHandler(BiConsumer<Article, List<Reply>> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            int articleId = rs.getInt(ARTICLE_ID);
+
+            if (article == null || article.getArticleId() != articleId) {
+                finish();
+                article = mapArticle(rs);
+                replies = new ArrayList<>();
+            }
+
+            int replyId = rs.getInt(REPLY_ID);
+            if (!rs.wasNull()) {
+                replies.add(new Reply(
+                    replyId,
+                    articleId,
+                    rs.getString(USER_ID),
+                    rs.getString(COMMENT),
+                    rs.getObject(REPLY_CREATED_DATE, LocalDateTime.class)
+                ));
+            }
+        }
+
+        void finish() {
+            if (article != null) {
+                consumer.accept(article, replies);
+                article = null;
+            }
+        }
+    }
+}
@@ -2,17 +2,21 @@ package com.kakao.cafe.repository.jdbc;
 
 import com.kakao.cafe.config.QueryProps;
 import com.kakao.cafe.domain.Article;
+import com.kakao.cafe.domain.ArticleDeleteResult;
+import com.kakao.cafe.domain.ResourceVersion;
 import com.kakao.cafe.repository.ArticleRepository;
+import com.kakao.cafe.repository.jdbc.QueryPlan.Binder;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import org.springframework.dao.EmptyResultDataAccessException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import org.springframework.jdbc.core.RowMapper;
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public class ArticleJdbcRepository implements ArticleRepository {
@@ -25,27 +29,61 @@ public class ArticleJdbcRepository implements ArticleRepository {
     private static final String CONTENTS = "contents";
     private static final String CREATED_DATE = "created_date";
     private static final String REPLY_COUNT = "reply_count";
+    private static final String VERSION = "version";
+    private static final String UPDATED_DATE = "updated_date";
+    private static final String CREATED_DATE_CAMEL = "createdDate";
+    private static final String SIZE = "size";
+    private static final String OTHER_REPLIES = "other_replies";
 
-    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final QueryTemplate queryTemplate;
     private final KeyHolderFactory keyHolderFactory;
-    private final QueryProps queryProps;
 
-    public ArticleJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate,
-        KeyHolderFactory keyHolderFactory, QueryProps queryProps) {
-        this.jdbcTemplate = jdbcTemplate;
+    private final Binder insertArticle;
+    private final Binder updateArticle;
+    private final Binder selectArticles;
+    private final Binder selectArticlesFirstPage;
+    private final Binder selectArticlesAfter;
+    private final Binder selectArticle;
+    private final Binder selectArticleVersion;
+    private final Binder deleteArticle;
+    private final Binder deleteArticleByWriter;
+    private final Binder selectArticleDeleteCheck;
+    private final Binder refreshReplyCount;
+
+    public ArticleJdbcRepository(QueryTemplate queryTemplate, KeyHolderFactory keyHolderFactory,
+        QueryProps queryProps) {
+        this.queryTemplate = queryTemplate;
         this.keyHolderFactory = keyHolderFactory;
-        this.queryProps = queryProps;
+
+        // 파라미터 순서는 시작할 때 계산, query.yml 의 이름과 다르면 시작하지 않음
+        this.insertArticle = queryProps.getPlan(Query.INSERT_ARTICLE)
+            .binder(WRITER, TITLE, CONTENTS, CREATED_DATE_CAMEL);
+        this.updateArticle = queryProps.getPlan(Query.UPDATE_ARTICLE)
+            .binder(TITLE, CONTENTS, ARTICLE_ID_CAMEL);
+        this.selectArticles = queryProps.getPlan(Query.SELECT_ARTICLES).binder();
+        this.selectArticlesFirstPage = queryProps.getPlan(Query.SELECT_ARTICLES_FIRST_PAGE)
+            .binder(SIZE);
+        this.selectArticlesAfter = queryProps.getPlan(Query.SELECT_ARTICLES_AFTER)
+            .binder(CREATED_DATE_CAMEL, ARTICLE_ID_CAMEL, SIZE);
+        this.selectArticle = queryProps.getPlan(Query.SELECT_ARTICLE).binder(ARTICLE_ID_CAMEL);
+        this.selectArticleVersion = queryProps.getPlan(Query.SELECT_ARTICLE_VERSION)
+            .binder(ARTICLE_ID_CAMEL);
+        this.deleteArticle = queryProps.getPlan(Query.DELETE_ARTICLE).binder(ARTICLE_ID_CAMEL);
+        this.deleteArticleByWriter = queryProps.getPlan(Query.DELETE_ARTICLE_BY_WRITER)
+            .binder(ARTICLE_ID_CAMEL, WRITER);
+        this.selectArticleDeleteCheck = queryProps.getPlan(Query.SELECT_ARTICLE_DELETE_CHECK)
+            .binder(ARTICLE_ID_CAMEL, WRITER);
+        this.refreshReplyCount = queryProps.getPlan(Query.REFRESH_REPLY_COUNT).binder();
     }
 
     @Override
     public Article save(Article article) {
         if (article.getArticleId() == null) {
             // persist
-            String sql = queryProps.get(Query.INSERT_ARTICLE);
             KeyHolder keyHolder = keyHolderFactory.newKeyHolder();
 
             article.setCreatedDate(LocalDateTime.now());
-            jdbcTemplate.update(sql, new BeanPropertySqlParameterSource(article), keyHolder);
+            queryTemplate.update(bindInsert(article), keyHolder);
 
             if (keyHolder.getKey() != null) {
                 article.setArticleId(keyHolder.getKey().intValue());
@@ -53,33 +91,76 @@ public class ArticleJdbcRepository implements ArticleRepository {
             return article;
         }
         // merge
-        String sql = queryProps.get(Query.UPDATE_ARTICLE);
-        jdbcTemplate.update(sql, new BeanPropertySqlParameterSource(article));
+        queryTemplate.update(bindUpdate(article));
 
         return article;
     }
 
+    @Override
+    @Transactional
+    public List<Article> saveAll(Collection<Article> articles) {
+        Map<Boolean, List<Article>> partitioned = articles.stream()
+            .collect(Collectors.partitioningBy(article -> article.getArticleId() == null));
+
+        // persist
+        List<Article> persistArticles = partitioned.get(true);
+        if (!persistArticles.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            persistArticles.forEach(article -> article.setCreatedDate(now));
+
+            List<Number> keys = queryTemplate.batchInsert(persistArticles.stream()
+                .map(this::bindInsert)
+                .collect(Collectors.toList()));
+
+            for (int i = 0; i < keys.size(); i++) {
+                persistArticles.get(i).setArticleId(keys.get(i).intValue());
+            }
+        }
+
+        // merge
+        List<Article> mergeArticles = partitioned.get(false);
+        if (!mergeArticles.isEmpty()) {
+            queryTemplate.batchUpdate(mergeArticles.stream()
+                .map(this::bindUpdate)
+                .collect(Collectors.toList()));
+        }
+
+        return List.copyOf(articles);
+    }
+
     @Override
     public List<Article> findAll() {
-        String sql = queryProps.get(Query.SELECT_ARTICLES);
-        return jdbcTemplate.query(sql, getArticleRowMapper(true));
+        return queryTemplate.query(selectArticles.bind(), getArticleRowMapper());
     }
 
     @Override
-    public Optional<Article> findById(Integer articleId) {
-        String sql = queryProps.get(Query.SELECT_ARTICLE);
+    public List<Article> findAllAfter(LocalDateTime createdDate, Integer articleId, Integer size) {
+        if (createdDate == null || articleId == null) {
+            return queryTemplate.query(selectArticlesFirstPage.bind(size), getArticleRowMapper());
+        }
 
-        try {
-            Article article = jdbcTemplate.queryForObject(sql,
-                new MapSqlParameterSource().addValue(ARTICLE_ID_CAMEL, articleId),
-                getArticleRowMapper(false)
-            );
-            return Optional.ofNullable(article);
+        return queryTemplate.query(selectArticlesAfter.bind(createdDate, articleId, size),
+            getArticleRowMapper());
+    }
 
-        } catch (EmptyResultDataAccessException e) {
-            return Optional.empty();
-        }
+    @Override
+    public Optional<Article> findById(Integer articleId) {
+        return queryTemplate.queryForOptional(selectArticle.bind(articleId),
+            getArticleRowMapper());
+    }
+
+    @Override
+    public Optional<ResourceVersion> findVersionById(Integer articleId) {
+        return queryTemplate.queryForOptional(selectArticleVersion.bind(articleId),
+            (rs, rowNum) -> new ResourceVersion(
+                rs.getLong(VERSION),
+                rs.getObject(UPDATED_DATE, LocalDateTime.class)
+            ));
+    }
 
+    @Override
+    public <T> T readAtVersion(Integer articleId, long version, Supplier<T> action) {
+        return queryTemplate.readAtVersion(selectArticleVersion.bind(articleId), version, action);
     }
 
     @Override
@@ -88,11 +169,46 @@ public class ArticleJdbcRepository implements ArticleRepository {
 
     @Override
     public void deleteById(Integer articleId) {
-        String sql = queryProps.get(Query.DELETE_ARTICLE);
-        jdbcTemplate.update(sql, new MapSqlParameterSource().addValue(ARTICLE_ID_CAMEL, articleId));
+        queryTemplate.update(deleteArticle.bind(articleId));
+    }
+
+    // 작성자, 댓글 조건을 삭제 쿼리의 WHERE 절에서 확인, 삭제하지 못한 경우에만 이유를 조회
+    @Override
+    public ArticleDeleteResult deleteByIdAndWriter(Integer articleId, String writer) {
+        if (queryTemplate.update(deleteArticleByWriter.bind(articleId, writer)) > 0) {
+            return ArticleDeleteResult.DELETED;
+        }
+
+        return queryTemplate.queryForOptional(selectArticleDeleteCheck.bind(articleId, writer),
+                (rs, rowNum) -> {
+                    if (!writer.equals(rs.getString(WRITER))) {
+                        return ArticleDeleteResult.NOT_WRITER;
+                    }
+                    if (rs.getBoolean(OTHER_REPLIES)) {
+                        return ArticleDeleteResult.HAS_OTHER_REPLIES;
+                    }
+                    // 조건을 만족하는데 삭제되지 않았다면 그 사이에 삭제된 질문
+                    return ArticleDeleteResult.NOT_FOUND;
+                })
+            .orElse(ArticleDeleteResult.NOT_FOUND);
+    }
+
+    // reply_count 를 댓글 테이블 기준으로 다시 계산, 값이 달랐던 질문만 갱신하고 그 수를 반환
+    public int refreshReplyCount() {
+        return queryTemplate.update(refreshReplyCount.bind());
+    }
+
+    private BoundQuery bindInsert(Article article) {
+        return insertArticle.bind(article.getWriter(), article.getTitle(), article.getContents(),
+            article.getCreatedDate());
+    }
+
+    private BoundQuery bindUpdate(Article article) {
+        return updateArticle.bind(article.getTitle(), article.getContents(),
+            article.getArticleId());
     }
 
-    private RowMapper<Article> getArticleRowMapper(boolean isCountIncluded) {
+    RowMapper<Article> getArticleRowMapper() {
         return (rs, rowNum) ->
             new Article(
                 rs.getInt(ARTICLE_ID_SNAKE),
@@ -100,7 +216,7 @@ public class ArticleJdbcRepository implements ArticleRepository {
                 rs.getString(TITLE),
                 rs.getString(CONTENTS),
                 rs.getObject(CREATED_DATE, LocalDateTime.class),
-                isCountIncluded ? rs.getInt(REPLY_COUNT) : null
+                rs.getInt(REPLY_COUNT)
             );
     }
 
@@ -0,0 +1,69 @@
+package com.kakao.cafe.repository.jdbc;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// QueryPlan 에 ? 순서로 값을 채운 실행 단위
+public final class BoundQuery {
+
+    private final QueryPlan plan;
+    // ? 순서의 값, 컬렉션 값은 펼치기 전 그대로
+    private final Object[] values;
+    private final String sql;
+    private final Object[] args;
+
+    BoundQuery(QueryPlan plan, Object[] values) {
+        this.plan = plan;
+        this.values = values;
+
+        if (containsCollection(values)) {
+            this.sql = plan.expandSql(values);
+            this.args = flatten(values);
+        } else {
+            this.sql = plan.getSql();
+            this.args = values;
+        }
+    }
+
+    public Query getQuery() {
+        return plan.getQuery();
+    }
+
+    public QueryPlan getPlan() {
+        return plan;
+    }
+
+    public Object[] getValues() {
+        return values;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public Object[] getArgs() {
+        return args;
+    }
+
+    private static boolean containsCollection(Object[] values) {
+        for (Object value : values) {
+            if (value instanceof Collection) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Object[] flatten(Object[] values) {
+        List<Object> args = new ArrayList<>();
+        for (Object value : values) {
+            if (value instanceof Collection) {
+                args.addAll((Collection<?>) value);
+            } else {
+                args.add(value);
+            }
+        }
+        return args.toArray();
+    }
+}
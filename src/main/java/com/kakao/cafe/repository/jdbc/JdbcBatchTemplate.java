@@ -0,0 +1,93 @@
+package com.kakao.cafe.repository.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// 여러 행을 batchSize 단위로 나눠 한 번의 왕복으로 실행, 모든 행은 같은 QueryPlan 으로 bind 되어야 함
+@Component
+public class JdbcBatchTemplate {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public JdbcBatchTemplate(JdbcTemplate jdbcTemplate,
+        @Value("${cafe.jdbc.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    public int[] update(List<BoundQuery> queries) {
+        List<int[]> results = new ArrayList<>();
+
+        for (List<BoundQuery> chunk : partition(queries)) {
+            List<Object[]> batchArgs = chunk.stream()
+                .map(BoundQuery::getArgs)
+                .collect(Collectors.toList());
+            results.add(jdbcTemplate.batchUpdate(chunk.get(0).getSql(), batchArgs));
+        }
+        return results.stream()
+            .flatMapToInt(Arrays::stream)
+            .toArray();
+    }
+
+    // 생성된 키를 행 순서대로 반환, 드라이버가 키를 반환하지 않으면 빈 리스트
+    // MySQL 은 rewriteBatchedStatements=true 로 chunk 를 여러 행 INSERT 하나로 보내고,
+    // 드라이버가 첫 키부터 auto_increment_increment 간격으로 모든 행의 키를 계산해 반환
+    public List<Number> insert(List<BoundQuery> queries) {
+        List<Number> keys = new ArrayList<>();
+
+        for (List<BoundQuery> chunk : partition(queries)) {
+            List<Number> chunkKeys = jdbcTemplate.execute(
+                connection -> connection.prepareStatement(chunk.get(0).getSql(),
+                    Statement.RETURN_GENERATED_KEYS),
+                (PreparedStatement ps) -> {
+                    for (BoundQuery query : chunk) {
+                        new ArgumentPreparedStatementSetter(query.getArgs()).setValues(ps);
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+                    return generatedKeys(ps);
+                });
+
+            if (chunkKeys == null || chunkKeys.size() != chunk.size()) {
+                return List.of();
+            }
+            keys.addAll(chunkKeys);
+        }
+        return keys;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    private List<Number> generatedKeys(PreparedStatement ps) throws SQLException {
+        List<Number> keys = new ArrayList<>();
+
+        try (ResultSet rs = ps.getGeneratedKeys()) {
+            while (rs.next()) {
+                keys.add((Number) rs.getObject(1));
+            }
+        }
+        return keys;
+    }
+
+    private <T> List<List<T>> partition(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+
+        for (int from = 0; from < items.size(); from += batchSize) {
+            chunks.add(items.subList(from, Math.min(from + batchSize, items.size())));
+        }
+        return chunks;
+    }
+}
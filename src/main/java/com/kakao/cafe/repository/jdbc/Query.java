@@ -3,24 +3,57 @@ package com.kakao.cafe.repository.jdbc;
 public enum Query {
     // article
     INSERT_ARTICLE,
-    SELECT_ARTICLES,
-    SELECT_ARTICLE,
+    SELECT_ARTICLES(true),
+    SELECT_ARTICLES_FIRST_PAGE(true),
+    SELECT_ARTICLES_AFTER(true),
+    SELECT_ARTICLE(true),
+    SELECT_ARTICLE_VERSION,
     UPDATE_ARTICLE,
     DELETE_ARTICLE,
+    DELETE_ARTICLE_BY_WRITER,
+    SELECT_ARTICLE_DELETE_CHECK,
+    INCREASE_REPLY_COUNT,
+    DECREASE_REPLY_COUNT,
+    TOUCH_ARTICLE_BY_REPLY,
+    REFRESH_REPLY_COUNT,
+    EXPORT_ARTICLES,
+    EXPORT_ARTICLES_WITH_REPLIES,
 
     // user
     COUNT_USER,
+    SELECT_USER_IDS,
     INSERT_USER,
     UPDATE_USER,
-    SELECT_USERS,
-    SELECT_USER,
+    SELECT_USERS(true),
+    SELECT_USER(true),
+    SELECT_USER_VERSION,
     DELETE_USERS,
 
     // reply
     INSERT_REPLY,
+    INSERT_REPLY_WITH_ID,
+    ALLOCATE_REPLY_IDS,
+    SELECT_REPLY_SEQUENCE,
     SELECT_REPLY,
-    SELECT_REPLIES,
+    SELECT_REPLIES(true),
     UPDATE_REPLY,
     DELETE_REPLY,
-    COUNT_REPLY_BY_ARTICLE_AND_NOT_USER
+    COUNT_REPLY_BY_ARTICLE_AND_NOT_USER;
+
+    // true 면 replica 에서 읽어도 되는 조회
+    // 버전 조회(ETag), 시퀀스, 수정이나 삭제 전에 확인하는 조회는 복제 지연이 있으면 안 되므로 primary
+    // ETag 를 붙이는 상세 화면(질문, 댓글, 유저)은 QueryTemplate.readAtVersion 으로 버전을 확인한 replica 에서 읽음
+    private final boolean replicaRead;
+
+    Query() {
+        this(false);
+    }
+
+    Query(boolean replicaRead) {
+        this.replicaRead = replicaRead;
+    }
+
+    public boolean isReplicaRead() {
+        return replicaRead;
+    }
 }
@@ -0,0 +1,95 @@
+package com.kakao.cafe.repository.jdbc;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Statement;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import org.springframework.stereotype.Component;
+
+// Query 마다 실행 시간과 조회하거나 변경한 행 수를 기록하고, 느린 쿼리는 SlowQueryLog 로 전달
+// cafe.query : 실행 시간, cafe.query.rows : 행 수, 모두 query 태그(Query 상수 이름)로 구분
+@Component
+public class QueryMetrics {
+
+    private static final String QUERY_TAG = "query";
+
+    private final Map<Query, Timer> timers = new EnumMap<>(Query.class);
+    private final Map<Query, DistributionSummary> rows = new EnumMap<>(Query.class);
+    private final SlowQueryLog slowQueryLog;
+
+    // 실행할 때마다 태그로 미터를 찾지 않도록 시작할 때 모든 Query 의 미터를 등록
+    public QueryMetrics(MeterRegistry registry, SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+        for (Query query : Query.values()) {
+            timers.put(query, Timer.builder("cafe.query")
+                .description("jdbc query execution time")
+                .tag(QUERY_TAG, query.name())
+                .publishPercentileHistogram()
+                .register(registry));
+            rows.put(query, DistributionSummary.builder("cafe.query.rows")
+                .description("rows returned or affected per jdbc query execution")
+                .baseUnit("rows")
+                .tag(QUERY_TAG, query.name())
+                .publishPercentileHistogram()
+                .register(registry));
+        }
+    }
+
+    public <T> List<T> query(BoundQuery query, Supplier<List<T>> execution) {
+        return record(query, 1, execution, List::size);
+    }
+
+    public int update(BoundQuery query, IntSupplier execution) {
+        return record(query, 1, execution::getAsInt, Integer::intValue);
+    }
+
+    // 행을 콜백으로 넘기는 조회는 전체 실행 시간과 콜백이 받은 행 수를 기록
+    public int stream(BoundQuery query, IntSupplier execution) {
+        return record(query, 1, execution::getAsInt, Integer::intValue);
+    }
+
+    public int[] batchUpdate(List<BoundQuery> queries, Supplier<int[]> execution) {
+        return record(queries.get(0), queries.size(), execution, QueryMetrics::sum);
+    }
+
+    // 드라이버가 키를 반환하지 않을 수 있으므로 행 수는 배치 크기로 기록
+    public List<Number> batchInsert(List<BoundQuery> queries, Supplier<List<Number>> execution) {
+        return record(queries.get(0), queries.size(), execution, keys -> queries.size());
+    }
+
+    // 배치는 첫 행을 SlowQueryLog 로 전달
+    private <T> T record(BoundQuery query, int batchSize, Supplier<T> execution,
+        ToIntFunction<? super T> rowCounter) {
+        long start = System.nanoTime();
+        int rowCount = -1;
+        try {
+            T result = execution.get();
+            rowCount = rowCounter.applyAsInt(result);
+            return result;
+
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            timers.get(query.getQuery()).record(elapsed, TimeUnit.NANOSECONDS);
+            if (rowCount >= 0) {
+                rows.get(query.getQuery()).record(rowCount);
+            }
+            slowQueryLog.record(query, batchSize, rowCount, elapsed);
+        }
+    }
+
+    // 드라이버가 변경된 행 수를 알려주지 않으면(SUCCESS_NO_INFO) 한 행으로 계산
+    private static int sum(int[] counts) {
+        int sum = 0;
+        for (int count : counts) {
+            sum += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+        }
+        return sum;
+    }
+}
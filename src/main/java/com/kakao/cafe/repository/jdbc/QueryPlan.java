@@ -0,0 +1,114 @@
+package com.kakao.cafe.repository.jdbc;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+
+// query.yml 의 SQL 을 시작할 때 한 번 파싱한 결과, :name 을 ? 로 바꾼 SQL 과 ? 순서의 파라미터 이름
+public final class QueryPlan {
+
+    private final Query query;
+    private final String namedSql;
+    private final ParsedSql parsedSql;
+    private final String sql;
+    private final List<String> parameterNames;
+
+    private QueryPlan(Query query, String namedSql) {
+        this.query = query;
+        this.namedSql = namedSql;
+        this.parsedSql = NamedParameterUtils.parseSqlStatement(namedSql);
+        this.sql = NamedParameterUtils.substituteNamedParameters(parsedSql, null);
+        this.parameterNames = NamedParameterUtils.buildSqlParameterList(parsedSql,
+                EmptySqlParameterSource.INSTANCE).stream()
+            .map(SqlParameter::getName)
+            .collect(Collectors.toUnmodifiableList());
+    }
+
+    public static QueryPlan parse(Query query, String namedSql) {
+        return new QueryPlan(query, namedSql);
+    }
+
+    // names 순서로 값을 받아 ? 순서의 인자 배열을 만드는 Binder, SQL 의 파라미터 이름과 다르면 실패
+    public Binder binder(String... names) {
+        List<String> declared = List.of(names);
+        Set<String> distinct = new HashSet<>(declared);
+
+        if (distinct.size() != declared.size() || !distinct.equals(new HashSet<>(parameterNames))) {
+            throw new IllegalStateException(
+                query + " 의 파라미터 " + parameterNames + " 와 " + declared + " 가 다릅니다");
+        }
+
+        int[] positions = parameterNames.stream()
+            .mapToInt(declared::indexOf)
+            .toArray();
+        return new Binder(this, positions, names.length);
+    }
+
+    public Query getQuery() {
+        return query;
+    }
+
+    public String getNamedSql() {
+        return namedSql;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public List<String> getParameterNames() {
+        return parameterNames;
+    }
+
+    // IN (:ids) 처럼 컬렉션 값이 있는 호출만 값의 개수에 맞춰 ? 를 펼침
+    String expandSql(Object[] values) {
+        MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+        for (int i = 0; i < values.length; i++) {
+            parameterSource.addValue(parameterNames.get(i), values[i]);
+        }
+        return NamedParameterUtils.substituteNamedParameters(parsedSql, parameterSource);
+    }
+
+    public static final class Binder {
+
+        private final QueryPlan plan;
+        // ? 의 순서 -> bind 로 받은 값의 인덱스
+        private final int[] positions;
+        private final int arity;
+        private final boolean identity;
+
+        private Binder(QueryPlan plan, int[] positions, int arity) {
+            this.plan = plan;
+            this.positions = positions;
+            this.arity = arity;
+            this.identity = positions.length == arity
+                && Arrays.equals(positions, IntStream.range(0, arity).toArray());
+        }
+
+        public BoundQuery bind(Object... values) {
+            if (values.length != arity) {
+                throw new IllegalArgumentException(
+                    plan.query + " 는 " + arity + " 개의 값이 필요합니다: " + values.length);
+            }
+
+            // 이름이 한 번씩 순서대로 나오면 받은 배열을 그대로 사용
+            if (identity) {
+                return new BoundQuery(plan, values);
+            }
+
+            Object[] args = new Object[positions.length];
+            for (int i = 0; i < positions.length; i++) {
+                args[i] = values[positions[i]];
+            }
+            return new BoundQuery(plan, args);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.kakao.cafe.repository.jdbc;
+
+import com.kakao.cafe.replica.Replica;
+import com.kakao.cafe.replica.ReplicaRouter;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.support.DataAccessUtils;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+// BoundQuery 를 ? 로 바꿔 둔 SQL 과 인자 배열 그대로 실행하고 QueryMetrics 에 기록
+// 실행할 때마다 SQL 을 파싱하거나 파라미터 객체에서 값을 찾지 않음
+// Query.isReplicaRead 인 조회는 ReplicaRouter 가 고른 replica 에서, 나머지는 primary 에서 실행
+// readAtVersion 안의 조회는 버전을 확인한 replica 하나(뒤처져 있으면 primary)에서 실행
+@Component
+public class QueryTemplate {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcBatchTemplate batchTemplate;
+    private final QueryMetrics queryMetrics;
+    private final ReplicaRouter replicaRouter;
+
+    // readAtVersion 이 고른 조회 대상, empty 면 primary
+    private final ThreadLocal<Optional<Replica>> pinned = new ThreadLocal<>();
+
+    public QueryTemplate(JdbcTemplate jdbcTemplate, JdbcBatchTemplate batchTemplate,
+        QueryMetrics queryMetrics, ReplicaRouter replicaRouter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchTemplate = batchTemplate;
+        this.queryMetrics = queryMetrics;
+        this.replicaRouter = replicaRouter;
+    }
+
+    public <T> List<T> query(BoundQuery query, RowMapper<T> rowMapper) {
+        return queryMetrics.query(query, () -> read(query, rowMapper));
+    }
+
+    // 결과가 없으면 Optional.empty(), 두 행 이상이면 IncorrectResultSizeDataAccessException
+    public <T> Optional<T> queryForOptional(BoundQuery query, RowMapper<T> rowMapper) {
+        return Optional.ofNullable(DataAccessUtils.singleResult(query(query, rowMapper)));
+    }
+
+    public int update(BoundQuery query) {
+        int count = queryMetrics.update(query, () ->
+            jdbcTemplate.update(query.getSql(),
+                new ArgumentPreparedStatementSetter(query.getArgs())));
+        replicaRouter.wrote();
+        return count;
+    }
+
+    public int update(BoundQuery query, KeyHolder keyHolder) {
+        int count = queryMetrics.update(query, () ->
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(query.getSql(),
+                    Statement.RETURN_GENERATED_KEYS);
+                new ArgumentPreparedStatementSetter(query.getArgs()).setValues(ps);
+                return ps;
+            }, keyHolder));
+        replicaRouter.wrote();
+        return count;
+    }
+
+    public int[] batchUpdate(List<BoundQuery> queries) {
+        if (queries.isEmpty()) {
+            return new int[0];
+        }
+        int[] counts = queryMetrics.batchUpdate(queries, () -> batchTemplate.update(queries));
+        replicaRouter.wrote();
+        return counts;
+    }
+
+    // 생성된 키를 행 순서대로 반환, 드라이버가 키를 반환하지 않으면 빈 리스트
+    public List<Number> batchInsert(List<BoundQuery> queries) {
+        if (queries.isEmpty()) {
+            return List.of();
+        }
+        List<Number> keys = queryMetrics.batchInsert(queries,
+            () -> batchTemplate.insert(queries));
+        replicaRouter.wrote();
+        return keys;
+    }
+
+    // versionQuery 의 첫 번째 열로 replica 의 행 버전을 확인하고 action 의 조회를 그 replica 에서 실행
+    // 행이 없거나 버전이 minVersion 보다 낮으면(복제 지연) action 의 조회를 모두 primary 에서 실행
+    public <T> T readAtVersion(BoundQuery versionQuery, long minVersion, Supplier<T> action) {
+        if (pinned.get() != null) {
+            return action.get();
+        }
+
+        pinned.set(replicaAtVersion(versionQuery, minVersion));
+        try {
+            return action.get();
+        } finally {
+            pinned.remove();
+        }
+    }
+
+    public int getBatchSize() {
+        return batchTemplate.getBatchSize();
+    }
+
+    private Optional<Replica> replicaAtVersion(BoundQuery versionQuery, long minVersion) {
+        Optional<Replica> replica = replicaRouter.route();
+        if (replica.isEmpty()) {
+            return replica;
+        }
+
+        try {
+            List<Long> versions = queryMetrics.query(versionQuery, () ->
+                replica.get().getJdbcTemplate().query(versionQuery.getSql(),
+                    new ArgumentPreparedStatementSetter(versionQuery.getArgs()),
+                    (rs, rowNum) -> rs.getLong(1)));
+            if (!versions.isEmpty() && versions.get(0) >= minVersion) {
+                return replica;
+            }
+
+        } catch (DataAccessResourceFailureException e) {
+            replicaRouter.markDown(replica.get(), e);
+        }
+        return Optional.empty();
+    }
+
+    private <T> List<T> read(BoundQuery query, RowMapper<T> rowMapper) {
+        PreparedStatementSetter setter = new ArgumentPreparedStatementSetter(query.getArgs());
+
+        Optional<Replica> replica = query.getQuery().isReplicaRead()
+            ? route()
+            : Optional.empty();
+        if (replica.isPresent()) {
+            try {
+                return replica.get().getJdbcTemplate().query(query.getSql(), setter, rowMapper);
+
+            } catch (DataAccessResourceFailureException e) {
+                // 연결할 수 없는 replica 는 제외하고 primary 에서 다시 읽음
+                replicaRouter.markDown(replica.get(), e);
+            }
+        }
+        return jdbcTemplate.query(query.getSql(), setter, rowMapper);
+    }
+
+    private Optional<Replica> route() {
+        Optional<Replica> replica = pinned.get();
+        return replica != null ? replica : replicaRouter.route();
+    }
+}
@@ -2,17 +2,24 @@ package com.kakao.cafe.repository.jdbc;
 
 import com.kakao.cafe.config.QueryProps;
 import com.kakao.cafe.domain.Reply;
+import com.kakao.cafe.exception.ErrorCode;
+import com.kakao.cafe.exception.InternalOperationException;
+import com.kakao.cafe.exception.NotFoundException;
 import com.kakao.cafe.repository.ReplyRepository;
+import com.kakao.cafe.repository.jdbc.QueryPlan.Binder;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import org.springframework.dao.EmptyResultDataAccessException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import org.springframework.jdbc.core.RowMapper;
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.SingleColumnRowMapper;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public class ReplyJdbcRepository implements ReplyRepository {
@@ -25,82 +32,206 @@ public class ReplyJdbcRepository implements ReplyRepository {
     private static final String USER_ID_SNAKE = "user_id";
     private static final String COMMENT = "comment";
     private static final String CREATED_DATE = "created_date";
+    private static final String CREATED_DATE_CAMEL = "createdDate";
+    private static final String COUNT = "count";
+    private static final String SIZE = "size";
 
-    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final QueryTemplate queryTemplate;
     private final KeyHolderFactory keyHolderFactory;
-    private final QueryProps queryProps;
 
-    public ReplyJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate,
-        KeyHolderFactory keyHolderFactory, QueryProps queryProps) {
-        this.jdbcTemplate = jdbcTemplate;
+    private final Binder insertReply;
+    private final Binder insertReplyWithId;
+    private final Binder increaseReplyCount;
+    private final Binder updateReply;
+    private final Binder touchArticleByReply;
+    private final Binder allocateReplyIds;
+    private final Binder selectReplySequence;
+    private final Binder selectReply;
+    private final Binder selectReplies;
+    private final Binder deleteReply;
+    private final Binder decreaseReplyCount;
+    private final Binder countReplyByArticleAndNotUser;
+
+    public ReplyJdbcRepository(QueryTemplate queryTemplate, KeyHolderFactory keyHolderFactory,
+        QueryProps queryProps) {
+        this.queryTemplate = queryTemplate;
         this.keyHolderFactory = keyHolderFactory;
-        this.queryProps = queryProps;
+
+        // 파라미터 순서는 시작할 때 계산, query.yml 의 이름과 다르면 시작하지 않음
+        this.insertReply = queryProps.getPlan(Query.INSERT_REPLY)
+            .binder(ARTICLE_ID_CAMEL, USER_ID_CAMEL, COMMENT, CREATED_DATE_CAMEL);
+        this.insertReplyWithId = queryProps.getPlan(Query.INSERT_REPLY_WITH_ID)
+            .binder(REPLY_ID_CAMEL, ARTICLE_ID_CAMEL, USER_ID_CAMEL, COMMENT, CREATED_DATE_CAMEL);
+        this.increaseReplyCount = queryProps.getPlan(Query.INCREASE_REPLY_COUNT)
+            .binder(ARTICLE_ID_CAMEL, COUNT);
+        this.updateReply = queryProps.getPlan(Query.UPDATE_REPLY).binder(COMMENT, REPLY_ID_CAMEL);
+        this.touchArticleByReply = queryProps.getPlan(Query.TOUCH_ARTICLE_BY_REPLY)
+            .binder(REPLY_ID_CAMEL);
+        this.allocateReplyIds = queryProps.getPlan(Query.ALLOCATE_REPLY_IDS).binder(SIZE);
+        this.selectReplySequence = queryProps.getPlan(Query.SELECT_REPLY_SEQUENCE).binder();
+        this.selectReply = queryProps.getPlan(Query.SELECT_REPLY).binder(REPLY_ID_CAMEL);
+        this.selectReplies = queryProps.getPlan(Query.SELECT_REPLIES).binder(ARTICLE_ID_CAMEL);
+        this.deleteReply = queryProps.getPlan(Query.DELETE_REPLY).binder(REPLY_ID_CAMEL);
+        this.decreaseReplyCount = queryProps.getPlan(Query.DECREASE_REPLY_COUNT)
+            .binder(REPLY_ID_CAMEL);
+        this.countReplyByArticleAndNotUser = queryProps
+            .getPlan(Query.COUNT_REPLY_BY_ARTICLE_AND_NOT_USER)
+            .binder(USER_ID_CAMEL, ARTICLE_ID_CAMEL);
     }
 
     @Override
+    @Transactional
     public Reply save(Reply reply) {
         if (reply.getReplyId() == null) {
             // persist
-            String sql = queryProps.get(Query.INSERT_REPLY);
             KeyHolder keyHolder = keyHolderFactory.newKeyHolder();
 
             reply.setCreatedDate(LocalDateTime.now());
-            jdbcTemplate.update(sql, new BeanPropertySqlParameterSource(reply), keyHolder);
+            queryTemplate.update(bindInsert(reply), keyHolder);
 
             if (keyHolder.getKey() != null) {
                 reply.setReplyId(keyHolder.getKey().intValue());
             }
+
+            // 질문의 댓글 수 증가
+            queryTemplate.update(increaseReplyCount.bind(reply.getArticleId(), 1));
             return reply;
         }
-        // merge
-        String sql = queryProps.get(Query.UPDATE_REPLY);
-        jdbcTemplate.update(sql, new BeanPropertySqlParameterSource(reply));
+        // merge, 없는 댓글을 수정하면 저장한 것으로 응답하지 않음
+        if (queryTemplate.update(bindUpdate(reply)) == 0) {
+            throw new NotFoundException(ErrorCode.REPLY_NOT_FOUND);
+        }
+
+        // 댓글 내용이 바뀌었으므로 질문 버전 증가
+        queryTemplate.update(touchArticleByReply.bind(reply.getReplyId()));
 
         return reply;
     }
 
     @Override
-    public Optional<Reply> findById(Integer replyId) {
-        String sql = queryProps.get(Query.SELECT_REPLY);
+    @Transactional
+    public List<Reply> saveAll(Collection<Reply> replies) {
+        Map<Boolean, List<Reply>> partitioned = replies.stream()
+            .collect(Collectors.partitioningBy(reply -> reply.getReplyId() == null));
+
+        // persist
+        List<Reply> persistReplies = partitioned.get(true);
+        if (!persistReplies.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            persistReplies.forEach(reply -> reply.setCreatedDate(now));
+
+            List<Number> keys = queryTemplate.batchInsert(persistReplies.stream()
+                .map(this::bindInsert)
+                .collect(Collectors.toList()));
+
+            for (int i = 0; i < keys.size(); i++) {
+                persistReplies.get(i).setReplyId(keys.get(i).intValue());
+            }
 
-        try {
-            Reply reply = jdbcTemplate.queryForObject(sql,
-                new MapSqlParameterSource().addValue(REPLY_ID_CAMEL, replyId),
-                getReplyRowMapper()
-            );
-            return Optional.ofNullable(reply);
+            increaseReplyCounts(persistReplies);
+        }
 
-        } catch (EmptyResultDataAccessException e) {
-            return Optional.empty();
+        // merge
+        List<Reply> mergeReplies = partitioned.get(false);
+        if (!mergeReplies.isEmpty()) {
+            int[] counts = queryTemplate.batchUpdate(mergeReplies.stream()
+                .map(this::bindUpdate)
+                .collect(Collectors.toList()));
+            if (Arrays.stream(counts).anyMatch(count -> count == 0)) {
+                throw new NotFoundException(ErrorCode.REPLY_NOT_FOUND);
+            }
+            queryTemplate.batchUpdate(mergeReplies.stream()
+                .map(reply -> touchArticleByReply.bind(reply.getReplyId()))
+                .collect(Collectors.toList()));
         }
+
+        return List.copyOf(replies);
+    }
+
+    // id 가 미리 할당된 댓글을 한 번에 저장, 쓰기 지연 모드에서 사용
+    @Transactional
+    public void insertAll(List<Reply> replies) {
+        if (replies.isEmpty()) {
+            return;
+        }
+        queryTemplate.batchUpdate(replies.stream()
+            .map(reply -> insertReplyWithId.bind(reply.getReplyId(), reply.getArticleId(),
+                reply.getUserId(), reply.getComment(), reply.getCreatedDate()))
+            .collect(Collectors.toList()));
+        increaseReplyCounts(replies);
+    }
+
+    // size 개의 댓글 id 를 할당하고 마지막 id 를 반환, (반환값 - size, 반환값] 범위를 사용
+    @Transactional
+    public int allocateIds(int size) {
+        queryTemplate.update(allocateReplyIds.bind(size));
+
+        return queryTemplate.queryForOptional(selectReplySequence.bind(),
+                new SingleColumnRowMapper<>(Integer.class))
+            .orElseThrow(() -> new InternalOperationException(ErrorCode.INTERNAL_ERROR));
     }
 
     @Override
-    public List<Reply> findByArticleId(Integer articleId) {
-        String sql = queryProps.get(Query.SELECT_REPLIES);
+    public Optional<Reply> findById(Integer replyId) {
+        return queryTemplate.queryForOptional(selectReply.bind(replyId), getReplyRowMapper());
+    }
 
-        return jdbcTemplate.query(sql,
-            new MapSqlParameterSource().addValue(ARTICLE_ID_CAMEL, articleId),
-            getReplyRowMapper()
-        );
+    @Override
+    public List<Reply> findByArticleId(Integer articleId) {
+        return queryTemplate.query(selectReplies.bind(articleId), getReplyRowMapper());
     }
 
     @Override
+    @Transactional
     public void deleteById(Integer replyId) {
-        String sql = queryProps.get(Query.DELETE_REPLY);
-        jdbcTemplate.update(sql, new MapSqlParameterSource().addValue(REPLY_ID_CAMEL, replyId));
+        // 이미 삭제된 댓글이면 댓글 수를 변경하지 않음
+        if (queryTemplate.update(deleteReply.bind(replyId)) == 0) {
+            return;
+        }
+
+        // 질문의 댓글 수 감소
+        queryTemplate.update(decreaseReplyCount.bind(replyId));
     }
 
     @Override
     public Integer countByArticleIdAndNotUserId(String userId, Integer articleId) {
-        String sql = queryProps.get(Query.COUNT_REPLY_BY_ARTICLE_AND_NOT_USER);
+        return queryTemplate.queryForOptional(countReplyByArticleAndNotUser.bind(userId,
+                articleId), new SingleColumnRowMapper<>(Integer.class))
+            .orElse(0);
+    }
+
+    @Override
+    public boolean hasPendingReplies(Integer articleId) {
+        return false;
+    }
+
+    // 삭제 쿼리가 저장된 댓글을 함께 확인하므로 막을 필요가 없음
+    @Override
+    public <T> T lockArticle(Integer articleId, Supplier<T> action) {
+        return action.get();
+    }
+
+    // 질문별로 묶어 댓글 수를 한 번씩만 증가
+    private void increaseReplyCounts(List<Reply> replies) {
+        List<BoundQuery> counts = replies.stream()
+            .collect(Collectors.groupingBy(Reply::getArticleId, Collectors.counting()))
+            .entrySet().stream()
+            .map(entry -> increaseReplyCount.bind(entry.getKey(), entry.getValue()))
+            .collect(Collectors.toList());
+
+        queryTemplate.batchUpdate(counts);
+    }
+
+    private BoundQuery bindInsert(Reply reply) {
+        return insertReply.bind(reply.getArticleId(), reply.getUserId(), reply.getComment(),
+            reply.getCreatedDate());
+    }
 
-        return jdbcTemplate.queryForObject(sql, new MapSqlParameterSource()
-            .addValue(USER_ID_CAMEL, userId)
-            .addValue(ARTICLE_ID_CAMEL, articleId), Integer.class);
+    private BoundQuery bindUpdate(Reply reply) {
+        return updateReply.bind(reply.getComment(), reply.getReplyId());
     }
 
-    private RowMapper<Reply> getReplyRowMapper() {
+    RowMapper<Reply> getReplyRowMapper() {
         return (rs, rowNum) -> new Reply(
             rs.getInt(REPLY_ID_SNAKE),
             rs.getInt(ARTICLE_ID_SNAKE),
@@ -0,0 +1,202 @@
+package com.kakao.cafe.repository.jdbc;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// threshold 보다 오래 걸린 쿼리를 Query 이름, 파라미터, 행 수, 실행 시간과 함께 백그라운드 스레드에서 로그로 남김
+// 실행 계획은 Query 마다 처음 한 번만 EXPLAIN 으로 조회해 재사용
+// 요청 스레드는 느린 쿼리만 샘플링, 초당 개수 제한을 거쳐 큐에 넣고, 큐가 가득 차면 버림
+@Component
+public class SlowQueryLog implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlowQueryLog.class);
+
+    private static final Set<String> REDACTED_PARAMETERS = Set.of("password");
+    private static final String REDACTED = "****";
+    private static final String EXPLAIN = "EXPLAIN ";
+
+    private static final int CAPACITY = 1000;
+    private static final long POLL_MILLIS = 100;
+    private static final long SHUTDOWN_MILLIS = 3000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final long thresholdNanos;
+    private final double sampleRate;
+    private final int maxPerSecond;
+
+    // Query -> 실행 계획, writer 스레드만 사용
+    private final Map<Query, String> plans = new EnumMap<>(Query.class);
+
+    // 현재 1초 구간과 그 구간에 남긴 로그 수
+    private final AtomicLong window = new AtomicLong();
+    private final AtomicInteger permits = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final BlockingQueue<SlowQuery> queue = new ArrayBlockingQueue<>(CAPACITY);
+    private final Thread writer;
+    private volatile boolean running;
+
+    public SlowQueryLog(NamedParameterJdbcTemplate jdbcTemplate,
+        @Value("${cafe.slow-query.enabled:false}") boolean enabled,
+        @Value("${cafe.slow-query.threshold-millis:500}") long thresholdMillis,
+        @Value("${cafe.slow-query.sample-rate:1.0}") double sampleRate,
+        @Value("${cafe.slow-query.max-per-second:10}") int maxPerSecond) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.sampleRate = sampleRate;
+        this.maxPerSecond = maxPerSecond;
+        this.running = enabled;
+
+        if (enabled) {
+            this.writer = new Thread(this::writeLoop, "slow-query-log");
+            this.writer.setDaemon(true);
+            this.writer.start();
+        } else {
+            this.writer = null;
+        }
+    }
+
+    // 테스트, 벤치마크처럼 Spring 없이 저장소를 만들 때 사용
+    public static SlowQueryLog disabled() {
+        return new SlowQueryLog(null, false, 0, 0, 0);
+    }
+
+    // 배치는 첫 행의 파라미터를 남김, rows 가 음수면 실패한 쿼리
+    public void record(BoundQuery query, int batchSize, int rows, long elapsedNanos) {
+        if (!running || elapsedNanos < thresholdNanos || !sampled() || !acquire()) {
+            return;
+        }
+
+        SlowQuery slowQuery = new SlowQuery(query.getPlan(), snapshot(query), batchSize, rows,
+            elapsedNanos);
+        if (!queue.offer(slowQuery)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        writer.join(SHUTDOWN_MILLIS);
+    }
+
+    private boolean sampled() {
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    // 1초 단위 고정 구간으로 개수를 제한, 구간이 바뀔 때 여러 스레드가 경합해도 한 번만 초기화
+    private boolean acquire() {
+        long now = System.currentTimeMillis() / 1000;
+        long current = window.get();
+        if (current != now && window.compareAndSet(current, now)) {
+            permits.set(0);
+        }
+        return permits.incrementAndGet() <= maxPerSecond;
+    }
+
+    // 값 배열은 호출 후 바뀔 수 있으므로 요청 스레드에서 이름과 함께 복사, 같은 이름이 두 번 나오면 한 번만
+    private Map<String, Object> snapshot(BoundQuery query) {
+        List<String> names = query.getPlan().getParameterNames();
+        Object[] values = query.getValues();
+
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            parameters.put(names.get(i), values[i]);
+        }
+        return parameters;
+    }
+
+    private void writeLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                SlowQuery slowQuery = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (slowQuery != null) {
+                    write(slowQuery);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.warn("느린 쿼리 로그를 남기지 못했습니다", e);
+            }
+        }
+    }
+
+    private void write(SlowQuery slowQuery) {
+        String plan = plans.computeIfAbsent(slowQuery.plan.getQuery(),
+            query -> explain(slowQuery.plan, slowQuery.parameters));
+
+        long droppedCount = dropped.getAndSet(0);
+        logger.warn("slow query {} {}ms rows={} batch={} params={} dropped={}\n{}",
+            slowQuery.plan.getQuery(),
+            TimeUnit.NANOSECONDS.toMillis(slowQuery.elapsedNanos),
+            slowQuery.rows < 0 ? "failed" : slowQuery.rows,
+            slowQuery.batchSize,
+            redact(slowQuery.parameters),
+            droppedCount,
+            plan);
+    }
+
+    // H2 는 PLAN 한 컬럼, MySQL 은 테이블마다 한 행을 반환
+    private String explain(QueryPlan queryPlan, Map<String, Object> parameters) {
+        try {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                EXPLAIN + queryPlan.getNamedSql(), new MapSqlParameterSource(parameters));
+
+            List<String> lines = new ArrayList<>();
+            for (Map<String, Object> row : rows) {
+                lines.add(row.size() == 1
+                    ? String.valueOf(row.values().iterator().next())
+                    : row.toString());
+            }
+            return String.join("\n", lines);
+
+        } catch (DataAccessException e) {
+            return "EXPLAIN 실패: " + e.getMostSpecificCause().getMessage();
+        }
+    }
+
+    private Map<String, Object> redact(Map<String, Object> parameters) {
+        Map<String, Object> redacted = new LinkedHashMap<>(parameters);
+        REDACTED_PARAMETERS.forEach(name -> redacted.replace(name, REDACTED));
+        return redacted;
+    }
+
+    private static class SlowQuery {
+
+        private final QueryPlan plan;
+        private final Map<String, Object> parameters;
+        private final int batchSize;
+        private final int rows;
+        private final long elapsedNanos;
+
+        SlowQuery(QueryPlan plan, Map<String, Object> parameters, int batchSize, int rows,
+            long elapsedNanos) {
+            this.plan = plan;
+            this.parameters = parameters;
+            this.batchSize = batchSize;
+            this.rows = rows;
+            this.elapsedNanos = elapsedNanos;
+        }
+    }
+}
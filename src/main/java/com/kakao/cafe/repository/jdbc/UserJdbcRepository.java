@@ -1,18 +1,27 @@
 package com.kakao.cafe.repository.jdbc;
 
 import com.kakao.cafe.config.QueryProps;
+import com.kakao.cafe.domain.ResourceVersion;
 import com.kakao.cafe.domain.User;
 import com.kakao.cafe.exception.ErrorCode;
 import com.kakao.cafe.exception.InternalOperationException;
 import com.kakao.cafe.repository.UserRepository;
+import com.kakao.cafe.repository.jdbc.QueryPlan.Binder;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import org.springframework.dao.EmptyResultDataAccessException;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import org.springframework.jdbc.core.RowMapper;
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.SingleColumnRowMapper;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public class UserJdbcRepository implements UserRepository {
@@ -22,67 +31,131 @@ public class UserJdbcRepository implements UserRepository {
     private static final String PASSWORD = "password";
     private static final String NAME = "name";
     private static final String EMAIL = "email";
+    private static final String USER_IDS = "userIds";
+    private static final String VERSION = "version";
+    private static final String UPDATED_DATE = "updated_date";
+
+    private final QueryTemplate queryTemplate;
+
+    private final Binder countUser;
+    private final Binder selectUserIds;
+    private final Binder insertUser;
+    private final Binder updateUser;
+    private final Binder selectUsers;
+    private final Binder selectUser;
+    private final Binder selectUserVersion;
+    private final Binder deleteUsers;
+
+    public UserJdbcRepository(QueryTemplate queryTemplate, QueryProps queryProps) {
+        this.queryTemplate = queryTemplate;
+
+        // 파라미터 순서는 시작할 때 계산, query.yml 의 이름과 다르면 시작하지 않음
+        this.countUser = queryProps.getPlan(Query.COUNT_USER).binder(USER_ID_CAMEL);
+        this.selectUserIds = queryProps.getPlan(Query.SELECT_USER_IDS).binder(USER_IDS);
+        this.insertUser = queryProps.getPlan(Query.INSERT_USER)
+            .binder(USER_ID_CAMEL, PASSWORD, NAME, EMAIL);
+        this.updateUser = queryProps.getPlan(Query.UPDATE_USER)
+            .binder(NAME, EMAIL, USER_ID_CAMEL);
+        this.selectUsers = queryProps.getPlan(Query.SELECT_USERS).binder();
+        this.selectUser = queryProps.getPlan(Query.SELECT_USER).binder(USER_ID_CAMEL);
+        this.selectUserVersion = queryProps.getPlan(Query.SELECT_USER_VERSION)
+            .binder(USER_ID_CAMEL);
+        this.deleteUsers = queryProps.getPlan(Query.DELETE_USERS).binder();
+    }
 
-    private final NamedParameterJdbcTemplate jdbcTemplate;
-    private final QueryProps queryProps;
+    @Override
+    public User save(User user) {
+        BoundQuery query = count(user.getUserId()) == 0 ? bindInsert(user) : bindUpdate(user);
 
-    public UserJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate, QueryProps queryProps) {
-        this.jdbcTemplate = jdbcTemplate;
-        this.queryProps = queryProps;
+        queryTemplate.update(query);
+        return user;
     }
 
     @Override
-    public User save(User user) {
-        BeanPropertySqlParameterSource parameterSource = new BeanPropertySqlParameterSource(user);
+    @Transactional
+    public List<User> saveAll(Collection<User> users) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
 
-        String sql = count(parameterSource) == 0
-            ? queryProps.get(Query.INSERT_USER)
-            : queryProps.get(Query.UPDATE_USER);
+        // 같은 아이디가 여러 번 있으면 마지막 값으로 한 번만 저장
+        Map<String, User> uniqueUsers = new LinkedHashMap<>();
+        users.forEach(user -> uniqueUsers.put(user.getUserId(), user));
 
-        jdbcTemplate.update(sql, parameterSource);
-        return user;
+        Set<String> savedUserIds = findSavedUserIds(new ArrayList<>(uniqueUsers.keySet()));
+
+        Map<Boolean, List<User>> partitioned = uniqueUsers.values().stream()
+            .collect(Collectors.partitioningBy(user -> savedUserIds.contains(user.getUserId())));
+
+        queryTemplate.batchUpdate(partitioned.get(false).stream()
+            .map(this::bindInsert)
+            .collect(Collectors.toList()));
+        queryTemplate.batchUpdate(partitioned.get(true).stream()
+            .map(this::bindUpdate)
+            .collect(Collectors.toList()));
+
+        return List.copyOf(users);
     }
 
     @Override
     public List<User> findAll() {
-        String sql = queryProps.get(Query.SELECT_USERS);
-        return jdbcTemplate.query(sql, getUserRowMapper());
+        return queryTemplate.query(selectUsers.bind(), getUserRowMapper());
     }
 
     @Override
     public Optional<User> findByUserId(String userId) {
-        String sql = queryProps.get(Query.SELECT_USER);
-
-        try {
-            User user = jdbcTemplate.queryForObject(sql,
-                new MapSqlParameterSource().addValue(USER_ID_CAMEL, userId),
-                getUserRowMapper()
-            );
-            return Optional.ofNullable(user);
+        return queryTemplate.queryForOptional(selectUser.bind(userId), getUserRowMapper());
+    }
 
-        } catch (EmptyResultDataAccessException e) {
-            return Optional.empty();
-        }
+    @Override
+    public Optional<ResourceVersion> findVersionByUserId(String userId) {
+        return queryTemplate.queryForOptional(selectUserVersion.bind(userId),
+            (rs, rowNum) -> new ResourceVersion(
+                rs.getLong(VERSION),
+                rs.getObject(UPDATED_DATE, LocalDateTime.class)
+            ));
+    }
 
+    @Override
+    public <T> T readAtVersion(String userId, long version, Supplier<T> action) {
+        return queryTemplate.readAtVersion(selectUserVersion.bind(userId), version, action);
     }
 
     @Override
     public void deleteAll() {
-        String sql = queryProps.get(Query.DELETE_USERS);
-        jdbcTemplate.update(sql, new MapSqlParameterSource());
+        queryTemplate.update(deleteUsers.bind());
     }
 
-    private Integer count(BeanPropertySqlParameterSource parameterSource) {
-        Integer count = jdbcTemplate.queryForObject(queryProps.get(Query.COUNT_USER),
-            parameterSource, Integer.class);
+    // 유저마다 COUNT 를 실행하지 않고 이미 저장된 아이디를 batchSize 개씩 조회
+    // IN 목록이 placeholder 수, 패킷 크기 제한을 넘지 않도록 나눠서 조회
+    private Set<String> findSavedUserIds(List<String> userIds) {
+        Set<String> savedUserIds = new HashSet<>();
+        int batchSize = queryTemplate.getBatchSize();
 
-        if (count == null) {
-            throw new InternalOperationException(ErrorCode.INTERNAL_ERROR);
+        for (int from = 0; from < userIds.size(); from += batchSize) {
+            List<String> chunk = userIds.subList(from, Math.min(from + batchSize, userIds.size()));
+            savedUserIds.addAll(queryTemplate.query(selectUserIds.bind(chunk),
+                new SingleColumnRowMapper<>(String.class)));
         }
-        return count;
+        return savedUserIds;
+    }
+
+    private Integer count(String userId) {
+        return queryTemplate.queryForOptional(countUser.bind(userId),
+                new SingleColumnRowMapper<>(Integer.class))
+            .orElseThrow(() -> new InternalOperationException(ErrorCode.INTERNAL_ERROR));
+    }
+
+    private BoundQuery bindInsert(User user) {
+        return insertUser.bind(user.getUserId(), user.getPassword(), user.getName(),
+            user.getEmail());
+    }
+
+    private BoundQuery bindUpdate(User user) {
+        return updateUser.bind(user.getName(), user.getEmail(), user.getUserId());
     }
 
-    private RowMapper<User> getUserRowMapper() {
+    RowMapper<User> getUserRowMapper() {
         return (rs, rowNum) ->
             new User(
                 rowNum + 1,
@@ -0,0 +1,91 @@
+package com.kakao.cafe.repository.writebehind;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kakao.cafe.domain.Reply;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// 재시도해도 저장하지 못한 댓글을 한 줄에 하나씩 NDJSON 파일 끝에 추가
+// 데이터베이스가 원인일 수 있으므로 테이블이 아닌 파일에 남기고, POST /articles/answers/import 로 다시 가져옴
+// cafe.reply.dead.letter : 저장하지 못한 댓글 수, 0 보다 커지면 파일을 다시 가져와야 함
+public class ReplyDeadLetter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplyDeadLetter.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Path path;
+    private final Counter deadLetters;
+
+    // writer 스레드와 종료 중 drain 하는 스레드가 같은 파일에 쓰지 않도록 직렬화
+    private final Lock lock = new ReentrantLock();
+
+    public ReplyDeadLetter(Path path, MeterRegistry registry) {
+        this.path = path;
+        this.deadLetters = Counter.builder("cafe.reply.dead.letter")
+            .description("replies the write-behind writer failed to save")
+            .tag("file", path.toString())
+            .register(registry);
+    }
+
+    // 파일에도 쓰지 못하면 댓글 내용을 ERROR 로그로 남김
+    public void append(List<Reply> replies) {
+        if (replies.isEmpty()) {
+            return;
+        }
+        deadLetters.increment(replies.size());
+
+        lock.lock();
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (Reply reply : replies) {
+                writer.write(toJson(reply));
+                writer.newLine();
+            }
+            logger.error("wrote {} unsaved replies to {}", replies.size(), path);
+
+        } catch (IOException e) {
+            for (Reply reply : replies) {
+                logger.error("lost reply {}", toJsonOrString(reply), e);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    private String toJson(Reply reply) throws JsonProcessingException {
+        // 가져오기 형식(articleId, userId, comment)에 원래 id 와 작성 시각을 함께 기록
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("articleId", reply.getArticleId());
+        row.put("userId", reply.getUserId());
+        row.put("comment", reply.getComment());
+        row.put("replyId", reply.getReplyId());
+        row.put("createdDate", String.valueOf(reply.getCreatedDate()));
+        return OBJECT_MAPPER.writeValueAsString(row);
+    }
+
+    private String toJsonOrString(Reply reply) {
+        try {
+            return toJson(reply);
+        } catch (JsonProcessingException e) {
+            return reply.toString();
+        }
+    }
+}
@@ -0,0 +1,427 @@
+package com.kakao.cafe.repository.writebehind;
+
+import com.kakao.cafe.domain.Reply;
+import com.kakao.cafe.exception.ErrorCode;
+import com.kakao.cafe.exception.InternalOperationException;
+import com.kakao.cafe.replica.ReplicaRouter;
+import com.kakao.cafe.repository.ReplyRepository;
+import com.kakao.cafe.repository.jdbc.ReplyJdbcRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+
+// 새 댓글은 id 를 먼저 할당해 큐에 넣고 응답, 백그라운드 writer 가 쌓인 댓글을 한 번에 저장
+public class ReplyWriteBehindRepository implements ReplyRepository, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(
+        ReplyWriteBehindRepository.class);
+
+    private static final long POLL_MILLIS = 100;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int ARTICLE_LOCK_STRIPES = 64;
+
+    private final ReplyJdbcRepository replyRepository;
+    private final BlockingQueue<Reply> queue;
+    private final int batchSize;
+    private final Duration offerTimeout;
+    private final Duration shutdownTimeout;
+    private final ReplyDeadLetter deadLetter;
+    private final ReplicaRouter replicaRouter;
+
+    // 아직 저장되지 않은 댓글, 질문 id -> 댓글 id -> 댓글
+    private final Map<Integer, Map<Integer, Reply>> pending = new ConcurrentHashMap<>();
+    private final List<Consumer<List<Reply>>> flushListeners = new CopyOnWriteArrayList<>();
+
+    // 큐에 넣은 댓글 수와 writer 가 처리를 끝낸 댓글 수, flush 대기에 사용
+    // 가상 스레드가 대기 중 캐리어 스레드에 고정되지 않도록 synchronized 대신 Lock 을 사용
+    private final Lock progressLock = new ReentrantLock();
+    private final Condition progressed = progressLock.newCondition();
+    private long enqueued;
+    private long completed;
+
+    // 종료 중에는 새 댓글을 큐에 넣지 않도록 running 변경과 enqueue 를 직렬화
+    private final ReadWriteLock runningLock = new ReentrantReadWriteLock();
+    private volatile boolean running = true;
+
+    // 질문 id 로 나눈 lock, 질문을 삭제하는 동안 그 질문의 댓글을 큐에 넣지 않음
+    private final ReadWriteLock[] articleLocks = new ReadWriteLock[ARTICLE_LOCK_STRIPES];
+
+    private final Thread writer;
+
+    // 미리 할당받은 id 범위 (nextId, lastId], 할당 중 JDBC 호출이 있어 Lock 으로 보호
+    private final Lock idLock = new ReentrantLock();
+    private int nextId;
+    private int lastId;
+
+    public ReplyWriteBehindRepository(ReplyJdbcRepository replyRepository, int capacity,
+        int batchSize, Duration offerTimeout, Duration shutdownTimeout,
+        ReplyDeadLetter deadLetter, ReplicaRouter replicaRouter) {
+        this.replyRepository = replyRepository;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.offerTimeout = offerTimeout;
+        this.shutdownTimeout = shutdownTimeout;
+        this.deadLetter = deadLetter;
+        this.replicaRouter = replicaRouter;
+
+        for (int i = 0; i < articleLocks.length; i++) {
+            articleLocks[i] = new ReentrantReadWriteLock();
+        }
+
+        this.writer = new Thread(this::writeLoop, "reply-write-behind");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public Reply save(Reply reply) {
+        if (reply.getReplyId() != null) {
+            // merge, 큐에 남은 댓글을 먼저 저장한 뒤 바로 반영
+            flush();
+            return replyRepository.save(reply);
+        }
+
+        reply.setReplyId(nextId());
+        reply.setCreatedDate(LocalDateTime.now());
+
+        Lock articleLock = articleLock(reply.getArticleId()).readLock();
+        articleLock.lock();
+        runningLock.readLock().lock();
+        try {
+            if (!running) {
+                replyRepository.insertAll(List.of(reply));
+                return reply;
+            }
+            addPending(reply);
+
+            // 큐가 가득 차면 offerTimeout 동안만 기다리고 요청을 거절
+            if (!queue.offer(reply, offerTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                removePending(List.of(reply));
+                throw new InternalOperationException(ErrorCode.REPLY_QUEUE_FULL);
+            }
+            progressLock.lock();
+            try {
+                enqueued++;
+            } finally {
+                progressLock.unlock();
+            }
+
+            // writer 스레드에는 요청의 read-your-writes 상태가 없으므로 큐에 넣은 요청에서 primary 로 고정
+            // 저장 후 pending 에서 빠진 댓글도 작성자는 replica 가 아닌 primary 에서 읽음
+            replicaRouter.wrote();
+            return reply;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            removePending(List.of(reply));
+            throw new InternalOperationException(ErrorCode.REPLY_QUEUE_FULL);
+        } finally {
+            runningLock.readLock().unlock();
+            articleLock.unlock();
+        }
+    }
+
+    // 대량 저장은 큐를 거치지 않고 할당한 id 로 바로 저장
+    @Override
+    public List<Reply> saveAll(Collection<Reply> replies) {
+        flush();
+
+        List<Reply> persistReplies = new ArrayList<>();
+        List<Reply> mergeReplies = new ArrayList<>();
+
+        for (Reply reply : replies) {
+            if (reply.getReplyId() == null) {
+                reply.setReplyId(nextId());
+                reply.setCreatedDate(LocalDateTime.now());
+                persistReplies.add(reply);
+            } else {
+                mergeReplies.add(reply);
+            }
+        }
+
+        try {
+            replyRepository.insertAll(persistReplies);
+        } catch (DataAccessException e) {
+            // 저장하지 못한 댓글에 할당한 id 를 지워 다시 저장할 때 merge 가 아닌 persist 로 처리
+            for (Reply reply : persistReplies) {
+                reply.setReplyId(null);
+                reply.setCreatedDate(null);
+            }
+            throw e;
+        }
+        if (!mergeReplies.isEmpty()) {
+            replyRepository.saveAll(mergeReplies);
+        }
+        notifyFlushed(persistReplies);
+        return List.copyOf(replies);
+    }
+
+    @Override
+    public Optional<Reply> findById(Integer replyId) {
+        for (Map<Integer, Reply> replies : pending.values()) {
+            Reply reply = replies.get(replyId);
+            if (reply != null) {
+                return Optional.of(reply);
+            }
+        }
+        return replyRepository.findById(replyId);
+    }
+
+    // 저장 대기 중인 댓글을 포함해 작성자가 바로 자신의 댓글을 볼 수 있도록 함
+    @Override
+    public List<Reply> findByArticleId(Integer articleId) {
+        // 대기 중인 댓글을 먼저 읽어야 그 사이 저장된 댓글을 놓치지 않음
+        List<Reply> pendingReplies = List.copyOf(
+            pending.getOrDefault(articleId, Map.of()).values());
+        List<Reply> savedReplies = replyRepository.findByArticleId(articleId);
+
+        if (pendingReplies.isEmpty()) {
+            return savedReplies;
+        }
+
+        Set<Integer> savedIds = savedReplies.stream()
+            .map(Reply::getReplyId)
+            .collect(Collectors.toSet());
+
+        List<Reply> replies = new ArrayList<>(savedReplies);
+        pendingReplies.stream()
+            .filter(reply -> !savedIds.contains(reply.getReplyId()))
+            .forEach(replies::add);
+
+        replies.sort(Comparator.comparing(Reply::getReplyId).reversed());
+        return replies;
+    }
+
+    @Override
+    public void deleteById(Integer replyId) {
+        flush();
+        replyRepository.deleteById(replyId);
+    }
+
+    @Override
+    public Integer countByArticleIdAndNotUserId(String userId, Integer articleId) {
+        flush();
+        return replyRepository.countByArticleIdAndNotUserId(userId, articleId);
+    }
+
+    @Override
+    public boolean hasPendingReplies(Integer articleId) {
+        return articleId != null && pending.containsKey(articleId);
+    }
+
+    // 대기 중인 댓글 확인과 삭제 사이에 큐에 들어온 댓글을 삭제 쿼리가 보지 못하는 경우를 막음
+    @Override
+    public <T> T lockArticle(Integer articleId, Supplier<T> action) {
+        Lock articleLock = articleLock(articleId).writeLock();
+        articleLock.lock();
+        try {
+            return action.get();
+        } finally {
+            articleLock.unlock();
+        }
+    }
+
+    // 저장된 댓글 목록을 전달, 캐시 무효화 등에 사용
+    public void addFlushListener(Consumer<List<Reply>> listener) {
+        flushListeners.add(listener);
+    }
+
+    // 지금까지 큐에 넣은 댓글이 모두 처리될 때까지 대기
+    public void flush() {
+        progressLock.lock();
+        try {
+            long target = enqueued;
+
+            while (completed < target && writer.isAlive()) {
+                progressed.await(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            progressLock.unlock();
+        }
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    // 새 댓글을 받지 않고 큐에 남은 댓글을 모두 저장한 뒤 종료
+    @Override
+    public void close() {
+        runningLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            runningLock.writeLock().unlock();
+        }
+
+        try {
+            writer.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (!queue.isEmpty()) {
+            logger.warn("reply writer did not finish in {}, flushing {} replies on {}",
+                shutdownTimeout, queue.size(), Thread.currentThread().getName());
+            drain();
+        }
+    }
+
+    private ReadWriteLock articleLock(Integer articleId) {
+        return articleLocks[Math.floorMod(Objects.hashCode(articleId), articleLocks.length)];
+    }
+
+    private void writeLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                Reply first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                // 이전 배치를 저장하는 동안 쌓인 댓글을 한 번에 저장 (group commit)
+                List<Reply> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.error("reply writer failed", e);
+            }
+        }
+    }
+
+    private void drain() {
+        List<Reply> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch = new ArrayList<>(batchSize);
+        }
+    }
+
+    private void write(List<Reply> batch) {
+        try {
+            if (!insertWithRetry(batch)) {
+                // 배치 중 저장할 수 없는 댓글만 골라내기 위해 한 건씩 다시 저장
+                // 이미 저장했다고 응답한 댓글이므로 버리지 않고 dead letter 파일에 남김
+                // 저장하지 못한 댓글은 조회에서 빠지므로 cafe.reply.dead.letter 지표로 알림
+                List<Reply> saved = new ArrayList<>();
+                List<Reply> failed = new ArrayList<>();
+                for (Reply reply : batch) {
+                    if (insertWithRetry(List.of(reply))) {
+                        saved.add(reply);
+                    } else {
+                        failed.add(reply);
+                    }
+                }
+                deadLetter.append(failed);
+                notifyFlushed(saved);
+                return;
+            }
+            notifyFlushed(batch);
+
+        } finally {
+            removePending(batch);
+            progressLock.lock();
+            try {
+                completed += batch.size();
+                progressed.signalAll();
+            } finally {
+                progressLock.unlock();
+            }
+        }
+    }
+
+    private boolean insertWithRetry(List<Reply> replies) {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                replyRepository.insertAll(replies);
+                return true;
+
+            } catch (DataAccessException e) {
+                logger.warn("failed to write {} replies (attempt {}/{})", replies.size(),
+                    attempt, MAX_ATTEMPTS, e);
+                sleep(POLL_MILLIS * attempt);
+            }
+        }
+        return false;
+    }
+
+    private void notifyFlushed(List<Reply> replies) {
+        if (replies.isEmpty()) {
+            return;
+        }
+        for (Consumer<List<Reply>> listener : flushListeners) {
+            listener.accept(replies);
+        }
+    }
+
+    // removePending 과 같은 질문의 맵을 동시에 변경하지 않도록 compute 안에서 추가
+    private void addPending(Reply reply) {
+        pending.compute(reply.getArticleId(), (articleId, articleReplies) -> {
+            Map<Integer, Reply> replies =
+                articleReplies == null ? new ConcurrentHashMap<>() : articleReplies;
+            replies.put(reply.getReplyId(), reply);
+            return replies;
+        });
+    }
+
+    private void removePending(List<Reply> replies) {
+        for (Reply reply : replies) {
+            pending.computeIfPresent(reply.getArticleId(), (articleId, articleReplies) -> {
+                articleReplies.remove(reply.getReplyId());
+                return articleReplies.isEmpty() ? null : articleReplies;
+            });
+        }
+    }
+
+    // 댓글 id 를 batchSize 개씩 데이터베이스에서 할당받아 사용
+    private int nextId() {
+        idLock.lock();
+        try {
+            if (nextId >= lastId) {
+                lastId = replyRepository.allocateIds(batchSize);
+                nextId = lastId - batchSize;
+            }
+            return ++nextId;
+        } finally {
+            idLock.unlock();
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
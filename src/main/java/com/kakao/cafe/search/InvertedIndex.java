@@ -0,0 +1,239 @@
+package com.kakao.cafe.search;
+
+import com.kakao.cafe.domain.Article;
+import com.kakao.cafe.domain.Reply;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 질문 하나(제목, 본문, 댓글)를 문서 하나로 색인하고 BM25 로 순위를 매김
+// 검색은 읽기 락으로 동시에 처리하고, 질문 하나를 다시 색인할 때만 쓰기 락을 잡음
+public class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // 제목에 나온 토큰은 본문, 댓글보다 높은 점수를 받도록 출현 횟수에 곱함
+    private static final int TITLE_WEIGHT = 3;
+
+    private final KoreanTokenizer tokenizer;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 토큰 -> (질문 id -> 가중치를 곱한 출현 횟수)
+    private final Map<String, Map<Integer, Integer>> postings = new HashMap<>();
+    private final Map<Integer, Document> documents = new HashMap<>();
+    private long totalLength;
+    private long postingCount;
+
+    public InvertedIndex(KoreanTokenizer tokenizer) {
+        this.tokenizer = tokenizer;
+    }
+
+    // 같은 질문이 이미 색인되어 있으면 교체
+    public void put(Article article, List<Reply> replies) {
+        Document document = toDocument(article, replies);
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(article.getArticleId());
+            addDocument(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Integer articleId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(articleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 점수가 높은 순, 같으면 최신 질문 순으로 limit 개까지 반환
+    public List<SearchHit> search(String query, int limit) {
+        Set<String> tokens = new LinkedHashSet<>(tokenizer.tokenize(query));
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty()) {
+                return List.of();
+            }
+
+            double averageLength = (double) totalLength / documents.size();
+            Map<Integer, Candidate> candidates = new HashMap<>();
+
+            for (String token : tokens) {
+                Map<Integer, Integer> posting = postings.get(token);
+                if (posting == null) {
+                    continue;
+                }
+
+                double idf = idf(posting.size());
+                for (Map.Entry<Integer, Integer> entry : posting.entrySet()) {
+                    Document document = documents.get(entry.getKey());
+                    double score = idf * termScore(entry.getValue(), document.length,
+                        averageLength);
+                    candidates.computeIfAbsent(entry.getKey(), id -> new Candidate(document))
+                        .add(score);
+                }
+            }
+
+            int minimumMatch = minimumMatch(tokens.size());
+            List<SearchHit> hits = new ArrayList<>();
+            candidates.values().stream()
+                .filter(candidate -> candidate.matched >= minimumMatch)
+                .sorted(Comparator.comparingDouble(Candidate::getScore).reversed()
+                    .thenComparing(Candidate::getArticleId, Comparator.reverseOrder()))
+                .limit(limit)
+                .forEach(candidate -> hits.add(candidate.toHit()));
+            return hits;
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getDocumentCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getTermCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getPostingCount() {
+        lock.readLock().lock();
+        try {
+            return postingCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 토큰이 적으면 모두 일치해야 하고, 많으면 조사 등으로 달라진 일부 토큰은 일치하지 않아도 됨
+    private int minimumMatch(int tokenCount) {
+        if (tokenCount <= 2) {
+            return tokenCount;
+        }
+        return (int) Math.ceil(tokenCount * 0.75);
+    }
+
+    private double idf(int documentFrequency) {
+        return Math.log(1 + (documents.size() - documentFrequency + 0.5)
+            / (documentFrequency + 0.5));
+    }
+
+    private double termScore(int frequency, int length, double averageLength) {
+        return frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * length / averageLength));
+    }
+
+    private Document toDocument(Article article, List<Reply> replies) {
+        Map<String, Integer> terms = new HashMap<>();
+        count(terms, article.getTitle(), TITLE_WEIGHT);
+        count(terms, article.getContents(), 1);
+        for (Reply reply : replies) {
+            count(terms, reply.getComment(), 1);
+        }
+
+        Article summary = new Article(article.getArticleId(), article.getWriter(),
+            article.getTitle(), null, article.getCreatedDate(), replies.size());
+        return new Document(summary, terms);
+    }
+
+    private void count(Map<String, Integer> terms, String text, int weight) {
+        for (String token : tokenizer.tokenize(text)) {
+            terms.merge(token, weight, Integer::sum);
+        }
+    }
+
+    private void addDocument(Document document) {
+        Integer articleId = document.summary.getArticleId();
+        documents.put(articleId, document);
+        totalLength += document.length;
+
+        for (Map.Entry<String, Integer> term : document.terms.entrySet()) {
+            postings.computeIfAbsent(term.getKey(), token -> new HashMap<>())
+                .put(articleId, term.getValue());
+        }
+        postingCount += document.terms.size();
+    }
+
+    private void removeDocument(Integer articleId) {
+        Document document = documents.remove(articleId);
+        if (document == null) {
+            return;
+        }
+        totalLength -= document.length;
+
+        for (String token : document.terms.keySet()) {
+            Map<Integer, Integer> posting = postings.get(token);
+            posting.remove(articleId);
+            if (posting.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+        postingCount -= document.terms.size();
+    }
+
+    private static class Document {
+
+        private final Article summary;
+        private final Map<String, Integer> terms;
+        private final int length;
+
+        Document(Article summary, Map<String, Integer> terms) {
+            this.summary = summary;
+            this.terms = terms;
+            this.length = terms.values().stream().mapToInt(Integer::intValue).sum();
+        }
+    }
+
+    private static class Candidate {
+
+        private final Document document;
+        private double score;
+        private int matched;
+
+        Candidate(Document document) {
+            this.document = document;
+        }
+
+        void add(double termScore) {
+            score += termScore;
+            matched++;
+        }
+
+        double getScore() {
+            return score;
+        }
+
+        Integer getArticleId() {
+            return document.summary.getArticleId();
+        }
+
+        SearchHit toHit() {
+            return new SearchHit(document.summary, score);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.kakao.cafe.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 형태소 분석기 없이 한글은 두 글자씩 겹쳐 자르고(bigram), 영문, 숫자는 단어 단위로 자름
+// "스프링을 배워요" -> [스프, 프링, 링을, 배워, 워요] 이므로 조사가 붙어도 "스프링" 의 토큰과 일치
+public class KoreanTokenizer {
+
+    public List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        // 전각 문자, 호환 자모 등을 정규화
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC)
+            .toLowerCase(Locale.ROOT);
+
+        int start = 0;
+        while (start < normalized.length()) {
+            int codePoint = normalized.codePointAt(start);
+            if (!Character.isLetterOrDigit(codePoint)) {
+                start += Character.charCount(codePoint);
+                continue;
+            }
+
+            boolean bigram = isBigramScript(codePoint);
+            int end = start;
+            while (end < normalized.length()) {
+                int next = normalized.codePointAt(end);
+                if (!Character.isLetterOrDigit(next) || isBigramScript(next) != bigram) {
+                    break;
+                }
+                end += Character.charCount(next);
+            }
+
+            String run = normalized.substring(start, end);
+            if (bigram) {
+                addBigrams(run, tokens);
+            } else {
+                tokens.add(run);
+            }
+            start = end;
+        }
+        return tokens;
+    }
+
+    // 띄어쓰기만으로 단어를 나눌 수 없는 한글, 한자, 일본어
+    private boolean isBigramScript(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+            || script == Character.UnicodeScript.HAN
+            || script == Character.UnicodeScript.HIRAGANA
+            || script == Character.UnicodeScript.KATAKANA;
+    }
+
+    // 한 글자 단어는 그대로 사용
+    private void addBigrams(String run, List<String> tokens) {
+        int[] codePoints = run.codePoints().toArray();
+        if (codePoints.length == 1) {
+            tokens.add(run);
+            return;
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, 2));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.kakao.cafe.search;
+
+import com.kakao.cafe.domain.Article;
+
+public class SearchHit {
+
+    // 본문을 제외한 질문 요약, replyCount 는 색인된 댓글 수
+    private final Article article;
+    private final double score;
+
+    public SearchHit(Article article, double score) {
+        this.article = article;
+        this.score = score;
+    }
+
+    public Article getArticle() {
+        return article;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    @Override
+    public String toString() {
+        return "SearchHit{" +
+            "articleId=" + article.getArticleId() +
+            ", score=" + score +
+            '}';
+    }
+}
@@ -0,0 +1,24 @@
+package com.kakao.cafe.service;
+
+// 질문이나 질문의 댓글이 바뀌었을 때 발행, 화면 캐시 등이 구독
+public class ArticleChangedEvent {
+
+    private final Integer articleId;
+
+    public ArticleChangedEvent(Integer articleId) {
+        this.articleId = articleId;
+    }
+
+    // 가져오기처럼 여러 질문이 한꺼번에 바뀐 경우
+    public static ArticleChangedEvent all() {
+        return new ArticleChangedEvent(null);
+    }
+
+    public boolean isAll() {
+        return articleId == null;
+    }
+
+    public Integer getArticleId() {
+        return articleId;
+    }
+}
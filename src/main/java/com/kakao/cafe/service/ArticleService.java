@@ -1,7 +1,10 @@
 package com.kakao.cafe.service;
 
 import com.kakao.cafe.domain.Article;
+import com.kakao.cafe.domain.ArticleDeleteResult;
 import com.kakao.cafe.domain.Reply;
+import com.kakao.cafe.domain.ResourceVersion;
+import com.kakao.cafe.dto.ArticlePageResponse;
 import com.kakao.cafe.dto.ArticleResponse;
 import com.kakao.cafe.dto.ArticleSaveRequest;
 import com.kakao.cafe.exception.ErrorCode;
@@ -10,19 +13,27 @@ import com.kakao.cafe.exception.NotFoundException;
 import com.kakao.cafe.repository.ArticleRepository;
 import com.kakao.cafe.repository.ReplyRepository;
 import com.kakao.cafe.session.SessionUser;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
 public class ArticleService {
 
+    private static final int PAGE_SIZE = 15;
+
     private final ArticleRepository articleRepository;
     private final ReplyRepository replyRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ArticleService(ArticleRepository articleRepository, ReplyRepository replyRepository) {
+    public ArticleService(ArticleRepository articleRepository, ReplyRepository replyRepository,
+        ApplicationEventPublisher eventPublisher) {
         this.articleRepository = articleRepository;
         this.replyRepository = replyRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public ArticleResponse write(SessionUser user, ArticleSaveRequest request) {
@@ -34,6 +45,7 @@ public class ArticleService {
 
         // Article 도메인 객체를 저장소에 저장
         Article savedArticle = articleRepository.save(article);
+        eventPublisher.publishEvent(new ArticleChangedEvent(savedArticle.getArticleId()));
 
         // Article 도메인 객체로부터 ArticleResponse DTO 객체로 변환
         return ArticleResponse.from(savedArticle);
@@ -49,6 +61,15 @@ public class ArticleService {
             .collect(Collectors.toList());
     }
 
+    public ArticlePageResponse findArticlePage(LocalDateTime createdDate, Integer articleId) {
+        // 다음 페이지 존재 여부를 확인하기 위해 한 개를 더 조회
+        List<Article> articles = articleRepository.findAllAfter(createdDate, articleId,
+            PAGE_SIZE + 1);
+
+        // List<Article> 도메인 객체를 ArticlePageResponse DTO 객체로 변환
+        return ArticlePageResponse.of(articles, PAGE_SIZE);
+    }
+
     public ArticleResponse findArticle(Integer articleId) {
         // Article 도메인 객체를 저장소로부터 반환
         Article article = articleRepository.findById(articleId)
@@ -60,6 +81,20 @@ public class ArticleService {
         return ArticleResponse.of(article, replies);
     }
 
+    // ETag 를 붙이는 응답은 버전이 version 이상인 replica(뒤처져 있으면 primary)에서 읽음
+    public ArticleResponse findArticle(Integer articleId, ResourceVersion version) {
+        return articleRepository.readAtVersion(articleId, version.getVersion(),
+            () -> findArticle(articleId));
+    }
+
+    public Optional<ResourceVersion> findArticleVersion(Integer articleId) {
+        // 저장 대기 중인 댓글은 아직 버전에 반영되지 않았으므로 버전으로 변경 여부를 판단하지 않음
+        if (replyRepository.hasPendingReplies(articleId)) {
+            return Optional.empty();
+        }
+        return articleRepository.findVersionById(articleId);
+    }
+
     public ArticleResponse mapUserArticle(SessionUser user, Integer articleId) {
         Article article = findUserArticle(user, articleId);
 
@@ -76,6 +111,7 @@ public class ArticleService {
 
         // 저장소에 업데이트된 Article 객체를 저장
         Article savedArticle = articleRepository.save(updatedArticle);
+        eventPublisher.publishEvent(new ArticleChangedEvent(articleId));
 
         // Article 도메인 객체를 ArticleResponse 객체로 변환
         return ArticleResponse.from(savedArticle);
@@ -83,12 +119,23 @@ public class ArticleService {
 
 
     public void deleteArticle(SessionUser user, Integer articleId) {
-        findUserArticle(user, articleId);
-
-        if (!isDeletable(user.getUserId(), articleId)) {
-            throw new InvalidRequestException(ErrorCode.INVALID_ARTICLE_DELETE);
-        }
-        articleRepository.deleteById(articleId);
+        // 확인하는 동안 새 댓글이 큐에 들어오지 않도록 질문의 댓글 저장을 막고 삭제
+        ArticleDeleteResult result = replyRepository.lockArticle(articleId, () -> {
+            // 저장 대기 중인 댓글은 삭제 쿼리가 볼 수 없으므로 댓글 수를 확인하며 먼저 저장
+            if (replyRepository.hasPendingReplies(articleId)) {
+                findUserArticle(user, articleId);
+
+                if (!isDeletable(user.getUserId(), articleId)) {
+                    throw new InvalidRequestException(ErrorCode.INVALID_ARTICLE_DELETE);
+                }
+            }
+
+            // 작성자, 댓글 확인과 삭제를 한 번에 실행해 확인 후 등록된 댓글이 있는 질문을 삭제하지 않음
+            return articleRepository.deleteByIdAndWriter(articleId, user.getUserId());
+        });
+        validateDelete(result);
+
+        eventPublisher.publishEvent(new ArticleChangedEvent(articleId));
     }
 
     private Article findUserArticle(SessionUser user, Integer articleId) {
@@ -107,6 +154,18 @@ public class ArticleService {
         }
     }
 
+    private void validateDelete(ArticleDeleteResult result) {
+        switch (result) {
+            case NOT_FOUND:
+                throw new NotFoundException(ErrorCode.ARTICLE_NOT_FOUND);
+            case NOT_WRITER:
+                throw new InvalidRequestException(ErrorCode.INVALID_ARTICLE_WRITER);
+            case HAS_OTHER_REPLIES:
+                throw new InvalidRequestException(ErrorCode.INVALID_ARTICLE_DELETE);
+            default:
+        }
+    }
+
     private boolean isDeletable(String userId, Integer articleId) {
         return replyRepository.countByArticleIdAndNotUserId(userId, articleId) == 0;
     }
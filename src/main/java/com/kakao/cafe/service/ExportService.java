@@ -0,0 +1,68 @@
+package com.kakao.cafe.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.kakao.cafe.dto.ArticleResponse;
+import com.kakao.cafe.repository.jdbc.ArticleExportRepository;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportService.class);
+
+    private final ArticleExportRepository exportRepository;
+    private final ObjectWriter writer;
+
+    public ExportService(ArticleExportRepository exportRepository, ObjectMapper objectMapper) {
+        this.exportRepository = exportRepository;
+        // 행마다 flush 하지 않고, 응답 스트림은 컨테이너가 닫도록 함
+        this.writer = objectMapper.writerFor(ArticleResponse.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    // 질문 하나를 한 줄의 JSON 으로 기록하고 기록한 질문 수를 반환
+    public long exportArticles(OutputStream out, boolean withReplies) throws IOException {
+        long startTime = System.nanoTime();
+        long[] count = {0};
+
+        try (JsonGenerator generator = writer.createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+
+            if (withReplies) {
+                exportRepository.streamArticlesWithReplies((article, replies) ->
+                    write(generator, ArticleResponse.of(article, replies), count));
+            } else {
+                exportRepository.streamArticles(article ->
+                    write(generator, ArticleResponse.from(article), count));
+            }
+            generator.flush();
+
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        logger.info("exported {} articles in {} ms", count[0],
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        return count[0];
+    }
+
+    private void write(JsonGenerator generator, ArticleResponse article, long[] count) {
+        try {
+            writer.writeValue(generator, article);
+            generator.writeRaw('\n');
+            count[0]++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
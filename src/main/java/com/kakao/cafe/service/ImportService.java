@@ -0,0 +1,209 @@
+package com.kakao.cafe.service;
+
+import com.kakao.cafe.domain.Article;
+import com.kakao.cafe.domain.Reply;
+import com.kakao.cafe.dto.ImportResult;
+import com.kakao.cafe.dto.ImportResult.Rejection;
+import com.kakao.cafe.importer.ImportRow;
+import com.kakao.cafe.importer.RowReader;
+import com.kakao.cafe.repository.ArticleRepository;
+import com.kakao.cafe.repository.ReplyRepository;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportService.class);
+
+    // 응답에 포함할 거부 행 수
+    private static final int MAX_REJECTIONS = 100;
+    private static final int MAX_COLUMN_LENGTH = 255;
+
+    private final ArticleRepository articleRepository;
+    private final ReplyRepository replyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    public ImportService(ArticleRepository articleRepository, ReplyRepository replyRepository,
+        ApplicationEventPublisher eventPublisher,
+        @Value("${cafe.import.batch-size:500}") int batchSize) {
+        this.articleRepository = articleRepository;
+        this.replyRepository = replyRepository;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    public ImportResult importArticles(RowReader reader) throws IOException {
+        return importRows(reader, this::toArticle, articleRepository::saveAll,
+            articleRepository::save);
+    }
+
+    // 한 행씩 다시 저장할 때도 saveAll 을 사용, 쓰기 지연 모드의 save 는 큐에 넣기만 하므로 실패를 알 수 없음
+    public ImportResult importReplies(RowReader reader) throws IOException {
+        return importRows(reader, this::toReply, replyRepository::saveAll,
+            reply -> replyRepository.saveAll(List.of(reply)));
+    }
+
+    // 한 번에 batchSize 개의 행만 메모리에 유지
+    private <T> ImportResult importRows(RowReader reader, Function<ImportRow, T> converter,
+        Consumer<List<T>> batchWriter, Consumer<T> rowWriter) throws IOException {
+        long startTime = System.nanoTime();
+        Progress progress = new Progress();
+        Batch<T> batch = new Batch<>(batchSize);
+
+        ImportRow row;
+        while ((row = reader.next()) != null) {
+            progress.total++;
+
+            if (row.isRejected()) {
+                progress.reject(row.getLineNumber(), row.getError());
+                continue;
+            }
+
+            try {
+                batch.add(row.getLineNumber(), converter.apply(row));
+            } catch (IllegalArgumentException e) {
+                progress.reject(row.getLineNumber(), e.getMessage());
+                continue;
+            }
+
+            if (batch.isFull()) {
+                flush(batch, batchWriter, rowWriter, progress);
+            }
+        }
+        flush(batch, batchWriter, rowWriter, progress);
+
+        if (progress.imported > 0) {
+            eventPublisher.publishEvent(ArticleChangedEvent.all());
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        ImportResult result = new ImportResult(progress.total, progress.imported,
+            progress.rejected, elapsedMillis, progress.rejections);
+
+        logger.info("imported {} of {} rows ({} rejected) in {} ms, {} rows/s",
+            result.getImported(), result.getTotal(), result.getRejected(),
+            result.getElapsedMillis(), result.getRowsPerSecond());
+        return result;
+    }
+
+    private <T> void flush(Batch<T> batch, Consumer<List<T>> batchWriter,
+        Consumer<T> rowWriter, Progress progress) {
+        if (batch.items.isEmpty()) {
+            return;
+        }
+
+        try {
+            batchWriter.accept(batch.items);
+            progress.imported += batch.items.size();
+
+        } catch (DataAccessException e) {
+            // 배치 중 저장할 수 없는 행만 골라내기 위해 한 행씩 다시 저장
+            for (int i = 0; i < batch.items.size(); i++) {
+                try {
+                    rowWriter.accept(batch.items.get(i));
+                    progress.imported++;
+                } catch (DataAccessException rowException) {
+                    progress.reject(batch.lines.get(i), "저장할 수 없는 행입니다.");
+                }
+            }
+        }
+        batch.clear();
+    }
+
+    private Article toArticle(ImportRow row) {
+        return Article.createWithInput(
+            required(row, "writer"),
+            required(row, "title"),
+            required(row, "contents")
+        );
+    }
+
+    private Reply toReply(ImportRow row) {
+        return Reply.createWithInput(
+            positiveInteger(row, "articleId"),
+            required(row, "userId"),
+            required(row, "comment")
+        );
+    }
+
+    private String required(ImportRow row, String column) {
+        String value = row.get(column);
+
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(column + " 값이 비어 있습니다.");
+        }
+        if (value.length() > MAX_COLUMN_LENGTH) {
+            throw new IllegalArgumentException(
+                column + " 값이 " + MAX_COLUMN_LENGTH + "자를 초과합니다.");
+        }
+        return value;
+    }
+
+    private Integer positiveInteger(ImportRow row, String column) {
+        String value = required(row, column);
+
+        try {
+            int number = Integer.parseInt(value.trim());
+            if (number > 0) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // 아래에서 같은 메시지로 거부
+        }
+        throw new IllegalArgumentException(column + " 값이 올바른 id 가 아닙니다.");
+    }
+
+    private static class Batch<T> {
+
+        private final int size;
+        private final List<T> items;
+        private final List<Long> lines;
+
+        Batch(int size) {
+            this.size = size;
+            this.items = new ArrayList<>(size);
+            this.lines = new ArrayList<>(size);
+        }
+
+        void add(long line, T item) {
+            lines.add(line);
+            items.add(item);
+        }
+
+        boolean isFull() {
+            return items.size() >= size;
+        }
+
+        void clear() {
+            items.clear();
+            lines.clear();
+        }
+    }
+
+    private static class Progress {
+
+        private long total;
+        private long imported;
+        private long rejected;
+        private final List<Rejection> rejections = new ArrayList<>();
+
+        void reject(long line, String reason) {
+            rejected++;
+            if (rejections.size() < MAX_REJECTIONS) {
+                rejections.add(new Rejection(line, reason));
+            }
+        }
+    }
+}
@@ -6,15 +6,19 @@ import com.kakao.cafe.exception.ErrorCode;
 import com.kakao.cafe.exception.NotFoundException;
 import com.kakao.cafe.repository.ReplyRepository;
 import com.kakao.cafe.session.SessionUser;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
 public class ReplyService {
 
     private final ReplyRepository replyRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ReplyService(ReplyRepository replyRepository) {
+    public ReplyService(ReplyRepository replyRepository,
+        ApplicationEventPublisher eventPublisher) {
         this.replyRepository = replyRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public ReplyResponse comment(SessionUser user, Integer articleId, String comment) {
@@ -23,6 +27,7 @@ public class ReplyService {
 
         // Reply 도메인 객체를 저장소에 저장
         Reply savedReply = replyRepository.save(reply);
+        eventPublisher.publishEvent(new ArticleChangedEvent(articleId));
 
         // Reply 도메인 객체를 ReplyResponse 도메인 객체로 변환
         return ReplyResponse.from(savedReply);
@@ -34,15 +39,17 @@ public class ReplyService {
 
         // Reply 도메인 객체를 업데이트한 후 저장소에 저장
         Reply savedReply = replyRepository.save(reply.update(comment));
+        eventPublisher.publishEvent(new ArticleChangedEvent(reply.getArticleId()));
 
         // Reply 도메인 객체를 ReplyResponse 도메인 객체로 변환
         return ReplyResponse.from(reply);
     }
 
     public void deleteReply(SessionUser user, Integer replyId) {
-        findUserReply(user, replyId);
+        Reply reply = findUserReply(user, replyId);
 
         replyRepository.deleteById(replyId);
+        eventPublisher.publishEvent(new ArticleChangedEvent(reply.getArticleId()));
     }
 
     private Reply findUserReply(SessionUser user, Integer replyId) {
@@ -0,0 +1,178 @@
+package com.kakao.cafe.service;
+
+import com.kakao.cafe.domain.Article;
+import com.kakao.cafe.dto.SearchResponse;
+import com.kakao.cafe.repository.ArticleRepository;
+import com.kakao.cafe.repository.ReplyRepository;
+import com.kakao.cafe.repository.jdbc.ArticleExportRepository;
+import com.kakao.cafe.search.InvertedIndex;
+import com.kakao.cafe.search.KoreanTokenizer;
+import com.kakao.cafe.search.SearchHit;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+// 질문 제목, 본문, 댓글을 메모리의 역색인으로 검색
+// 시작할 때 전체를 색인하고, 이후에는 ArticleChangedEvent 를 받은 질문만 다시 색인
+// 색인은 요청 스레드가 아닌 indexer 스레드 하나에서 실행, 그동안 바뀐 질문은 모아서 한 번씩만 다시 색인
+// cafe.search.index.documents, cafe.search.index.terms : 색인 크기
+// cafe.search.query, cafe.search.rebuild : 검색, 전체 색인 시간
+@Service
+public class SearchService implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchService.class);
+
+    private static final int MAX_RESULTS = 20;
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    private final ArticleRepository articleRepository;
+    private final ReplyRepository replyRepository;
+    private final ArticleExportRepository exportRepository;
+    private final KoreanTokenizer tokenizer = new KoreanTokenizer();
+
+    // 전체 색인은 새 인덱스를 만든 뒤 교체하므로 그동안의 검색은 이전 인덱스로 처리
+    private volatile InvertedIndex index;
+
+    // indexer 스레드가 처리할 변경, 전체 색인 중에 바뀐 질문은 교체한 인덱스에 다시 색인
+    private final Set<Integer> changedArticles = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final ExecutorService indexer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "search-indexer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Timer queryTimer;
+    private final Timer rebuildTimer;
+
+    public SearchService(ArticleRepository articleRepository, ReplyRepository replyRepository,
+        ArticleExportRepository exportRepository, MeterRegistry registry) {
+        this.articleRepository = articleRepository;
+        this.replyRepository = replyRepository;
+        this.exportRepository = exportRepository;
+        this.index = new InvertedIndex(tokenizer);
+
+        Gauge.builder("cafe.search.index.documents", this, s -> s.index.getDocumentCount())
+            .description("articles in the search index")
+            .register(registry);
+        Gauge.builder("cafe.search.index.terms", this, s -> s.index.getTermCount())
+            .description("distinct tokens in the search index")
+            .register(registry);
+        Gauge.builder("cafe.search.index.postings", this, s -> s.index.getPostingCount())
+            .description("(token, article) pairs in the search index")
+            .register(registry);
+        this.queryTimer = Timer.builder("cafe.search.query")
+            .description("search query latency")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(registry);
+        this.rebuildTimer = Timer.builder("cafe.search.rebuild")
+            .description("full search index rebuild time")
+            .register(registry);
+    }
+
+    public SearchResponse search(String query) {
+        String trimmed = query == null ? "" : query.strip();
+        if (trimmed.length() > MAX_QUERY_LENGTH) {
+            trimmed = trimmed.substring(0, MAX_QUERY_LENGTH);
+        }
+
+        String text = trimmed;
+        List<SearchHit> hits = queryTimer.record(() -> index.search(text, MAX_RESULTS));
+        return SearchResponse.of(trimmed, hits);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuildRequested.set(true);
+        schedule();
+    }
+
+    // 가져오기처럼 여러 질문이 한꺼번에 바뀌면 전체를 다시 색인
+    @EventListener
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.isAll()) {
+            rebuildRequested.set(true);
+        } else {
+            changedArticles.add(event.getArticleId());
+        }
+        schedule();
+    }
+
+    // 지금까지 받은 변경을 모두 색인할 때까지 대기
+    public void flush() {
+        try {
+            indexer.submit(() -> {
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        indexer.shutdownNow();
+    }
+
+    // 이미 예약된 작업이 있으면 그 작업이 모아 둔 변경을 함께 처리
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            indexer.execute(this::index);
+        }
+    }
+
+    private void index() {
+        // 처리하는 동안 들어온 변경은 다음 작업으로 예약되도록 먼저 해제
+        scheduled.set(false);
+        try {
+            if (rebuildRequested.getAndSet(false)) {
+                rebuild();
+            }
+            for (Iterator<Integer> iterator = changedArticles.iterator(); iterator.hasNext(); ) {
+                Integer articleId = iterator.next();
+                iterator.remove();
+                reindex(articleId);
+            }
+        } catch (RuntimeException e) {
+            logger.error("search indexing failed", e);
+        }
+    }
+
+    private void rebuild() {
+        long startTime = System.nanoTime();
+
+        InvertedIndex rebuilt = new InvertedIndex(tokenizer);
+        rebuildTimer.record(() -> exportRepository.streamArticlesWithReplies(rebuilt::put));
+        index = rebuilt;
+
+        logger.info("search index rebuilt: {} articles, {} terms in {} ms",
+            rebuilt.getDocumentCount(), rebuilt.getTermCount(),
+            (System.nanoTime() - startTime) / 1_000_000);
+    }
+
+    // 삭제된 질문은 조회되지 않으므로 인덱스에서 제거
+    private void reindex(Integer articleId) {
+        Optional<Article> article = articleRepository.findById(articleId);
+        if (article.isEmpty()) {
+            index.remove(articleId);
+            return;
+        }
+        index.put(article.get(), replyRepository.findByArticleId(articleId));
+    }
+}
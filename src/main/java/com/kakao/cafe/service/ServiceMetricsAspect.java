@@ -0,0 +1,51 @@
+package com.kakao.cafe.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+// ArticleService, ReplyService, UserService 의 public 메서드 실행 시간을 기록
+// cafe.service : service(클래스 이름), method 태그로 구분, 예외로 끝난 호출도 포함
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    private final MeterRegistry registry;
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    public ServiceMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(public * com.kakao.cafe.service.ArticleService.*(..))"
+        + " || execution(public * com.kakao.cafe.service.ReplyService.*(..))"
+        + " || execution(public * com.kakao.cafe.service.UserService.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Timer timer = timers.computeIfAbsent(method, this::newTimer);
+
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer newTimer(Method method) {
+        return Timer.builder("cafe.service")
+            .description("service method execution time")
+            .tag("service", method.getDeclaringClass().getSimpleName())
+            .tag("method", method.getName())
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+}
@@ -1,5 +1,6 @@
 package com.kakao.cafe.service;
 
+import com.kakao.cafe.domain.ResourceVersion;
 import com.kakao.cafe.domain.User;
 import com.kakao.cafe.dto.UserLoginRequest;
 import com.kakao.cafe.dto.UserResponse;
@@ -10,6 +11,7 @@ import com.kakao.cafe.exception.NotFoundException;
 import com.kakao.cafe.repository.UserRepository;
 import com.kakao.cafe.session.SessionUser;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 
@@ -56,6 +58,16 @@ public class UserService {
         return UserResponse.from(user);
     }
 
+    // ETag 를 붙이는 응답은 버전이 version 이상인 replica(뒤처져 있으면 primary)에서 읽음
+    public UserResponse findUser(String userId, ResourceVersion version) {
+        return userRepository.readAtVersion(userId, version.getVersion(),
+            () -> findUser(userId));
+    }
+
+    public Optional<ResourceVersion> findUserVersion(String userId) {
+        return userRepository.findVersionByUserId(userId);
+    }
+
     private void validateUserId(String userId) {
         // 저장소에 중복된 userId 를 가진 레코드가 있는지 확인
         userRepository.findByUserId(userId)
@@ -65,16 +77,13 @@ public class UserService {
     }
 
     public UserResponse updateUser(SessionUser session, UserSaveRequest request) {
-        // UserResponse 객체를 User 객체로 변환
-        User user = session.toEntity();
-
-        // session 에서 반환된 객체를 검증
-        user.checkPassword(request.getPassword());
-
         // User 도메인 객체를 저장소에서 반환
-        User findUser = userRepository.findByUserId(user.getUserId())
+        User findUser = userRepository.findByUserId(session.getUserId())
             .orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND));
 
+        // 세션에는 비밀번호가 없을 수 있으므로 저장소의 비밀번호로 검증
+        findUser.checkPassword(request.getPassword());
+
         // User 도메인 객체에 대해 업데이트 요청사항을 변경
         User updatedUser = findUser.update(request.getName(), request.getEmail());
 
@@ -0,0 +1,34 @@
+package com.kakao.cafe.session;
+
+import java.util.Optional;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+
+// 서블릿 HttpSession 에 SessionUser 를 저장
+public class HttpSessionManager implements SessionManager {
+
+    @Override
+    public void login(HttpServletRequest request, HttpServletResponse response,
+        SessionUser user) {
+        request.getSession().setAttribute(SessionUser.SESSION_KEY, user);
+    }
+
+    @Override
+    public Optional<SessionUser> resolve(HttpServletRequest request,
+        HttpServletResponse response) {
+        HttpSession session = request.getSession(false);
+        if (session == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable((SessionUser) session.getAttribute(SessionUser.SESSION_KEY));
+    }
+
+    @Override
+    public void logout(HttpServletRequest request, HttpServletResponse response) {
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.removeAttribute(SessionUser.SESSION_KEY);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.kakao.cafe.session;
+
+import java.util.Optional;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+// 로그인 유저를 요청에 연결하는 방식, cafe.session.mode 로 선택
+public interface SessionManager {
+
+    void login(HttpServletRequest request, HttpServletResponse response, SessionUser user);
+
+    Optional<SessionUser> resolve(HttpServletRequest request, HttpServletResponse response);
+
+    void logout(HttpServletRequest request, HttpServletResponse response);
+}
@@ -0,0 +1,130 @@
+package com.kakao.cafe.session;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.servlet.http.HttpSession;
+import javax.servlet.http.HttpSessionAttributeListener;
+import javax.servlet.http.HttpSessionBindingEvent;
+import javax.servlet.http.HttpSessionEvent;
+import javax.servlet.http.HttpSessionIdListener;
+import javax.servlet.http.HttpSessionListener;
+import org.springframework.stereotype.Component;
+
+// 살아있는 HttpSession 수와 세션 속성을 직렬화한 크기를 기록
+// cafe.session.live, cafe.session.bytes : 현재 세션 수와 전체 크기
+// cafe.session.size : 만료된 세션 하나의 크기 분포
+@Component
+public class SessionMetrics implements HttpSessionListener, HttpSessionAttributeListener,
+    HttpSessionIdListener {
+
+    private final Map<String, Long> sizes = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final DistributionSummary sessionSize;
+
+    public SessionMetrics(MeterRegistry registry) {
+        Gauge.builder("cafe.session.live", sizes, Map::size)
+            .description("live http sessions")
+            .register(registry);
+        Gauge.builder("cafe.session.bytes", totalBytes, AtomicLong::get)
+            .description("serialized attribute bytes of live http sessions")
+            .baseUnit("bytes")
+            .register(registry);
+        this.sessionSize = DistributionSummary.builder("cafe.session.size")
+            .description("serialized attribute bytes per http session")
+            .baseUnit("bytes")
+            .register(registry);
+    }
+
+    @Override
+    public void sessionCreated(HttpSessionEvent event) {
+        sizes.put(event.getSession().getId(), 0L);
+    }
+
+    @Override
+    public void sessionDestroyed(HttpSessionEvent event) {
+        Long size = sizes.remove(event.getSession().getId());
+        if (size != null) {
+            totalBytes.addAndGet(-size);
+            sessionSize.record(size);
+        }
+    }
+
+    @Override
+    public void sessionIdChanged(HttpSessionEvent event, String oldSessionId) {
+        Long size = sizes.remove(oldSessionId);
+        if (size != null) {
+            sizes.put(event.getSession().getId(), size);
+        }
+    }
+
+    @Override
+    public void attributeAdded(HttpSessionBindingEvent event) {
+        measure(event.getSession());
+    }
+
+    @Override
+    public void attributeRemoved(HttpSessionBindingEvent event) {
+        measure(event.getSession());
+    }
+
+    @Override
+    public void attributeReplaced(HttpSessionBindingEvent event) {
+        measure(event.getSession());
+    }
+
+    // 속성이 바뀔 때만 다시 계산, 로그인, 로그아웃 외에는 거의 일어나지 않음
+    private void measure(HttpSession session) {
+        long size = sizeOf(session);
+        sizes.computeIfPresent(session.getId(), (id, previous) -> {
+            totalBytes.addAndGet(size - previous);
+            return size;
+        });
+    }
+
+    private long sizeOf(HttpSession session) {
+        long size = 0;
+        try {
+            for (String name : Collections.list(session.getAttributeNames())) {
+                size += name.length() + serializedSize(session.getAttribute(name));
+            }
+        } catch (IllegalStateException e) {
+            // 이미 만료된 세션
+            return 0;
+        }
+        return size;
+    }
+
+    // 직렬화할 수 없는 속성은 세션 복제, 저장에서도 빠지므로 0 으로 계산
+    private long serializedSize(Object value) {
+        CountingOutputStream counter = new CountingOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(counter)) {
+            out.writeObject(value);
+        } catch (IOException e) {
+            return 0;
+        }
+        return counter.count;
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.kakao.cafe.session;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+// payload.signature 형태의 토큰, 서버에 상태를 두지 않고 서명과 만료 시각만으로 검증
+public class SessionTokenCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final byte VERSION = 1;
+    private static final int MIN_SECRET_LENGTH = 32;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Mac prototype;
+    private final Clock clock;
+    private final Duration maxAge;
+
+    public SessionTokenCodec(byte[] secret, Clock clock, Duration maxAge) {
+        if (secret == null || secret.length < MIN_SECRET_LENGTH) {
+            throw new IllegalArgumentException(
+                "세션 서명 키는 " + MIN_SECRET_LENGTH + " 바이트 이상이어야 합니다");
+        }
+        try {
+            this.prototype = Mac.getInstance(ALGORITHM);
+            this.prototype.init(new SecretKeySpec(secret, ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+        this.clock = clock;
+        this.maxAge = maxAge;
+    }
+
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    public String encode(SessionUser user) {
+        Instant expiresAt = clock.instant().plus(maxAge);
+        String payload = ENCODER.encodeToString(serialize(user, expiresAt));
+        return payload + "." + ENCODER.encodeToString(sign(payload));
+    }
+
+    // 서명이 맞지 않거나 만료, 형식이 잘못된 토큰은 모두 empty
+    public Optional<SessionToken> decode(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        int separator = token.indexOf('.');
+        if (separator < 0) {
+            return Optional.empty();
+        }
+        String payload = token.substring(0, separator);
+
+        try {
+            byte[] signature = DECODER.decode(token.substring(separator + 1));
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                return Optional.empty();
+            }
+            SessionToken sessionToken = deserialize(DECODER.decode(payload));
+            if (!sessionToken.getExpiresAt().isAfter(clock.instant())) {
+                return Optional.empty();
+            }
+            return Optional.of(sessionToken);
+
+        } catch (IllegalArgumentException | IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    // 유효 기간의 절반이 지나면 다시 발급
+    public boolean needsRenewal(SessionToken token) {
+        return token.getExpiresAt().minus(maxAge.dividedBy(2)).isBefore(clock.instant());
+    }
+
+    private byte[] sign(String payload) {
+        return mac().doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    // Mac 은 thread-safe 하지 않으므로 초기화된 인스턴스를 복제해서 사용
+    private Mac mac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private byte[] serialize(SessionUser user, Instant expiresAt) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeLong(expiresAt.getEpochSecond());
+            writeString(out, user.getUserId());
+            writeString(out, user.getName());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private SessionToken deserialize(byte[] payload) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            if (in.readByte() != VERSION) {
+                throw new IOException("unsupported session token version");
+            }
+            Instant expiresAt = Instant.ofEpochSecond(in.readLong());
+            String userId = readString(in);
+            String name = readString(in);
+
+            return new SessionToken(new SessionUser(userId, name), expiresAt);
+        }
+    }
+
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    public static class SessionToken {
+
+        private final SessionUser user;
+        private final Instant expiresAt;
+
+        SessionToken(SessionUser user, Instant expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+
+        public SessionUser getUser() {
+            return user;
+        }
+
+        public Instant getExpiresAt() {
+            return expiresAt;
+        }
+    }
+}
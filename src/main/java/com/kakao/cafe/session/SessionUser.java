@@ -4,68 +4,50 @@ import com.kakao.cafe.domain.User;
 import com.kakao.cafe.exception.ErrorCode;
 import com.kakao.cafe.exception.InvalidRequestException;
 import com.kakao.cafe.exception.NotFoundException;
+import java.io.Serializable;
 import java.util.Optional;
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
 
-public class SessionUser {
+// 세션에는 유저 아이디와 표시할 이름만 저장
+public class SessionUser implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     public static final String SESSION_KEY = "SESSION_USER";
+    public static final String REQUEST_KEY = SessionUser.class.getName();
 
-    private Integer userNum;
-    private String userId;
-    private String password;
-    private String name;
-    private String email;
+    private final String userId;
+    private final String name;
 
-    public SessionUser(Integer userNum, String userId, String password, String name,
-        String email) {
-        this.userNum = userNum;
+    public SessionUser(String userId, String name) {
         this.userId = userId;
-        this.password = password;
         this.name = name;
-        this.email = email;
     }
 
-    public static SessionUser from(HttpSession session) {
-        return (SessionUser) Optional.ofNullable(
-                session.getAttribute(SESSION_KEY))
+    // SessionManager 가 요청에 연결한 유저, 없으면 HttpSession 에 저장된 유저
+    public static SessionUser from(HttpServletRequest request) {
+        Object user = request.getAttribute(REQUEST_KEY);
+        if (user == null) {
+            HttpSession session = request.getSession(false);
+            user = session == null ? null : session.getAttribute(SESSION_KEY);
+        }
+        return (SessionUser) Optional.ofNullable(user)
             .orElseThrow(() -> new NotFoundException(ErrorCode.SESSION_NOT_FOUND));
     }
 
     public static SessionUser from(User user) {
-        return new SessionUser(
-            user.getUserNum(),
-            user.getUserId(),
-            user.getPassword(),
-            user.getName(),
-            user.getEmail()
-        );
-    }
-
-    public User toEntity() {
-        return new User(userNum, userId, password, name, email);
-    }
-
-    public Integer getUserNum() {
-        return userNum;
+        return new SessionUser(user.getUserId(), user.getName());
     }
 
     public String getUserId() {
         return userId;
     }
 
-    public String getPassword() {
-        return password;
-    }
-
     public String getName() {
         return name;
     }
 
-    public String getEmail() {
-        return email;
-    }
-
     public void validate(String userId) {
         if (!this.userId.equals(userId)) {
             throw new InvalidRequestException(ErrorCode.INCORRECT_USER);
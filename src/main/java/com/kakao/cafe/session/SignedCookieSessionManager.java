@@ -0,0 +1,85 @@
+package com.kakao.cafe.session;
+
+import com.kakao.cafe.session.SessionTokenCodec.SessionToken;
+import java.time.Duration;
+import java.util.Optional;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+
+// 서명된 토큰을 쿠키에 저장, 노드 간 공유할 세션 저장소 없이 어느 노드에서든 검증
+public class SignedCookieSessionManager implements SessionManager {
+
+    private final SessionTokenCodec codec;
+    private final String cookieName;
+    private final boolean secure;
+
+    public SignedCookieSessionManager(SessionTokenCodec codec, String cookieName,
+        boolean secure) {
+        this.codec = codec;
+        this.cookieName = cookieName;
+        this.secure = secure;
+    }
+
+    @Override
+    public void login(HttpServletRequest request, HttpServletResponse response,
+        SessionUser user) {
+        writeCookie(response, codec.encode(user), codec.getMaxAge());
+        request.setAttribute(SessionUser.REQUEST_KEY, user);
+    }
+
+    @Override
+    public Optional<SessionUser> resolve(HttpServletRequest request,
+        HttpServletResponse response) {
+        // 같은 요청에서 다시 검증하지 않도록 요청 속성에 보관
+        SessionUser resolved = (SessionUser) request.getAttribute(SessionUser.REQUEST_KEY);
+        if (resolved != null) {
+            return Optional.of(resolved);
+        }
+
+        Optional<SessionToken> token = codec.decode(readCookie(request));
+        token.ifPresent(sessionToken -> {
+            if (codec.needsRenewal(sessionToken)) {
+                writeCookie(response, codec.encode(sessionToken.getUser()), codec.getMaxAge());
+            }
+            request.setAttribute(SessionUser.REQUEST_KEY, sessionToken.getUser());
+        });
+        return token.map(SessionToken::getUser);
+    }
+
+    // 토큰은 만료 전까지 유효하므로 브라우저의 쿠키만 제거
+    @Override
+    public void logout(HttpServletRequest request, HttpServletResponse response) {
+        writeCookie(response, "", Duration.ZERO);
+        request.removeAttribute(SessionUser.REQUEST_KEY);
+    }
+
+    private String readCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (cookieName.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    private void writeCookie(HttpServletResponse response, String value, Duration maxAge) {
+        if (response == null || response.isCommitted()) {
+            return;
+        }
+        ResponseCookie cookie = ResponseCookie.from(cookieName, value)
+            .path("/")
+            .maxAge(maxAge)
+            .httpOnly(true)
+            .secure(secure)
+            .sameSite("Lax")
+            .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+}
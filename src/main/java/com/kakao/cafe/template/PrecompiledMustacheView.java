@@ -0,0 +1,31 @@
+package com.kakao.cafe.template;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.view.AbstractView;
+
+public class PrecompiledMustacheView extends AbstractView {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final PrecompiledTemplate template;
+
+    public PrecompiledMustacheView(PrecompiledTemplate template, String contentType) {
+        this.template = template;
+        setContentType(contentType);
+    }
+
+    @Override
+    protected void renderMergedOutputModel(Map<String, Object> model,
+        HttpServletRequest request, HttpServletResponse response) throws Exception {
+        response.setContentType(getContentType());
+
+        // 작은 쓰기가 많으므로 버퍼에 모아 응답 스트림에 기록
+        OutputStream out = new BufferedOutputStream(response.getOutputStream(), BUFFER_SIZE);
+        template.execute(model, out);
+        out.flush();
+    }
+}
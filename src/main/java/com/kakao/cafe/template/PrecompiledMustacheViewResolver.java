@@ -0,0 +1,67 @@
+package com.kakao.cafe.template;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.web.servlet.View;
+import org.springframework.web.servlet.ViewResolver;
+
+// 시작할 때 모든 템플릿을 컴파일해두고, 없는 이름(redirect: 등)은 다음 ViewResolver 로 넘김
+public class PrecompiledMustacheViewResolver implements ViewResolver, Ordered {
+
+    // MustacheViewResolver(LOWEST_PRECEDENCE - 10) 보다 먼저 확인
+    private static final int ORDER = Ordered.LOWEST_PRECEDENCE - 20;
+
+    private final Map<String, View> views;
+
+    public PrecompiledMustacheViewResolver(TemplateCompiler compiler,
+        ResourcePatternResolver resourceResolver, String prefix, String suffix,
+        String contentType) {
+        Map<String, View> views = new HashMap<>();
+        for (String name : findTemplateNames(resourceResolver, prefix, suffix)) {
+            views.put(name, new PrecompiledMustacheView(compiler.compile(name), contentType));
+        }
+        this.views = Map.copyOf(views);
+    }
+
+    @Override
+    public View resolveViewName(String viewName, Locale locale) {
+        return views.get(viewName);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    public Set<String> getViewNames() {
+        return views.keySet();
+    }
+
+    // prefix 아래의 템플릿을 prefix, suffix 를 뺀 뷰 이름으로 반환
+    private Set<String> findTemplateNames(ResourcePatternResolver resourceResolver,
+        String prefix, String suffix) {
+        try {
+            String root = resourceResolver.getResource(prefix).getURI().toString();
+
+            Set<String> names = new HashSet<>();
+            for (Resource resource : resourceResolver.getResources(prefix + "**/*" + suffix)) {
+                String uri = resource.getURI().toString();
+                if (uri.startsWith(root)) {
+                    names.add(uri.substring(root.length(), uri.length() - suffix.length()));
+                }
+            }
+            return names;
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.kakao.cafe.template;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+
+// 컴파일된 템플릿, 여러 스레드에서 동시에 렌더링 가능
+public class PrecompiledTemplate {
+
+    private final Segment[] segments;
+    private final ValueResolver resolver;
+    private final Charset charset;
+
+    PrecompiledTemplate(Segment[] segments, ValueResolver resolver, Charset charset) {
+        this.segments = segments;
+        this.resolver = resolver;
+        this.charset = charset;
+    }
+
+    public void execute(Object context, OutputStream out) throws IOException {
+        render(segments, new Context(context, null), out);
+    }
+
+    private void render(Segment[] segments, Context context, OutputStream out)
+        throws IOException {
+        for (Segment segment : segments) {
+            segment.render(this, context, out);
+        }
+    }
+
+    interface Segment {
+
+        void render(PrecompiledTemplate template, Context context, OutputStream out)
+            throws IOException;
+    }
+
+    // 섹션마다 쌓이는 컨텍스트, 이름은 안쪽 컨텍스트부터 찾음
+    static class Context {
+
+        final Object data;
+        final Context parent;
+
+        Context(Object data, Context parent) {
+            this.data = data;
+            this.parent = parent;
+        }
+    }
+
+    static class StaticSegment implements Segment {
+
+        private final byte[] bytes;
+
+        StaticSegment(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public void render(PrecompiledTemplate template, Context context, OutputStream out)
+            throws IOException {
+            out.write(bytes);
+        }
+    }
+
+    static class VariableSegment implements Segment {
+
+        private final String name;
+        private final boolean escape;
+
+        VariableSegment(String name, boolean escape) {
+            this.name = name;
+            this.escape = escape;
+        }
+
+        @Override
+        public void render(PrecompiledTemplate template, Context context, OutputStream out)
+            throws IOException {
+            String text = template.resolver.format(name, template.resolver.get(context, name));
+            if (escape) {
+                text = template.resolver.escape(text);
+            }
+            out.write(text.getBytes(template.charset));
+        }
+    }
+
+    // JMustache 와 같이 컬렉션은 반복, Boolean 은 조건, 그 외 값은 컨텍스트로 사용
+    static class SectionSegment implements Segment {
+
+        private final String name;
+        private final boolean inverted;
+        private final Segment[] segments;
+
+        SectionSegment(String name, boolean inverted, Segment[] segments) {
+            this.name = name;
+            this.inverted = inverted;
+            this.segments = segments;
+        }
+
+        @Override
+        public void render(PrecompiledTemplate template, Context context, OutputStream out)
+            throws IOException {
+            Object value = template.resolver.getSection(context, name);
+            Iterator<?> iterator = value == null ? null : template.resolver.toIterator(value);
+
+            if (inverted) {
+                if (isEmpty(template, value, iterator)) {
+                    template.render(segments, context, out);
+                }
+                return;
+            }
+
+            if (iterator != null) {
+                while (iterator.hasNext()) {
+                    template.render(segments, new Context(iterator.next(), context), out);
+                }
+            } else if (value instanceof Boolean) {
+                if ((Boolean) value) {
+                    template.render(segments, context, out);
+                }
+            } else if (!isEmpty(template, value, null)) {
+                template.render(segments, new Context(value, context), out);
+            }
+        }
+
+        private boolean isEmpty(PrecompiledTemplate template, Object value,
+            Iterator<?> iterator) {
+            if (value == null) {
+                return true;
+            }
+            if (iterator != null) {
+                return !iterator.hasNext();
+            }
+            if (value instanceof Boolean) {
+                return !(Boolean) value;
+            }
+            return template.resolver.isFalsey(value);
+        }
+    }
+}
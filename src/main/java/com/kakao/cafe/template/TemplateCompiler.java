@@ -0,0 +1,205 @@
+package com.kakao.cafe.template;
+
+import com.kakao.cafe.template.PrecompiledTemplate.Segment;
+import com.samskivert.mustache.Mustache;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 템플릿을 한 번만 읽어 partial 을 펼치고 공백을 줄인 뒤, 정적 텍스트는 바이트로 인코딩해 컴파일
+public class TemplateCompiler {
+
+    private static final Pattern PARTIAL = Pattern.compile("\\{\\{>\\s*([^}]+?)\\s*}}");
+    private static final Pattern STANDALONE_TAG = Pattern.compile("\\{\\{[#^/!][^}]*}}");
+    private static final Pattern PREFORMATTED = Pattern.compile("<(/?)(pre|textarea)\\b",
+        Pattern.CASE_INSENSITIVE);
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+    private static final String TRIPLE_OPEN = "{{{";
+    private static final String TRIPLE_CLOSE = "}}}";
+    private static final int MAX_PARTIAL_DEPTH = 10;
+
+    private final Function<String, String> loader;
+    private final ValueResolver resolver;
+    private final Charset charset;
+
+    // loader 는 템플릿 이름으로 원본을 반환, partial 도 같은 loader 로 읽음
+    public TemplateCompiler(Mustache.Compiler compiler, Function<String, String> loader,
+        Charset charset) {
+        this.loader = loader;
+        this.resolver = new ValueResolver(compiler);
+        this.charset = charset;
+    }
+
+    public PrecompiledTemplate compile(String name) {
+        String source = collapseWhitespace(inlinePartials(loader.apply(name), 0));
+        return new PrecompiledTemplate(parse(name, source), resolver, charset);
+    }
+
+    private String inlinePartials(String source, int depth) {
+        Matcher matcher = PARTIAL.matcher(source);
+        if (!matcher.find()) {
+            return source;
+        }
+        if (depth >= MAX_PARTIAL_DEPTH) {
+            throw new IllegalStateException("partial 이 너무 깊게 중첩되었습니다: " + matcher.group(1));
+        }
+
+        StringBuilder inlined = new StringBuilder(source.length());
+        do {
+            String partial = inlinePartials(loader.apply(matcher.group(1)), depth + 1);
+            matcher.appendReplacement(inlined, Matcher.quoteReplacement(partial));
+        } while (matcher.find());
+        matcher.appendTail(inlined);
+
+        return inlined.toString();
+    }
+
+    // 들여쓰기와 빈 줄을 지우고 태그만 있는 줄은 줄바꿈도 지움, pre, textarea 안의 내용은 그대로 유지
+    static String collapseWhitespace(String source) {
+        StringBuilder collapsed = new StringBuilder(source.length());
+        boolean preformatted = false;
+
+        for (String line : source.split("\n", -1)) {
+            if (preformatted) {
+                collapsed.append(line).append('\n');
+                preformatted = isPreformattedAfter(line, true);
+                continue;
+            }
+
+            String stripped = line.stripLeading();
+            preformatted = isPreformattedAfter(stripped, false);
+
+            if (!preformatted) {
+                stripped = stripped.stripTrailing();
+            }
+            if (stripped.isEmpty()) {
+                continue;
+            }
+            if (STANDALONE_TAG.matcher(stripped).matches()) {
+                collapsed.append(stripped);
+                continue;
+            }
+            collapsed.append(stripped).append('\n');
+        }
+        return collapsed.toString();
+    }
+
+    private static boolean isPreformattedAfter(String line, boolean preformatted) {
+        Matcher matcher = PREFORMATTED.matcher(line);
+        while (matcher.find()) {
+            preformatted = matcher.group(1).isEmpty();
+        }
+        return preformatted;
+    }
+
+    private Segment[] parse(String name, String source) {
+        Deque<Frame> frames = new ArrayDeque<>();
+        frames.push(new Frame(null, false));
+
+        int position = 0;
+        while (position < source.length()) {
+            int open = source.indexOf(OPEN, position);
+            if (open < 0) {
+                frames.peek().text(source.substring(position));
+                break;
+            }
+            frames.peek().text(source.substring(position, open));
+
+            boolean triple = source.startsWith(TRIPLE_OPEN, open);
+            String openTag = triple ? TRIPLE_OPEN : OPEN;
+            String closeTag = triple ? TRIPLE_CLOSE : CLOSE;
+
+            int close = source.indexOf(closeTag, open + openTag.length());
+            if (close < 0) {
+                throw new IllegalArgumentException(name + ": 닫히지 않은 태그가 있습니다");
+            }
+            String tag = source.substring(open + openTag.length(), close).strip();
+            position = close + closeTag.length();
+
+            if (tag.isEmpty()) {
+                throw new IllegalArgumentException(name + ": 빈 태그가 있습니다");
+            }
+            if (triple) {
+                frames.peek().add(new PrecompiledTemplate.VariableSegment(tag, false));
+                continue;
+            }
+
+            String tagName = tag.substring(1).strip();
+            switch (tag.charAt(0)) {
+                case '!':
+                    break;
+                case '&':
+                    frames.peek().add(new PrecompiledTemplate.VariableSegment(tagName, false));
+                    break;
+                case '#':
+                case '^':
+                    frames.push(new Frame(tagName, tag.charAt(0) == '^'));
+                    break;
+                case '/':
+                    Frame section = frames.pop();
+                    if (frames.isEmpty() || !tagName.equals(section.name)) {
+                        throw new IllegalArgumentException(name + ": 섹션이 맞지 않습니다: " + tagName);
+                    }
+                    frames.peek().add(section.toSection());
+                    break;
+                case '>':
+                case '=':
+                    throw new IllegalArgumentException(name + ": 지원하지 않는 태그입니다: " + tag);
+                default:
+                    frames.peek().add(new PrecompiledTemplate.VariableSegment(tag, true));
+            }
+        }
+
+        if (frames.size() != 1) {
+            throw new IllegalArgumentException(name + ": 닫히지 않은 섹션이 있습니다: " + frames.peek().name);
+        }
+        return frames.pop().toSegments();
+    }
+
+    // 섹션 하나의 세그먼트, 이어지는 정적 텍스트는 하나로 합쳐 인코딩
+    private class Frame {
+
+        private final String name;
+        private final boolean inverted;
+        private final List<Segment> segments = new ArrayList<>();
+        private final StringBuilder text = new StringBuilder();
+
+        Frame(String name, boolean inverted) {
+            this.name = name;
+            this.inverted = inverted;
+        }
+
+        void text(String value) {
+            text.append(value);
+        }
+
+        void add(Segment segment) {
+            flushText();
+            segments.add(segment);
+        }
+
+        Segment toSection() {
+            return new PrecompiledTemplate.SectionSegment(name, inverted, toSegments());
+        }
+
+        Segment[] toSegments() {
+            flushText();
+            return segments.toArray(new Segment[0]);
+        }
+
+        private void flushText() {
+            if (text.length() > 0) {
+                segments.add(new PrecompiledTemplate.StaticSegment(
+                    text.toString().getBytes(charset)));
+                text.setLength(0);
+            }
+        }
+    }
+}
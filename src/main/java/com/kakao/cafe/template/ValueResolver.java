@@ -0,0 +1,160 @@
+package com.kakao.cafe.template;
+
+import com.kakao.cafe.template.PrecompiledTemplate.Context;
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.MustacheException;
+import com.samskivert.mustache.Template;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+// JMustache 컴파일러의 collector, formatter, escaper 로 값을 찾아 기존 렌더링과 같은 결과를 출력
+class ValueResolver {
+
+    private static final String THIS = "this";
+    private static final String DOT = ".";
+
+    // 값이 없는 (클래스, 이름) 에 캐시하는 fetcher, 바깥 컨텍스트로 넘어갈 때마다 리플렉션으로 찾지 않음
+    private static final Mustache.VariableFetcher NO_FETCHER =
+        (ctx, name) -> Template.NO_FETCHER_FOUND;
+
+    private final Mustache.Compiler compiler;
+
+    // (클래스, 이름) -> fetcher, 렌더링마다 리플렉션으로 찾지 않도록 캐시
+    private final Map<FetcherKey, Mustache.VariableFetcher> fetchers = new ConcurrentHashMap<>();
+
+    ValueResolver(Mustache.Compiler compiler) {
+        this.compiler = compiler;
+    }
+
+    // 값이 없으면 Template.NO_FETCHER_FOUND
+    Object get(Context context, String name) {
+        if (DOT.equals(name) || THIS.equals(name)) {
+            return context.data;
+        }
+
+        int dot = name.indexOf('.');
+        if (dot < 0) {
+            return getInStack(context, name);
+        }
+
+        // a.b.c 는 a 만 컨텍스트 스택에서 찾고 나머지는 찾은 값에서 차례로 찾음
+        Object value = getInStack(context, name.substring(0, dot));
+        for (String part : name.substring(dot + 1).split("\\.")) {
+            if (value == null || value == Template.NO_FETCHER_FOUND) {
+                return value;
+            }
+            value = getIn(value, part);
+        }
+        return value;
+    }
+
+    Object getSection(Context context, String name) {
+        Object value = get(context, name);
+        if (value != Template.NO_FETCHER_FOUND) {
+            return value;
+        }
+        if (compiler.strictSections) {
+            throw new MustacheException("섹션 '" + name + "' 에 해당하는 값이 없습니다");
+        }
+        return null;
+    }
+
+    String format(String name, Object value) {
+        if (value == Template.NO_FETCHER_FOUND) {
+            if (!compiler.missingIsNull) {
+                throw new MustacheException("No key, method or field with name '" + name + "'");
+            }
+            value = null;
+        }
+        if (value == null) {
+            if (compiler.nullValue == null) {
+                throw new MustacheException("No key, method or field with name '" + name + "'");
+            }
+            return compiler.nullValue;
+        }
+        return compiler.formatter.format(value);
+    }
+
+    String escape(String text) {
+        return compiler.escaper.escape(text);
+    }
+
+    Iterator<?> toIterator(Object value) {
+        return compiler.collector.toIterator(value);
+    }
+
+    boolean isFalsey(Object value) {
+        return compiler.isFalsey(value);
+    }
+
+    private Object getInStack(Context context, String name) {
+        for (Context current = context; current != null; current = current.parent) {
+            Object value = getIn(current.data, name);
+            if (value != Template.NO_FETCHER_FOUND) {
+                return value;
+            }
+        }
+        return Template.NO_FETCHER_FOUND;
+    }
+
+    private Object getIn(Object data, String name) {
+        if (data == null) {
+            return Template.NO_FETCHER_FOUND;
+        }
+
+        FetcherKey key = new FetcherKey(data.getClass(), name);
+        Mustache.VariableFetcher fetcher = fetchers.get(key);
+        if (fetcher == null) {
+            fetcher = compiler.collector.createFetcher(data, name);
+            if (fetcher == null) {
+                // Map 은 인스턴스마다 키가 다르므로 없다는 결과를 캐시하지 않음
+                if (data instanceof Map) {
+                    return Template.NO_FETCHER_FOUND;
+                }
+                fetcher = NO_FETCHER;
+            }
+            fetchers.put(key, fetcher);
+        }
+        if (fetcher == NO_FETCHER) {
+            return Template.NO_FETCHER_FOUND;
+        }
+
+        try {
+            return fetcher.get(data, name);
+        } catch (Exception e) {
+            throw new MustacheException("'" + name + "' 값을 읽지 못했습니다", e);
+        }
+    }
+
+    private static class FetcherKey {
+
+        private final Class<?> type;
+        private final String name;
+
+        FetcherKey(Class<?> type, String name) {
+            this.type = type;
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            FetcherKey key = (FetcherKey) o;
+
+            return type == key.type && name.equals(key.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, name);
+        }
+    }
+}
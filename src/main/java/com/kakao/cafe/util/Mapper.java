@@ -2,57 +2,121 @@ package com.kakao.cafe.util;
 
 import com.kakao.cafe.exception.ErrorCode;
 import com.kakao.cafe.exception.InternalOperationException;
-import java.lang.reflect.Constructor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class Mapper {
 
+    // source 클래스 -> target 클래스 -> 매핑 계획, 클래스 쌍마다 한 번만 생성
+    private static final ClassValue<ClassValue<MappingPlan>> PLANS = new ClassValue<>() {
+        @Override
+        protected ClassValue<MappingPlan> computeValue(Class<?> sourceType) {
+            return new ClassValue<>() {
+                @Override
+                protected MappingPlan computeValue(Class<?> targetType) {
+                    return MappingPlan.of(sourceType, targetType);
+                }
+            };
+        }
+    };
+
     public static <T> T map(Object obj, Class<T> type) {
         if (obj == null || type == null) {
             throw new InternalOperationException(ErrorCode.INTERNAL_ERROR);
         }
 
         try {
-            Map<String, Object> sourceMap = sourceToMap(obj);
-            return mapToTarget(sourceMap, type);
-        } catch (Exception e) {
+            MappingPlan plan = PLANS.get(obj.getClass()).get(type);
+            return type.cast(plan.map(obj));
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new InternalOperationException(ErrorCode.INTERNAL_ERROR);
         }
     }
 
-    // source fields -> map
-    private static Map<String, Object> sourceToMap(Object obj) throws IllegalAccessException {
-        Field[] sourceFields = obj.getClass().getDeclaredFields();
-        Map<String, Object> sourceMap = new HashMap<>();
+    private static class MappingPlan {
+
+        private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+        private static final MethodType GETTER_TYPE =
+            MethodType.methodType(Object.class, Object.class);
+        private static final MethodType SETTER_TYPE =
+            MethodType.methodType(void.class, Object.class, Object.class);
+
+        private final MethodHandle constructor;
+        private final MethodHandle[] getters;
+        private final MethodHandle[] setters;
 
-        for (Field field : sourceFields) {
-            field.setAccessible(true);
-            sourceMap.put(field.getName(), field.get(obj));
+        private MappingPlan(MethodHandle constructor, MethodHandle[] getters,
+            MethodHandle[] setters) {
+            this.constructor = constructor;
+            this.getters = getters;
+            this.setters = setters;
         }
-        return sourceMap;
-    }
 
-    // map -> target fields
-    private static <T> T mapToTarget(Map<String, Object> sourceMap, Class<T> type)
-        throws NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
-        Constructor<T> constructor = type.getDeclaredConstructor();
+        // 이름이 같은 인스턴스 필드끼리 getter, setter 쌍을 구성
+        static MappingPlan of(Class<?> sourceType, Class<?> targetType) {
+            try {
+                Lookup sourceLookup = MethodHandles.privateLookupIn(sourceType,
+                    MethodHandles.lookup());
+                Lookup targetLookup = MethodHandles.privateLookupIn(targetType,
+                    MethodHandles.lookup());
+
+                MethodHandle constructor = targetLookup
+                    .unreflectConstructor(targetType.getDeclaredConstructor())
+                    .asType(CONSTRUCTOR_TYPE);
+
+                Map<String, Field> sourceFields = new HashMap<>();
+                for (Field field : sourceType.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        sourceFields.put(field.getName(), field);
+                    }
+                }
 
-        constructor.setAccessible(true);
-        T instance = constructor.newInstance();
+                List<MethodHandle> getters = new ArrayList<>();
+                List<MethodHandle> setters = new ArrayList<>();
+
+                for (Field field : targetType.getDeclaredFields()) {
+                    Field sourceField = sourceFields.get(field.getName());
+                    if (sourceField == null || Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    // final 필드도 기존처럼 쓸 수 있도록 접근 허용
+                    field.setAccessible(true);
+
+                    getters.add(sourceLookup.unreflectGetter(sourceField).asType(GETTER_TYPE));
+                    setters.add(targetLookup.unreflectSetter(field).asType(SETTER_TYPE));
+                }
+
+                return new MappingPlan(constructor, getters.toArray(new MethodHandle[0]),
+                    setters.toArray(new MethodHandle[0]));
+
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
 
-        Field[] targetFields = type.getDeclaredFields();
+        Object map(Object source) throws Throwable {
+            Object instance = (Object) constructor.invokeExact();
 
-        for (Field field : targetFields) {
-            field.setAccessible(true);
+            for (int i = 0; i < getters.length; i++) {
+                Object value = (Object) getters[i].invokeExact(source);
 
-            if (sourceMap.get(field.getName()) != null) {
-                field.set(instance, sourceMap.get(field.getName()));
+                // null 인 필드는 target 의 기본값을 유지
+                if (value != null) {
+                    setters[i].invokeExact(instance, value);
+                }
             }
+            return instance;
         }
-        return instance;
     }
 
 }
@@ -11,18 +11,25 @@ CREATE TABLE article
     title        VARCHAR(255),
     contents     VARCHAR(255),
     created_date TIMESTAMP,
+    reply_count  INT NOT NULL DEFAULT 0,
+    updated_date TIMESTAMP,
+    version      BIGINT NOT NULL DEFAULT 0,
     deleted      BOOLEAN DEFAULT FALSE,
     PRIMARY KEY (article_id)
 );
 
+CREATE INDEX idx_article_page ON article (deleted, created_date, article_id);
+
 DROP TABLE IF EXISTS `user` CASCADE;
 
 CREATE TABLE `user`
 (
-    user_id  VARCHAR(255) NOT NULL,
-    password VARCHAR(255) NOT NULL,
-    `name`   VARCHAR(255),
-    email    VARCHAR(255),
+    user_id      VARCHAR(255) NOT NULL,
+    password     VARCHAR(255) NOT NULL,
+    `name`       VARCHAR(255),
+    email        VARCHAR(255),
+    updated_date TIMESTAMP,
+    version      BIGINT       NOT NULL DEFAULT 0,
     PRIMARY KEY (user_id)
 );
 
@@ -41,4 +48,15 @@ CREATE TABLE reply
     FOREIGN KEY (user_id) REFERENCES `user` (user_id) ON DELETE CASCADE
 );
 
+-- 쓰기 지연 모드에서 댓글 id 를 미리 할당하기 위한 시퀀스
+DROP TABLE IF EXISTS reply_sequence CASCADE;
+
+CREATE TABLE reply_sequence
+(
+    next_val INT NOT NULL
+);
+
+INSERT INTO reply_sequence (next_val)
+VALUES (0);
+
 SET FOREIGN_KEY_CHECKS = 1;
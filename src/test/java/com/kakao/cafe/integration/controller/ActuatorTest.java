@@ -0,0 +1,32 @@
+package com.kakao.cafe.integration.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@ActiveProfiles(profiles = "local")
+@AutoConfigureMockMvc
+@DisplayName("관리 엔드포인트 통합 테스트")
+public class ActuatorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("지표는 서비스 포트에서 응답하지 않는다")
+    public void metricsNotOnServicePortTest() throws Exception {
+        // when, then
+        mockMvc.perform(get("/actuator/prometheus"))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(get("/actuator/metrics"))
+            .andExpect(status().isNotFound());
+    }
+}
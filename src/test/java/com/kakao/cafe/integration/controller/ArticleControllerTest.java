@@ -1,11 +1,15 @@
 package com.kakao.cafe.integration.controller;
 
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
@@ -30,6 +34,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpSession;
 import org.springframework.stereotype.Component;
@@ -73,10 +78,8 @@ public class ArticleControllerTest {
 
         articleResponse = ArticleResponse.createWithArticle(1, "writer", "title", "contents",
             LocalDateTime.now());
-        sessionUser = new SessionUser(1, "writer", "userPassword", "userName",
-            "user@example.com");
-        sessionOther = new SessionUser(1, "otherId", "otherPassword", "otherName",
-            "other@example.com");
+        sessionUser = new SessionUser("writer", "userName");
+        sessionOther = new SessionUser("otherId", "otherName");
 
         session = new MockHttpSession();
         session.setAttribute(SessionUser.SESSION_KEY, sessionUser);
@@ -139,6 +142,35 @@ public class ArticleControllerTest {
             .andExpect(view().name("qna/list"));
     }
 
+    @Test
+    @DisplayName("로그인하지 않은 요청은 세션을 만들지 않고 로그인 메뉴를 보여준다")
+    public void listArticlesAnonymousTest() throws Exception {
+        // given
+        articleSetUp.saveArticle(article);
+
+        // when
+        ResultActions actions = performGet("/");
+
+        // then
+        actions.andExpect(status().isOk())
+            .andExpect(model().attribute("navbar", hasProperty("loggedIn", is(false))))
+            .andExpect(result -> then(result.getRequest().getSession(false)).isNull());
+    }
+
+    @Test
+    @DisplayName("로그인한 요청은 navbar 에 유저 정보를 보여준다")
+    public void listArticlesLoggedInTest() throws Exception {
+        // when
+        ResultActions actions = mockMvc.perform(get("/")
+            .session(session)
+            .accept(MediaType.TEXT_HTML));
+
+        // then
+        actions.andExpect(status().isOk())
+            .andExpect(model().attribute("navbar", hasProperty("userId", is("writer"))))
+            .andExpect(model().attribute("navbar", hasProperty("loggedIn", is(true))));
+    }
+
     @Test
     @DisplayName("질문 id 로 선택한 질문을 화면에 출력한다")
     public void showArticleTest() throws Exception {
@@ -154,6 +186,77 @@ public class ArticleControllerTest {
             .andExpect(view().name("qna/show"));
     }
 
+    @Test
+    @DisplayName("질문이 바뀌지 않았으면 ETag 로 재검증한 요청에 304 로 응답한다")
+    public void showArticleNotModifiedTest() throws Exception {
+        // given
+        Article savedArticle = articleSetUp.saveArticle(article);
+        String url = "/articles/" + savedArticle.getArticleId();
+
+        String etag = mockMvc.perform(get(url).session(session).accept(MediaType.TEXT_HTML))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when
+        ResultActions actions = mockMvc.perform(get(url)
+            .session(session)
+            .header(HttpHeaders.IF_NONE_MATCH, etag)
+            .accept(MediaType.TEXT_HTML));
+
+        // then
+        actions.andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag));
+    }
+
+    @Test
+    @DisplayName("댓글이 달리면 질문의 이전 ETag 로 재검증한 요청에 새 화면으로 응답한다")
+    public void showArticleModifiedByReplyTest() throws Exception {
+        // given
+        User savedUser = articleSetUp.saveUser(user);
+        Article savedArticle = articleSetUp.saveArticle(article);
+        String url = "/articles/" + savedArticle.getArticleId();
+
+        String etag = mockMvc.perform(get(url).session(session).accept(MediaType.TEXT_HTML))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        articleSetUp.saveReply(Reply.createWithInput(savedArticle.getArticleId(),
+            savedUser.getUserId(), "comment"));
+
+        // when
+        ResultActions actions = mockMvc.perform(get(url)
+            .session(session)
+            .header(HttpHeaders.IF_NONE_MATCH, etag)
+            .accept(MediaType.TEXT_HTML));
+
+        // then
+        actions.andExpect(status().isOk())
+            .andExpect(view().name("qna/show"));
+    }
+
+    @Test
+    @DisplayName("같은 질문이라도 다른 유저의 ETag 로는 304 로 응답하지 않는다")
+    public void showArticleOtherViewerTest() throws Exception {
+        // given
+        Article savedArticle = articleSetUp.saveArticle(article);
+        String url = "/articles/" + savedArticle.getArticleId();
+
+        String etag = mockMvc.perform(get(url).session(session).accept(MediaType.TEXT_HTML))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        MockHttpSession otherSession = new MockHttpSession();
+        otherSession.setAttribute(SessionUser.SESSION_KEY, sessionOther);
+
+        // when
+        ResultActions actions = mockMvc.perform(get(url)
+            .session(otherSession)
+            .header(HttpHeaders.IF_NONE_MATCH, etag)
+            .accept(MediaType.TEXT_HTML));
+
+        // then
+        actions.andExpect(status().isOk())
+            .andExpect(model().attribute("navbar", hasProperty("userId", is("otherId"))));
+    }
+
     @Test
     @DisplayName("존재하지 않은 질문 id 로 질문을 조회하면 예외 페이지로 이동한다")
     public void showArticleValidateTest() throws Exception {
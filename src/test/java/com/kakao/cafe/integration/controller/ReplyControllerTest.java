@@ -60,10 +60,8 @@ public class ReplyControllerTest {
         article = Article.createWithInput("writer", "title", "contents");
         user = User.createWithInput("writer", "userPassword", "userName", "user@example.com");
 
-        sessionUser = new SessionUser(1, "writer", "userPassword", "userName",
-            "user@example.com");
-        sessionOther = new SessionUser(1, "otherId", "otherPassword", "otherName",
-            "other@example.com");
+        sessionUser = new SessionUser("writer", "userName");
+        sessionOther = new SessionUser("otherId", "otherName");
 
         session = new MockHttpSession();
         session.setAttribute(SessionUser.SESSION_KEY, sessionUser);
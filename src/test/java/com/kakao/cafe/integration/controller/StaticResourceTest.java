@@ -0,0 +1,164 @@
+package com.kakao.cafe.integration.controller;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.kakao.cafe.asset.AssetUrlRewriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.util.StreamUtils;
+
+@SpringBootTest
+@ActiveProfiles(profiles = "local")
+@AutoConfigureMockMvc
+@Sql("classpath:/schema-h2.sql")
+@DisplayName("정적 리소스 통합 테스트")
+public class StaticResourceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AssetUrlRewriter assetUrlRewriter;
+
+    @Test
+    @DisplayName("화면은 해시가 붙은 정적 리소스 경로를 참조한다")
+    public void versionedReferenceTest() throws Exception {
+        // when
+        String html = mockMvc.perform(get("/"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        // then
+        then(html)
+            .contains(assetUrlRewriter.getVersionedPath("/css/bootstrap.min.css"))
+            .contains(assetUrlRewriter.getVersionedPath("/css/styles.css"))
+            .contains(assetUrlRewriter.getVersionedPath("/js/jquery-2.2.0.min.js"))
+            .contains(assetUrlRewriter.getVersionedPath("/js/scripts.js"))
+            .doesNotContain("\"/js/scripts.js\"");
+    }
+
+    @Test
+    @DisplayName("해시가 붙은 경로는 1년 동안 immutable 로 캐시한다")
+    public void versionedCacheTest() throws Exception {
+        // given
+        String path = assetUrlRewriter.getVersionedPath("/js/scripts.js");
+
+        // when, then
+        mockMvc.perform(get(path))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL,
+                "max-age=31536000, public, immutable"));
+    }
+
+    @Test
+    @DisplayName("변환된 css 도 1년 동안 캐시하고, 안의 폰트 경로에는 해시를 붙인다")
+    public void versionedCssTest() throws Exception {
+        // given
+        String path = assetUrlRewriter.getVersionedPath("/css/bootstrap.min.css");
+
+        // when
+        String css = mockMvc.perform(get(path))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL,
+                "max-age=31536000, public, immutable"))
+            .andReturn().getResponse().getContentAsString();
+
+        // then
+        then(css).containsPattern("glyphicons-halflings-regular-[0-9a-f]{32}\\.woff");
+    }
+
+    @Test
+    @DisplayName("gzip 을 받을 수 있어도 css 는 폰트 경로에 해시를 붙여 응답한다")
+    public void gzipCssTest() throws Exception {
+        // given
+        String path = assetUrlRewriter.getVersionedPath("/css/bootstrap.min.css");
+
+        // when
+        String css = mockMvc.perform(get(path)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+            .andReturn().getResponse().getContentAsString();
+
+        // then
+        then(css).containsPattern("glyphicons-halflings-regular-[0-9a-f]{32}\\.woff")
+            .doesNotContain("glyphicons-halflings-regular.woff");
+    }
+
+    @Test
+    @DisplayName("해시가 없는 경로는 짧게 캐시한다")
+    public void unversionedCacheTest() throws Exception {
+        // when, then
+        mockMvc.perform(get("/js/scripts.js"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=20"));
+    }
+
+    @Test
+    @DisplayName("gzip 을 받을 수 있으면 미리 압축한 파일로 응답한다")
+    public void gzipTest() throws Exception {
+        // given
+        String path = assetUrlRewriter.getVersionedPath("/js/jquery-2.2.0.min.js");
+
+        // when
+        MockHttpServletResponse response = mockMvc.perform(get(path)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL,
+                "max-age=31536000, public, immutable"))
+            .andExpect(content().contentTypeCompatibleWith("application/javascript"))
+            .andReturn().getResponse();
+
+        // then
+        then(response.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+        then(response.getContentAsByteArray()).isEqualTo(StreamUtils.copyToByteArray(
+            new ClassPathResource("static/js/jquery-2.2.0.min.js.gz").getInputStream()));
+    }
+
+    @Test
+    @DisplayName("압축 파일이 있는 리소스는 압축하지 않은 응답에도 Vary 를 추가한다")
+    public void identityVaryTest() throws Exception {
+        // when
+        MockHttpServletResponse response = mockMvc.perform(get("/js/jquery-2.2.0.min.js"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=20"))
+            .andReturn().getResponse();
+
+        // then
+        then(response.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Test
+    @DisplayName("압축 파일이 없는 리소스는 Vary 를 추가하지 않는다")
+    public void notEncodedTest() throws Exception {
+        // when, then
+        mockMvc.perform(get("/images/80-text.png")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+            .andExpect(header().doesNotExist(HttpHeaders.VARY));
+    }
+
+    @Test
+    @DisplayName("내용과 다른 해시로 요청하면 404 로 응답한다")
+    public void wrongVersionTest() throws Exception {
+        // when, then
+        mockMvc.perform(get("/js/scripts-00000000000000000000000000000000.js"))
+            .andExpect(status().isNotFound());
+    }
+}
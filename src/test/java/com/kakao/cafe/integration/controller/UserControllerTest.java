@@ -1,10 +1,12 @@
 package com.kakao.cafe.integration.controller;
 
+import static org.assertj.core.api.BDDAssertions.then;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
@@ -22,6 +24,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpSession;
 import org.springframework.test.context.ActiveProfiles;
@@ -58,8 +61,7 @@ public class UserControllerTest {
         user = User.createWithInput("userId", "userPassword", "userName", "user@example.com");
         userResponse = new UserResponse(1, "userId", "userPassword", "userName",
             "user@example.com");
-        sessionUser = new SessionUser(1, "userId", "userPassword", "userName",
-            "user@example.com");
+        sessionUser = new SessionUser("userId", "userName");
 
         session = new MockHttpSession();
         session.setAttribute(SessionUser.SESSION_KEY, sessionUser);
@@ -112,6 +114,48 @@ public class UserControllerTest {
             .andExpect(view().name("user/profile"));
     }
 
+    @Test
+    @DisplayName("유저 정보가 바뀌지 않았으면 ETag 로 재검증한 요청에 304 로 응답한다")
+    public void showUserNotModifiedTest() throws Exception {
+        // given
+        userSetUp.saveUser(user);
+        String etag = performGet("/users/userId")
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when
+        ResultActions actions = mockMvc.perform(get("/users/userId")
+            .header(HttpHeaders.IF_NONE_MATCH, etag)
+            .accept(MediaType.TEXT_HTML));
+
+        // then
+        actions.andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag));
+    }
+
+    @Test
+    @DisplayName("유저 정보가 바뀌면 이전 ETag 로 재검증한 요청에 새 화면으로 응답한다")
+    public void showUserModifiedTest() throws Exception {
+        // given
+        userSetUp.saveUser(user);
+        String etag = performGet("/users/userId")
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        userSetUp.saveUser(User.createWithInput("userId", "userPassword", "otherName",
+            "other@example.com"));
+
+        // when
+        ResultActions actions = mockMvc.perform(get("/users/userId")
+            .header(HttpHeaders.IF_NONE_MATCH, etag)
+            .accept(MediaType.TEXT_HTML));
+
+        // then
+        String newEtag = actions.andExpect(status().isOk())
+            .andExpect(view().name("user/profile"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        then(newEtag).isNotEqualTo(etag);
+    }
+
     @Test
     @DisplayName("유저 회원 가입 화면을 보여준다")
     public void createUserFormTest() throws Exception {
@@ -0,0 +1,120 @@
+package com.kakao.cafe.integration.repository;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.kakao.cafe.config.QueryProps;
+import com.kakao.cafe.domain.Article;
+import com.kakao.cafe.domain.Reply;
+import com.kakao.cafe.domain.User;
+import com.kakao.cafe.replica.ReplicaRouter;
+import com.kakao.cafe.repository.jdbc.ArticleExportRepository;
+import com.kakao.cafe.repository.jdbc.ArticleJdbcRepository;
+import com.kakao.cafe.repository.jdbc.GeneratedKeyHolderFactory;
+import com.kakao.cafe.repository.jdbc.JdbcBatchTemplate;
+import com.kakao.cafe.repository.jdbc.KeyHolderFactory;
+import com.kakao.cafe.repository.jdbc.QueryMetrics;
+import com.kakao.cafe.repository.jdbc.QueryTemplate;
+import com.kakao.cafe.repository.jdbc.ReplyJdbcRepository;
+import com.kakao.cafe.repository.jdbc.SlowQueryLog;
+import com.kakao.cafe.repository.jdbc.UserJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+@JdbcTest
+@ActiveProfiles(profiles = "local")
+@Sql("classpath:/schema-h2.sql")
+@Import({GeneratedKeyHolderFactory.class, QueryProps.class, JdbcBatchTemplate.class})
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@DisplayName("ArticleExportRepository JDBC 통합 테스트")
+public class ArticleExportRepositoryTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ArticleExportRepository exportRepository;
+    private final ArticleJdbcRepository articleRepository;
+    private final ReplyJdbcRepository replyRepository;
+    private final UserJdbcRepository userRepository;
+    private Article article;
+    private Article otherArticle;
+
+    @Autowired
+    public ArticleExportRepositoryTest(DataSource dataSource,
+        JdbcTemplate jdbcTemplate, KeyHolderFactory keyHolderFactory,
+        QueryProps queryProps, JdbcBatchTemplate batchTemplate) {
+        QueryMetrics queryMetrics = new QueryMetrics(registry, SlowQueryLog.disabled());
+        QueryTemplate queryTemplate = new QueryTemplate(jdbcTemplate, batchTemplate,
+            queryMetrics, ReplicaRouter.primaryOnly());
+        this.exportRepository = new ArticleExportRepository(dataSource, queryProps,
+            queryMetrics, 2);
+        this.articleRepository = new ArticleJdbcRepository(queryTemplate, keyHolderFactory,
+            queryProps);
+        this.replyRepository = new ReplyJdbcRepository(queryTemplate, keyHolderFactory,
+            queryProps);
+        this.userRepository = new UserJdbcRepository(queryTemplate, queryProps);
+    }
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.save(
+            User.createWithInput("userId", "userPassword", "userName", "user@example.com"));
+        article = articleRepository.save(Article.createWithInput("userId", "title", "contents"));
+        otherArticle = articleRepository.save(
+            Article.createWithInput("userId", "otherTitle", "otherContents"));
+    }
+
+    @Test
+    @DisplayName("삭제되지 않은 질문을 id 순서대로 한 건씩 전달한다")
+    public void streamArticlesTest() {
+        // given
+        Article deletedArticle = articleRepository.save(
+            Article.createWithInput("userId", "deletedTitle", "deletedContents"));
+        articleRepository.deleteById(deletedArticle.getArticleId());
+
+        List<Integer> articleIds = new ArrayList<>();
+
+        // when
+        exportRepository.streamArticles(article -> articleIds.add(article.getArticleId()));
+
+        // then
+        then(articleIds).containsExactly(article.getArticleId(), otherArticle.getArticleId());
+        then(registry.get("cafe.query").tag("query", "EXPORT_ARTICLES").timer().count())
+            .isEqualTo(1);
+        then(registry.get("cafe.query.rows").tag("query", "EXPORT_ARTICLES").summary()
+            .totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("질문과 댓글의 조인 결과를 질문 단위로 묶어 전달한다")
+    public void streamArticlesWithRepliesTest() {
+        // given
+        replyRepository.save(Reply.createWithInput(article.getArticleId(), "userId", "first"));
+        replyRepository.save(Reply.createWithInput(article.getArticleId(), "userId", "second"));
+
+        Map<Integer, List<Reply>> exported = new LinkedHashMap<>();
+
+        // when
+        exportRepository.streamArticlesWithReplies(
+            (article, replies) -> exported.put(article.getArticleId(), replies));
+
+        // then
+        then(exported).containsOnlyKeys(article.getArticleId(), otherArticle.getArticleId());
+        then(exported.get(article.getArticleId()))
+            .extracting(Reply::getComment)
+            .containsExactly("first", "second");
+        then(exported.get(otherArticle.getArticleId())).isEmpty();
+    }
+}
@@ -5,9 +5,17 @@ import static org.assertj.core.api.BDDAssertions.then;
 
 import com.kakao.cafe.config.QueryProps;
 import com.kakao.cafe.domain.Article;
+import com.kakao.cafe.domain.ArticleDeleteResult;
+import com.kakao.cafe.domain.ResourceVersion;
+import com.kakao.cafe.replica.ReplicaRouter;
 import com.kakao.cafe.repository.jdbc.ArticleJdbcRepository;
 import com.kakao.cafe.repository.jdbc.GeneratedKeyHolderFactory;
+import com.kakao.cafe.repository.jdbc.JdbcBatchTemplate;
 import com.kakao.cafe.repository.jdbc.KeyHolderFactory;
+import com.kakao.cafe.repository.jdbc.QueryMetrics;
+import com.kakao.cafe.repository.jdbc.QueryTemplate;
+import com.kakao.cafe.repository.jdbc.SlowQueryLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -19,25 +27,31 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
 import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.context.annotation.Import;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 
 @JdbcTest
 @ActiveProfiles(profiles = "local")
 @Sql("classpath:/schema-h2.sql")
-@Import({GeneratedKeyHolderFactory.class, QueryProps.class})
+@Import({GeneratedKeyHolderFactory.class, QueryProps.class, JdbcBatchTemplate.class})
 @AutoConfigureTestDatabase(replace = Replace.NONE)
 @DisplayName("ArticleJdbcRepository JDBC 통합 테스트")
 public class ArticleJdbcRepositoryTest {
 
+    private final JdbcTemplate jdbcTemplate;
     private final ArticleJdbcRepository articleRepository;
     private Article article;
 
     @Autowired
-    public ArticleJdbcRepositoryTest(NamedParameterJdbcTemplate jdbcTemplate,
-        KeyHolderFactory keyHolderFactory, QueryProps queryProps) {
-        this.articleRepository = new ArticleJdbcRepository(jdbcTemplate, keyHolderFactory,
+    public ArticleJdbcRepositoryTest(JdbcTemplate jdbcTemplate,
+        KeyHolderFactory keyHolderFactory, QueryProps queryProps,
+        JdbcBatchTemplate batchTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        QueryTemplate queryTemplate = new QueryTemplate(jdbcTemplate, batchTemplate,
+            new QueryMetrics(new SimpleMeterRegistry(), SlowQueryLog.disabled()),
+            ReplicaRouter.primaryOnly());
+        this.articleRepository = new ArticleJdbcRepository(queryTemplate, keyHolderFactory,
             queryProps);
     }
 
@@ -65,6 +79,23 @@ public class ArticleJdbcRepositoryTest {
             });
     }
 
+    @Test
+    @DisplayName("질문 객체 여러 개를 한 번에 저장하고, 생성된 id 로 조회해 확인한다")
+    public void saveAllTest() {
+        // given
+        List<Article> articles = List.of(article,
+            Article.createWithInput("writer", "otherTitle", "otherContents"));
+
+        // when
+        List<Article> savedArticles = articleRepository.saveAll(articles);
+
+        // then
+        then(savedArticles).allSatisfy(savedArticle ->
+            then(articleRepository.findById(savedArticle.getArticleId()))
+                .hasValueSatisfying(findArticle ->
+                    then(findArticle.getTitle()).isEqualTo(savedArticle.getTitle())));
+    }
+
     @Test
     @DisplayName("모든 질문 객체를 조회한다")
     public void findAllTest() {
@@ -78,6 +109,25 @@ public class ArticleJdbcRepositoryTest {
         then(findArticles).containsExactlyElementsOf(List.of(savedArticle));
     }
 
+    @Test
+    @DisplayName("커서 이후의 질문 객체를 최신순으로 조회한다")
+    public void findAllAfterTest() {
+        // given
+        Article first = articleRepository.save(Article.createWithInput("writer", "first", "c"));
+        Article second = articleRepository.save(Article.createWithInput("writer", "second", "c"));
+        Article third = articleRepository.save(Article.createWithInput("writer", "third", "c"));
+
+        // when
+        List<Article> firstPage = articleRepository.findAllAfter(null, null, 2);
+        Article last = firstPage.get(firstPage.size() - 1);
+        List<Article> nextPage = articleRepository.findAllAfter(last.getCreatedDate(),
+            last.getArticleId(), 2);
+
+        // then
+        then(firstPage).containsExactly(third, second);
+        then(nextPage).containsExactly(first);
+    }
+
     @Test
     @DisplayName("질문 id 로 질문 객체를 조회한다")
     public void findByArticleIdTest() {
@@ -141,5 +191,98 @@ public class ArticleJdbcRepositoryTest {
 
     }
 
-}
+    private void saveReply(String userId) {
+        jdbcTemplate.update("INSERT INTO `user` (user_id, password) VALUES (?, ?)", userId,
+            "password");
+        jdbcTemplate.update("INSERT INTO reply (article_id, user_id, comment) VALUES (?, ?, ?)",
+            article.getArticleId(), userId, "comment");
+    }
+
+    @Test
+    @DisplayName("작성자의 질문은 작성자의 댓글만 있으면 삭제한다")
+    public void deleteByIdAndWriterTest() {
+        // given
+        articleRepository.save(article);
+        saveReply("writer");
+
+        // when
+        ArticleDeleteResult result = articleRepository.deleteByIdAndWriter(
+            article.getArticleId(), "writer");
+
+        // then
+        then(result).isEqualTo(ArticleDeleteResult.DELETED);
+        then(articleRepository.findById(article.getArticleId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제하지 못한 질문은 삭제하지 않고 그 이유를 반환한다")
+    public void deleteByIdAndWriterRejectedTest() {
+        // given
+        articleRepository.save(article);
+        saveReply("otherId");
+
+        // when
+        ArticleDeleteResult notFound = articleRepository.deleteByIdAndWriter(
+            article.getArticleId() + 1, "writer");
+        ArticleDeleteResult notWriter = articleRepository.deleteByIdAndWriter(
+            article.getArticleId(), "otherId");
+        ArticleDeleteResult hasOtherReplies = articleRepository.deleteByIdAndWriter(
+            article.getArticleId(), "writer");
 
+        // then
+        then(notFound).isEqualTo(ArticleDeleteResult.NOT_FOUND);
+        then(notWriter).isEqualTo(ArticleDeleteResult.NOT_WRITER);
+        then(hasOtherReplies).isEqualTo(ArticleDeleteResult.HAS_OTHER_REPLIES);
+        then(articleRepository.findById(article.getArticleId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("삭제된 질문은 다시 삭제하지 않는다")
+    public void deleteByIdAndWriterDeletedTest() {
+        // given
+        articleRepository.save(article);
+        articleRepository.deleteById(article.getArticleId());
+
+        // when
+        ArticleDeleteResult result = articleRepository.deleteByIdAndWriter(
+            article.getArticleId(), "writer");
+
+        // then
+        then(result).isEqualTo(ArticleDeleteResult.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("질문을 업데이트하면 질문의 버전이 증가한다")
+    public void findVersionByIdTest() {
+        // given
+        articleRepository.save(article);
+        ResourceVersion before = articleRepository.findVersionById(article.getArticleId())
+            .orElseThrow();
+
+        // when
+        articleRepository.save(Article.createWithoutReplyCount(article.getArticleId(), "writer",
+            "otherTitle", "otherContents", LocalDateTime.now()));
+
+        // then
+        then(before.getUpdatedDate()).isNotNull();
+        then(articleRepository.findVersionById(article.getArticleId()))
+            .hasValueSatisfying(after ->
+                then(after.getVersion()).isEqualTo(before.getVersion() + 1));
+    }
+
+    @Test
+    @DisplayName("삭제된 질문의 버전은 조회되지 않는다")
+    public void findVersionByIdDeletedTest() {
+        // given
+        articleRepository.save(article);
+        articleRepository.deleteById(article.getArticleId());
+
+        // when
+        Optional<ResourceVersion> version = articleRepository.findVersionById(
+            article.getArticleId());
+
+        // then
+        then(version).isEmpty();
+    }
+
+}
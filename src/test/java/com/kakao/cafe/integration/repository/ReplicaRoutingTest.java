@@ -0,0 +1,220 @@
+package com.kakao.cafe.integration.repository;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.kakao.cafe.config.QueryProps;
+import com.kakao.cafe.domain.User;
+import com.kakao.cafe.replica.ReadYourWrites;
+import com.kakao.cafe.replica.Replica;
+import com.kakao.cafe.replica.ReplicaRouter;
+import com.kakao.cafe.repository.jdbc.JdbcBatchTemplate;
+import com.kakao.cafe.repository.jdbc.QueryMetrics;
+import com.kakao.cafe.repository.jdbc.QueryTemplate;
+import com.kakao.cafe.repository.jdbc.SlowQueryLog;
+import com.kakao.cafe.repository.jdbc.UserJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+// primary, replica 를 서로 다른 H2 메모리 DB 로 띄워 어느 쪽에서 읽었는지 구분
+@DisplayName("ReplicaRouter 조회 분배 통합 테스트")
+public class ReplicaRoutingTest {
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replicaDatabase;
+    private FailingDataSource replicaDataSource;
+    private Replica replica;
+
+    User user;
+
+    @BeforeEach
+    public void setUp() {
+        primary = database();
+        replicaDatabase = database();
+        replicaDataSource = new FailingDataSource(replicaDatabase);
+        replica = new Replica("replica-0", replicaDataSource);
+
+        user = User.createWithInput("userId", "userPassword", "userName", "user@example.com");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ReadYourWrites.close();
+        primary.shutdown();
+        replicaDatabase.shutdown();
+    }
+
+    private EmbeddedDatabase database() {
+        return new EmbeddedDatabaseBuilder()
+            .generateUniqueName(true)
+            .setType(EmbeddedDatabaseType.H2)
+            .addScript("classpath:schema-h2.sql")
+            .build();
+    }
+
+    private ReplicaRouter router(String lagQuery) {
+        ReplicaRouter router = new ReplicaRouter(List.of(replica), Duration.ofSeconds(5), 5,
+            lagQuery, Duration.ZERO, Clock.systemUTC());
+        router.checkHealth();
+        return router;
+    }
+
+    private UserJdbcRepository userRepository(ReplicaRouter router) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(primary);
+        QueryTemplate queryTemplate = new QueryTemplate(jdbcTemplate,
+            new JdbcBatchTemplate(jdbcTemplate, 500),
+            new QueryMetrics(new SimpleMeterRegistry(), SlowQueryLog.disabled()), router);
+        return new UserJdbcRepository(queryTemplate, new QueryProps());
+    }
+
+    @Test
+    @DisplayName("read-your-writes 구간 밖의 조회는 replica 에서 읽는다")
+    public void readFromReplicaTest() {
+        // given
+        UserJdbcRepository userRepository = userRepository(router("SELECT 0"));
+        userRepository.save(user);
+
+        // when, then
+        then(replica.isHealthy()).isTrue();
+        then(userRepository.findAll()).isEmpty();
+        then(userRepository.findVersionByUserId("userId")).isPresent();
+    }
+
+    @Test
+    @DisplayName("replica 의 행 버전이 ETag 버전 이상이면 상세 조회도 replica 에서 읽는다")
+    public void readAtVersionFromReplicaTest() {
+        // given
+        UserJdbcRepository userRepository = userRepository(router("SELECT 0"));
+        userRepository.save(user);
+        insertReplicaUser(0);
+
+        // when
+        Optional<User> findUser = userRepository.readAtVersion("userId", 0,
+            () -> userRepository.findByUserId("userId"));
+
+        // then
+        then(findUser).map(User::getName).hasValue("replicaName");
+    }
+
+    @Test
+    @DisplayName("replica 의 행 버전이 ETag 버전보다 낮으면 상세 조회를 primary 에서 읽는다")
+    public void readAtVersionLaggingReplicaTest() {
+        // given
+        UserJdbcRepository userRepository = userRepository(router("SELECT 0"));
+        userRepository.save(user);
+        new JdbcTemplate(primary).update("UPDATE `user` SET version = 1 WHERE user_id = ?",
+            "userId");
+        insertReplicaUser(0);
+
+        // when
+        Optional<User> findUser = userRepository.readAtVersion("userId", 1,
+            () -> userRepository.findByUserId("userId"));
+
+        // then
+        then(replica.isHealthy()).isTrue();
+        then(findUser).map(User::getName).hasValue("userName");
+    }
+
+    @Test
+    @DisplayName("replica 에 아직 없는 행은 상세 조회를 primary 에서 읽는다")
+    public void readAtVersionMissingRowTest() {
+        // given
+        UserJdbcRepository userRepository = userRepository(router("SELECT 0"));
+        userRepository.save(user);
+
+        // when
+        Optional<User> findUser = userRepository.readAtVersion("userId", 0,
+            () -> userRepository.findByUserId("userId"));
+
+        // then
+        then(findUser).isPresent();
+        then(userRepository.findByUserId("userId")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("쓰기 직후 같은 요청의 조회는 primary 에서 읽는다")
+    public void readYourWritesTest() {
+        // given
+        UserJdbcRepository userRepository = userRepository(router("SELECT 0"));
+        ReadYourWrites.open(0, until -> {
+        });
+
+        // when
+        userRepository.save(user);
+
+        // then
+        then(userRepository.findAll()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 max-lag 를 넘는 replica 는 제외하고 primary 에서 읽는다")
+    public void laggingReplicaTest() {
+        // given
+        UserJdbcRepository userRepository = userRepository(router("SELECT 10"));
+
+        // when
+        userRepository.save(user);
+
+        // then
+        then(replica.isHealthy()).isFalse();
+        then(replica.getLagSeconds()).isEqualTo(10);
+        then(userRepository.findAll()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("조회 중 replica 에 연결할 수 없으면 제외하고 primary 에서 다시 읽는다")
+    public void replicaDownTest() {
+        // given
+        ReplicaRouter router = router("SELECT 0");
+        UserJdbcRepository userRepository = userRepository(router);
+        userRepository.save(user);
+
+        // when
+        replicaDataSource.failing = true;
+
+        // then
+        then(userRepository.findAll()).hasSize(1);
+        then(replica.isHealthy()).isFalse();
+
+        replicaDataSource.failing = false;
+        router.checkHealth();
+        then(replica.isHealthy()).isTrue();
+    }
+
+    private void insertReplicaUser(long version) {
+        new JdbcTemplate(replicaDatabase).update(
+            "INSERT INTO `user`(user_id, password, `name`, email, version) VALUES (?, ?, ?, ?, ?)",
+            "userId", "userPassword", "replicaName", "user@example.com", version);
+    }
+
+    private static class FailingDataSource extends DelegatingDataSource {
+
+        volatile boolean failing;
+
+        FailingDataSource(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (failing) {
+                throw new SQLException("replica down");
+            }
+            return super.getConnection();
+        }
+    }
+}
@@ -1,16 +1,25 @@
 package com.kakao.cafe.integration.repository;
 
+import static org.assertj.core.api.BDDAssertions.catchThrowable;
 import static org.assertj.core.api.BDDAssertions.then;
 
 import com.kakao.cafe.config.QueryProps;
 import com.kakao.cafe.domain.Article;
 import com.kakao.cafe.domain.Reply;
 import com.kakao.cafe.domain.User;
+import com.kakao.cafe.exception.ErrorCode;
+import com.kakao.cafe.exception.NotFoundException;
+import com.kakao.cafe.replica.ReplicaRouter;
 import com.kakao.cafe.repository.jdbc.ArticleJdbcRepository;
 import com.kakao.cafe.repository.jdbc.GeneratedKeyHolderFactory;
+import com.kakao.cafe.repository.jdbc.JdbcBatchTemplate;
 import com.kakao.cafe.repository.jdbc.KeyHolderFactory;
+import com.kakao.cafe.repository.jdbc.QueryMetrics;
+import com.kakao.cafe.repository.jdbc.QueryTemplate;
 import com.kakao.cafe.repository.jdbc.ReplyJdbcRepository;
+import com.kakao.cafe.repository.jdbc.SlowQueryLog;
 import com.kakao.cafe.repository.jdbc.UserJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -22,18 +31,19 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
 import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.context.annotation.Import;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 
 @JdbcTest
 @ActiveProfiles(profiles = "local")
 @Sql("classpath:/schema-h2.sql")
-@Import({GeneratedKeyHolderFactory.class, QueryProps.class})
+@Import({GeneratedKeyHolderFactory.class, QueryProps.class, JdbcBatchTemplate.class})
 @AutoConfigureTestDatabase(replace = Replace.NONE)
 @DisplayName("ReplyJdbcRepository JDBC 통합 테스트")
 public class ReplyJdbcRepositoryTest {
 
+    private final JdbcTemplate jdbcTemplate;
     private final ArticleJdbcRepository articleRepository;
     private final ReplyJdbcRepository replyRepository;
     private final UserJdbcRepository userRepository;
@@ -42,12 +52,18 @@ public class ReplyJdbcRepositoryTest {
     private User user;
 
     @Autowired
-    public ReplyJdbcRepositoryTest(NamedParameterJdbcTemplate jdbcTemplate,
-        KeyHolderFactory keyHolderFactory, QueryProps queryProps) {
-        this.articleRepository = new ArticleJdbcRepository(jdbcTemplate, keyHolderFactory,
+    public ReplyJdbcRepositoryTest(JdbcTemplate jdbcTemplate,
+        KeyHolderFactory keyHolderFactory, QueryProps queryProps,
+        JdbcBatchTemplate batchTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        QueryTemplate queryTemplate = new QueryTemplate(jdbcTemplate, batchTemplate,
+            new QueryMetrics(new SimpleMeterRegistry(), SlowQueryLog.disabled()),
+            ReplicaRouter.primaryOnly());
+        this.articleRepository = new ArticleJdbcRepository(queryTemplate, keyHolderFactory,
             queryProps);
-        this.replyRepository = new ReplyJdbcRepository(jdbcTemplate, keyHolderFactory, queryProps);
-        this.userRepository = new UserJdbcRepository(jdbcTemplate, queryProps);
+        this.replyRepository = new ReplyJdbcRepository(queryTemplate, keyHolderFactory,
+            queryProps);
+        this.userRepository = new UserJdbcRepository(queryTemplate, queryProps);
     }
 
     @BeforeEach
@@ -129,6 +145,22 @@ public class ReplyJdbcRepositoryTest {
             });
     }
 
+    @Test
+    @DisplayName("저장되지 않은 댓글 id 로 수정하면 예외를 반환한다")
+    public void saveMergeNotFoundTest() {
+        // given
+        Reply missingReply = new Reply(9999, article.getArticleId(), user.getUserId(),
+            "comment", LocalDateTime.now());
+
+        // when
+        Throwable throwable = catchThrowable(() -> replyRepository.save(missingReply));
+
+        // then
+        then(throwable)
+            .isInstanceOf(NotFoundException.class)
+            .hasMessage(ErrorCode.REPLY_NOT_FOUND.getMessage());
+    }
+
     @Test
     @DisplayName("댓글 id 로 댓글을 삭제하고, 저장소에서 조회해 확인한다")
     public void deleteReplyTest() {
@@ -161,4 +193,97 @@ public class ReplyJdbcRepositoryTest {
         then(userCount).isEqualTo(0);
         then(otherCount).isEqualTo(1);
     }
+
+    @Test
+    @DisplayName("댓글을 저장하고 삭제하면 질문의 댓글 수가 함께 변경된다")
+    public void replyCountTest() {
+        // given
+        Reply savedReply = replyRepository.save(reply);
+        replyRepository.save(
+            Reply.createWithInput(article.getArticleId(), user.getUserId(), "otherComment"));
+
+        // when
+        replyRepository.deleteById(savedReply.getReplyId());
+        replyRepository.deleteById(savedReply.getReplyId());
+
+        // then
+        then(articleRepository.findById(article.getArticleId()))
+            .hasValueSatisfying(article -> then(article.getReplyCount()).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("댓글을 저장, 수정, 삭제할 때마다 질문의 버전이 증가한다")
+    public void articleVersionTest() {
+        // given
+        long version = articleRepository.findVersionById(article.getArticleId())
+            .orElseThrow().getVersion();
+
+        // when
+        Reply savedReply = replyRepository.save(reply);
+        replyRepository.save(new Reply(savedReply.getReplyId(), article.getArticleId(),
+            user.getUserId(), "otherComment", savedReply.getCreatedDate()));
+        replyRepository.deleteById(savedReply.getReplyId());
+
+        // then
+        then(articleRepository.findVersionById(article.getArticleId()))
+            .hasValueSatisfying(after -> then(after.getVersion()).isEqualTo(version + 3));
+    }
+
+    @Test
+    @DisplayName("질문의 댓글 수를 댓글 테이블 기준으로 다시 계산하고, 값이 다른 질문만 갱신한다")
+    public void refreshReplyCountTest() {
+        // given
+        replyRepository.save(reply);
+        articleRepository.save(Article.createWithInput("userId", "otherTitle", "contents"));
+        jdbcTemplate.update("UPDATE article SET reply_count = 0 WHERE article_id = ?",
+            article.getArticleId());
+
+        // when
+        int refreshed = articleRepository.refreshReplyCount();
+        int refreshedAgain = articleRepository.refreshReplyCount();
+
+        // then
+        then(refreshed).isEqualTo(1);
+        then(refreshedAgain).isZero();
+        then(articleRepository.findById(article.getArticleId()))
+            .hasValueSatisfying(article -> then(article.getReplyCount()).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("댓글 객체 여러 개를 한 번에 저장하고, 생성된 id 와 질문의 댓글 수를 확인한다")
+    public void saveAllTest() {
+        // given
+        List<Reply> replies = List.of(reply,
+            Reply.createWithInput(article.getArticleId(), user.getUserId(), "otherComment"));
+
+        // when
+        List<Reply> savedReplies = replyRepository.saveAll(replies);
+
+        // then
+        then(savedReplies).allSatisfy(savedReply -> then(savedReply.getReplyId()).isNotNull());
+        then(replyRepository.findByArticleId(article.getArticleId())).hasSize(2);
+        then(articleRepository.findById(article.getArticleId()))
+            .hasValueSatisfying(article -> then(article.getReplyCount()).isEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("미리 할당한 id 로 댓글을 저장하고, 질문의 댓글 수를 증가시킨다")
+    public void insertAllTest() {
+        // given
+        Reply savedReply = replyRepository.save(reply);
+        int lastId = replyRepository.allocateIds(10);
+
+        Reply allocatedReply = new Reply(lastId, article.getArticleId(), user.getUserId(),
+            "allocated", LocalDateTime.now());
+
+        // when
+        replyRepository.insertAll(List.of(allocatedReply));
+
+        // then
+        then(lastId).isEqualTo(savedReply.getReplyId() + 10);
+        then(replyRepository.findById(lastId))
+            .hasValueSatisfying(reply -> then(reply.getComment()).isEqualTo("allocated"));
+        then(articleRepository.findById(article.getArticleId()))
+            .hasValueSatisfying(article -> then(article.getReplyCount()).isEqualTo(2));
+    }
 }
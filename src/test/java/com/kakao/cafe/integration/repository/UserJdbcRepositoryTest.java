@@ -5,7 +5,13 @@ import static org.assertj.core.api.BDDAssertions.then;
 
 import com.kakao.cafe.config.QueryProps;
 import com.kakao.cafe.domain.User;
+import com.kakao.cafe.replica.ReplicaRouter;
+import com.kakao.cafe.repository.jdbc.JdbcBatchTemplate;
+import com.kakao.cafe.repository.jdbc.QueryMetrics;
+import com.kakao.cafe.repository.jdbc.QueryTemplate;
+import com.kakao.cafe.repository.jdbc.SlowQueryLog;
 import com.kakao.cafe.repository.jdbc.UserJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,24 +22,34 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
 import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.context.annotation.Import;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 
 @JdbcTest
 @ActiveProfiles(profiles = "local")
 @Sql("classpath:/schema-h2.sql")
-@Import(QueryProps.class)
+@Import({QueryProps.class, JdbcBatchTemplate.class})
 @AutoConfigureTestDatabase(replace = Replace.NONE)
 @DisplayName("UserJdbcRepository JDBC 통합 테스트")
 public class UserJdbcRepositoryTest {
 
     private final UserJdbcRepository userRepository;
+    // IN 목록을 나눠 조회하는지 확인하기 위해 batchSize 를 작게 설정한 저장소
+    private final UserJdbcRepository smallBatchRepository;
     User user;
 
     @Autowired
-    public UserJdbcRepositoryTest(NamedParameterJdbcTemplate jdbcTemplate, QueryProps queryProps) {
-        this.userRepository = new UserJdbcRepository(jdbcTemplate, queryProps);
+    public UserJdbcRepositoryTest(JdbcTemplate jdbcTemplate, QueryProps queryProps,
+        JdbcBatchTemplate batchTemplate) {
+        QueryTemplate queryTemplate = new QueryTemplate(jdbcTemplate, batchTemplate,
+            new QueryMetrics(new SimpleMeterRegistry(), SlowQueryLog.disabled()),
+            ReplicaRouter.primaryOnly());
+        this.userRepository = new UserJdbcRepository(queryTemplate, queryProps);
+        this.smallBatchRepository = new UserJdbcRepository(new QueryTemplate(jdbcTemplate,
+            new JdbcBatchTemplate(jdbcTemplate, 2),
+            new QueryMetrics(new SimpleMeterRegistry(), SlowQueryLog.disabled()),
+            ReplicaRouter.primaryOnly()), queryProps);
     }
 
     @BeforeEach
@@ -84,6 +100,71 @@ public class UserJdbcRepositoryTest {
             });
     }
 
+    @Test
+    @DisplayName("유저 정보를 업데이트하면 유저의 버전이 증가한다")
+    public void findVersionByUserIdTest() {
+        // given
+        userRepository.save(user);
+        long version = userRepository.findVersionByUserId("userId").orElseThrow().getVersion();
+
+        // when
+        userRepository.save(User.createWithInput("userId", "userPassword", "otherName",
+            "other@example.com"));
+
+        // then
+        then(userRepository.findVersionByUserId("userId"))
+            .hasValueSatisfying(after -> {
+                then(after.getVersion()).isEqualTo(version + 1);
+                then(after.getUpdatedDate()).isNotNull();
+            });
+        then(userRepository.findVersionByUserId("none")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("새 유저와 기존 유저를 한 번에 저장하고, 저장소에서 조회해 확인한다")
+    public void saveAllTest() {
+        // given
+        userRepository.save(user);
+
+        User changedUser = User.createWithInput("userId", "userPassword", "otherName",
+            "other@example.com");
+        User otherUser = User.createWithInput("otherId", "otherPassword", "otherName",
+            "other@example.com");
+
+        // when
+        userRepository.saveAll(List.of(changedUser, otherUser));
+
+        // then
+        then(userRepository.findByUserId("userId"))
+            .hasValueSatisfying(user -> then(user.getName()).isEqualTo("otherName"));
+        then(userRepository.findByUserId("otherId")).isPresent();
+        then(userRepository.findAll()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("batchSize 보다 많은 유저와 중복된 아이디를 한 번에 저장하면, 아이디마다 마지막 값으로 저장한다")
+    public void saveAllChunkedDuplicateTest() {
+        // given
+        smallBatchRepository.save(user);
+
+        List<User> users = List.of(
+            User.createWithInput("firstId", "password", "firstName", "first@example.com"),
+            User.createWithInput("secondId", "password", "secondName", "second@example.com"),
+            User.createWithInput("firstId", "password", "changedName", "first@example.com"),
+            User.createWithInput("userId", "userPassword", "otherName", "user@example.com"),
+            User.createWithInput("thirdId", "password", "thirdName", "third@example.com"));
+
+        // when
+        smallBatchRepository.saveAll(users);
+
+        // then
+        then(smallBatchRepository.findAll()).hasSize(4);
+        then(smallBatchRepository.findByUserId("firstId"))
+            .hasValueSatisfying(user -> then(user.getName()).isEqualTo("changedName"));
+        then(smallBatchRepository.findByUserId("userId"))
+            .hasValueSatisfying(user -> then(user.getName()).isEqualTo("otherName"));
+    }
+
     @Test
     @DisplayName("모든 유저 객체를 조회한다")
     public void findAllTest() {
@@ -0,0 +1,66 @@
+package com.kakao.cafe.integration.service;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.kakao.cafe.domain.Article;
+import com.kakao.cafe.domain.User;
+import com.kakao.cafe.dto.ImportResult;
+import com.kakao.cafe.importer.CsvRowReader;
+import com.kakao.cafe.repository.ArticleRepository;
+import com.kakao.cafe.repository.UserRepository;
+import com.kakao.cafe.service.ImportService;
+import java.io.StringReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest(properties = "cafe.reply.write-behind.enabled=true")
+@ActiveProfiles(profiles = "local")
+@Sql("classpath:/schema-h2.sql")
+@DisplayName("쓰기 지연 모드 댓글 가져오기 통합 테스트")
+public class ReplyImportWriteBehindTest {
+
+    @Autowired
+    private ImportService importService;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("배치에 없는 질문의 댓글이 있으면 그 행만 거부하고 나머지는 저장한다")
+    public void importOrphanReplyTest() throws Exception {
+        // given
+        userRepository.save(
+            User.createWithInput("writer", "userPassword", "userName", "user@example.com"));
+        Article article = articleRepository.save(
+            Article.createWithInput("writer", "title", "contents"));
+
+        String csv = "articleId,userId,comment\n"
+            + article.getArticleId() + ",writer,first\n"
+            + "9999,writer,orphan\n"
+            + article.getArticleId() + ",writer,second\n";
+
+        // when
+        ImportResult result = importService.importReplies(
+            new CsvRowReader(new StringReader(csv)));
+
+        // then
+        then(result.getImported()).isEqualTo(2);
+        then(result.getRejected()).isEqualTo(1);
+        then(jdbcTemplate.queryForList("SELECT comment FROM reply ORDER BY reply_id",
+            String.class)).containsExactly("first", "second");
+        then(jdbcTemplate.queryForObject(
+            "SELECT reply_count FROM article WHERE article_id = ?", Integer.class,
+            article.getArticleId())).isEqualTo(2);
+    }
+}
@@ -0,0 +1,68 @@
+package com.kakao.cafe.unit.asset;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.kakao.cafe.asset.AssetUrlRewriter;
+import java.io.IOException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StreamUtils;
+
+@DisplayName("AssetUrlRewriter 단위 테스트")
+public class AssetUrlRewriterTest {
+
+    private final AssetUrlRewriter rewriter = new AssetUrlRewriter(new DefaultResourceLoader(),
+        "classpath:/static/");
+
+    private String md5(String location) throws IOException {
+        return DigestUtils.md5DigestAsHex(StreamUtils.copyToByteArray(
+            new ClassPathResource(location).getInputStream()));
+    }
+
+    @Test
+    @DisplayName("정적 리소스 경로에 내용 해시를 붙인다")
+    public void rewriteTest() throws IOException {
+        // given
+        String source = "<link href=\"/css/bootstrap.min.css\" rel=\"stylesheet\">\n"
+            + "<script src=\"/js/jquery-2.2.0.min.js\"></script>";
+
+        // when
+        String rewritten = rewriter.rewrite(source);
+
+        // then
+        then(rewritten).isEqualTo(
+            "<link href=\"/css/bootstrap.min-" + md5("static/css/bootstrap.min.css")
+                + ".css\" rel=\"stylesheet\">\n"
+                + "<script src=\"/js/jquery-2.2.0.min-" + md5("static/js/jquery-2.2.0.min.js")
+                + ".js\"></script>");
+    }
+
+    @Test
+    @DisplayName("없는 리소스, 외부 경로, 다른 링크는 그대로 둔다")
+    public void notRewriteTest() {
+        // given
+        String source = "<script src=\"/js/none.js\"></script>\n"
+            + "<script src=\"//html5shim.googlecode.com/svn/trunk/html5.js\"></script>\n"
+            + "<a href=\"/users/writer\">writer</a>";
+
+        // when
+        String rewritten = rewriter.rewrite(source);
+
+        // then
+        then(rewritten).isEqualTo(source);
+    }
+
+    @Test
+    @DisplayName("같은 경로는 같은 해시 경로를 반환한다")
+    public void getVersionedPathTest() {
+        // when
+        String versionedPath = rewriter.getVersionedPath("/js/scripts.js");
+
+        // then
+        then(versionedPath).matches("/js/scripts-[0-9a-f]{32}\\.js");
+        then(rewriter.getVersionedPath("/js/scripts.js")).isEqualTo(versionedPath);
+    }
+}
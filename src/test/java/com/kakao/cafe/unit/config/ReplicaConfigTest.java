@@ -0,0 +1,26 @@
+package com.kakao.cafe.unit.config;
+
+import static org.assertj.core.api.BDDAssertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.kakao.cafe.config.ReplicaConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ReplicaConfig 단위 테스트")
+public class ReplicaConfigTest {
+
+    private final ReplicaConfig replicaConfig = new ReplicaConfig();
+
+    @Test
+    @DisplayName("replica 를 사용하는데 복제 지연 쿼리가 없으면 시작하지 않는다")
+    public void lagQueryRequiredTest() {
+        // when
+        Throwable throwable = catchThrowable(() -> replicaConfig.replicaRouter(true,
+            new String[]{"jdbc:h2:mem:replica"}, "sa", "", 5, 3, " ", 1000));
+
+        // then
+        then(throwable).isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("cafe.replica.lag-query");
+    }
+}
@@ -12,6 +12,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 
 import com.kakao.cafe.controller.ArticleController;
+import com.kakao.cafe.dto.ArticlePageResponse;
 import com.kakao.cafe.dto.ArticleResponse;
 import com.kakao.cafe.exception.ErrorCode;
 import com.kakao.cafe.exception.InvalidRequestException;
@@ -56,8 +57,7 @@ public class ArticleControllerTest {
         articleResponse = ArticleResponse.createWithArticle(1, "writer", "title", "contents",
             LocalDateTime.now());
 
-        sessionUser = new SessionUser(1, "writer", "userPassword", "userName",
-            "user@example.com");
+        sessionUser = new SessionUser("writer", "userName");
 
         session = new MockHttpSession();
         session.setAttribute(SessionUser.SESSION_KEY, sessionUser);
@@ -102,8 +102,8 @@ public class ArticleControllerTest {
     @DisplayName("등록된 모든 글을 화면에 출력한다")
     public void listArticlesTest() throws Exception {
         // given
-        given(articleService.findArticles())
-            .willReturn(List.of(articleResponse));
+        given(articleService.findArticlePage(any(), any()))
+            .willReturn(new ArticlePageResponse(List.of(articleResponse), false, null, null));
 
         // when
         ResultActions actions = performGet("/");
@@ -114,6 +114,22 @@ public class ArticleControllerTest {
             .andExpect(view().name("qna/list"));
     }
 
+    @Test
+    @DisplayName("커서 이후의 글을 화면에 출력한다")
+    public void listArticlesAfterTest() throws Exception {
+        // given
+        given(articleService.findArticlePage(any(), any()))
+            .willReturn(new ArticlePageResponse(List.of(articleResponse), false, null, null));
+
+        // when
+        ResultActions actions = performGet("/?createdDate=2016-01-15T18:47:00&articleId=2");
+
+        // then
+        actions.andExpect(status().isOk())
+            .andExpect(model().attribute("articles", List.of(articleResponse)))
+            .andExpect(view().name("qna/list"));
+    }
+
     @Test
     @DisplayName("질문 id 로 선택한 질문을 화면에 출력한다")
     public void showArticleTest() throws Exception {
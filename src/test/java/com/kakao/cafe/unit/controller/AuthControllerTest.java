@@ -39,8 +39,7 @@ public class AuthControllerTest {
 
     @BeforeEach
     public void setUp() {
-        sessionUser = new SessionUser(1, "userId", "userPassword", "userName",
-            "user@example.com");
+        sessionUser = new SessionUser("userId", "userName");
     }
 
     @Test
@@ -0,0 +1,88 @@
+package com.kakao.cafe.unit.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.kakao.cafe.controller.ImportController;
+import com.kakao.cafe.dto.ImportResult;
+import com.kakao.cafe.exception.ErrorCode;
+import com.kakao.cafe.service.ImportService;
+import com.kakao.cafe.session.SessionUser;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@WebMvcTest(controllers = ImportController.class, properties = "cafe.import.operators=operator")
+@DisplayName("ImportController 단위 테스트")
+public class ImportControllerTest {
+
+    private static final String CSV = "writer,title,contents\nwriter,title,contents\n";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private HandlerInterceptor interceptor;
+
+    @MockBean
+    private ImportService importService;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        given(interceptor.preHandle(any(), any(), any())).willReturn(true);
+    }
+
+    private MockHttpSession session(String userId) {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute(SessionUser.SESSION_KEY, new SessionUser(userId, "userName"));
+        return session;
+    }
+
+    @Test
+    @DisplayName("cafe.import.operators 에 등록된 유저는 질문을 가져온다")
+    public void importArticlesTest() throws Exception {
+        // given
+        given(importService.importArticles(any()))
+            .willReturn(new ImportResult(1, 1, 0, 1, List.of()));
+
+        // when
+        ResultActions actions = mockMvc.perform(post("/articles/import")
+            .session(session("operator"))
+            .contentType("text/csv")
+            .content(CSV));
+
+        // then
+        actions.andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported").value(1));
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 유저가 가져오기를 요청하면 본문을 읽지 않고 403 을 반환한다")
+    public void importArticlesForbiddenTest() throws Exception {
+        // when
+        ResultActions actions = mockMvc.perform(post("/articles/answers/import")
+            .session(session("writer"))
+            .contentType("text/csv")
+            .content("articleId,userId,comment\n1,other,comment\n"));
+
+        // then
+        actions.andExpect(status().isForbidden())
+            .andExpect(jsonPath("$.valid").value(false))
+            .andExpect(jsonPath("$.message").value(
+                ErrorCode.INVALID_IMPORT_OPERATOR.getMessage()));
+        verify(importService, never()).importReplies(any());
+    }
+}
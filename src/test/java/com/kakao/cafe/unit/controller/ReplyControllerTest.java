@@ -5,12 +5,14 @@ import static org.mockito.BDDMockito.doThrow;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.kakao.cafe.controller.ReplyController;
 import com.kakao.cafe.dto.ReplyResponse;
 import com.kakao.cafe.exception.ErrorCode;
+import com.kakao.cafe.exception.InternalOperationException;
 import com.kakao.cafe.exception.InvalidRequestException;
 import com.kakao.cafe.exception.NotFoundException;
 import com.kakao.cafe.service.ReplyService;
@@ -22,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpSession;
 import org.springframework.test.web.servlet.MockMvc;
@@ -50,8 +53,7 @@ public class ReplyControllerTest {
         given(interceptor.preHandle(any(), any(), any())).willReturn(true);
 
         replyResponse = new ReplyResponse(1, 1, "writer", "comment", LocalDateTime.now());
-        sessionUser = new SessionUser(1, "writer", "userPassword", "userName",
-            "user@example.com");
+        sessionUser = new SessionUser("writer", "userName");
 
         session = new MockHttpSession();
         session.setAttribute(SessionUser.SESSION_KEY, sessionUser);
@@ -78,6 +80,26 @@ public class ReplyControllerTest {
             .andExpect(jsonPath("$.comment", "comment").exists());
     }
 
+    @Test
+    @DisplayName("댓글 저장 큐가 가득 차면 503 과 Retry-After 로 응답한다")
+    public void createAnswerQueueFullTest() throws Exception {
+        // given
+        given(replyService.comment(sessionUser, 1, "comment"))
+            .willThrow(new InternalOperationException(ErrorCode.REPLY_QUEUE_FULL));
+
+        // when
+        ResultActions actions = mockMvc.perform(post("/articles/1/answers")
+            .session(session)
+            .param("comment", "comment")
+            .accept(MediaType.APPLICATION_JSON));
+
+        // then
+        actions.andExpect(status().isServiceUnavailable())
+            .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+            .andExpect(jsonPath("$.valid").value(false))
+            .andExpect(jsonPath("$.message").value(ErrorCode.REPLY_QUEUE_FULL.getMessage()));
+    }
+
     @Test
     @DisplayName("세션 정보와 댓글 id 로 댓글을 삭제한다")
     public void deleteAnswerTest() throws Exception {
@@ -115,8 +137,7 @@ public class ReplyControllerTest {
     @DisplayName("세션 정보와 일치하지 않는 유저가 작성한 댓글 id 로 댓글을 삭제하면 알림창을 띄운다")
     public void deleteAnswerValidateTest() throws Exception {
         // given
-        SessionUser sessionOther = new SessionUser(1, "otherId", "otherPassword", "otherName",
-            "other@example.com");
+        SessionUser sessionOther = new SessionUser("otherId", "otherName");
 
         session.setAttribute(SessionUser.SESSION_KEY, sessionOther);
 
@@ -0,0 +1,89 @@
+package com.kakao.cafe.unit.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+
+import com.kakao.cafe.controller.SearchController;
+import com.kakao.cafe.dto.ArticleResponse;
+import com.kakao.cafe.dto.SearchResponse;
+import com.kakao.cafe.service.SearchService;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@WebMvcTest(SearchController.class)
+@DisplayName("SearchController 단위 테스트")
+public class SearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private HandlerInterceptor interceptor;
+
+    @MockBean
+    private SearchService searchService;
+
+    private SearchResponse searchResponse;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        given(interceptor.preHandle(any(), any(), any())).willReturn(true);
+
+        ArticleResponse articleResponse = ArticleResponse.createWithArticle(1, "writer", "title",
+            null, LocalDateTime.now());
+        searchResponse = new SearchResponse("title", List.of(articleResponse));
+    }
+
+    @Test
+    @DisplayName("검색 결과 화면을 보여준다")
+    public void searchTest() throws Exception {
+        // given
+        given(searchService.search("title"))
+            .willReturn(searchResponse);
+
+        // when
+        ResultActions actions = mockMvc.perform(get("/search")
+            .param("q", "title")
+            .accept(MediaType.TEXT_HTML));
+
+        // then
+        actions.andExpect(status().isOk())
+            .andExpect(view().name("qna/search"))
+            .andExpect(model().attribute("search", searchResponse))
+            .andExpect(model().attribute("articles", searchResponse.getArticles()));
+    }
+
+    @Test
+    @DisplayName("검색 결과를 JSON 으로 반환한다")
+    public void searchApiTest() throws Exception {
+        // given
+        given(searchService.search("title"))
+            .willReturn(searchResponse);
+
+        // when
+        ResultActions actions = mockMvc.perform(get("/api/search")
+            .param("q", "title")
+            .accept(MediaType.APPLICATION_JSON));
+
+        // then
+        actions.andExpect(status().isOk())
+            .andExpect(jsonPath("$.query").value("title"))
+            .andExpect(jsonPath("$.count").value(1))
+            .andExpect(jsonPath("$.articles[0].articleId").value(1));
+    }
+}
@@ -48,8 +48,7 @@ class UserControllerTest {
     public void setUp() {
         userResponse = new UserResponse(1, "userId", "userPassword", "userName",
             "user@example.com");
-        sessionUser = new SessionUser(1, "userId", "userPassword", "userName",
-            "user@example.com");
+        sessionUser = new SessionUser("userId", "userName");
 
         session = new MockHttpSession();
         session.setAttribute(SessionUser.SESSION_KEY, sessionUser);
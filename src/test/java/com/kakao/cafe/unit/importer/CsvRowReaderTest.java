@@ -0,0 +1,84 @@
+package com.kakao.cafe.unit.importer;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.kakao.cafe.importer.CsvRowReader;
+import com.kakao.cafe.importer.ImportRow;
+import com.kakao.cafe.importer.RowReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CsvRowReader 단위 테스트")
+public class CsvRowReaderTest {
+
+    @Test
+    @DisplayName("헤더를 컬럼명으로 사용해 따옴표 안의 쉼표, 줄바꿈이 포함된 행을 읽는다")
+    public void readQuotedTest() throws IOException {
+        // given
+        String csv = "writer,title,contents\r\n"
+            + "writer,\"title, 1\",\"multi\nline \"\"contents\"\"\"\n"
+            + "\n"
+            + "otherWriter,otherTitle,otherContents\n";
+
+        // when
+        List<ImportRow> rows = readAll(csv);
+
+        // then
+        then(rows).hasSize(2);
+        then(rows.get(0).getLineNumber()).isEqualTo(2);
+        then(rows.get(0).get("title")).isEqualTo("title, 1");
+        then(rows.get(0).get("contents")).isEqualTo("multi\nline \"contents\"");
+        then(rows.get(1).getLineNumber()).isEqualTo(5);
+        then(rows.get(1).get("writer")).isEqualTo("otherWriter");
+    }
+
+    @Test
+    @DisplayName("컬럼 수가 헤더와 다른 행은 거부하고 다음 행을 계속 읽는다")
+    public void readMismatchTest() throws IOException {
+        // given
+        String csv = "writer,title,contents\n"
+            + "writer,title\n"
+            + "writer,title,contents\n";
+
+        // when
+        List<ImportRow> rows = readAll(csv);
+
+        // then
+        then(rows).hasSize(2);
+        then(rows.get(0).isRejected()).isTrue();
+        then(rows.get(1).isRejected()).isFalse();
+    }
+
+    @Test
+    @DisplayName("최대 길이를 넘는 레코드는 저장하지 않고 거부한다")
+    public void readTooLongTest() throws IOException {
+        // given
+        String csv = "contents\n"
+            + "a".repeat(100 * 1024) + "\n"
+            + "contents\n";
+
+        // when
+        List<ImportRow> rows = readAll(csv);
+
+        // then
+        then(rows).hasSize(2);
+        then(rows.get(0).isRejected()).isTrue();
+        then(rows.get(1).get("contents")).isEqualTo("contents");
+    }
+
+    private List<ImportRow> readAll(String csv) throws IOException {
+        List<ImportRow> rows = new ArrayList<>();
+
+        try (RowReader reader = new CsvRowReader(new StringReader(csv))) {
+            ImportRow row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
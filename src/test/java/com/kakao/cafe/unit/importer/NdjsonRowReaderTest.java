@@ -0,0 +1,66 @@
+package com.kakao.cafe.unit.importer;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.kakao.cafe.importer.ImportRow;
+import com.kakao.cafe.importer.NdjsonRowReader;
+import com.kakao.cafe.importer.RowReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("NdjsonRowReader 단위 테스트")
+public class NdjsonRowReaderTest {
+
+    @Test
+    @DisplayName("한 줄에 하나씩 JSON 객체를 읽는다")
+    public void readTest() throws IOException {
+        // given
+        String ndjson = "{\"articleId\": 1, \"userId\": \"userId\", \"comment\": \"comment\"}\n"
+            + "\n"
+            + "{\"articleId\": 2, \"userId\": \"otherId\", \"comment\": null}\r\n";
+
+        // when
+        List<ImportRow> rows = readAll(ndjson);
+
+        // then
+        then(rows).hasSize(2);
+        then(rows.get(0).get("articleId")).isEqualTo("1");
+        then(rows.get(0).get("userId")).isEqualTo("userId");
+        then(rows.get(1).getLineNumber()).isEqualTo(3);
+        then(rows.get(1).get("comment")).isNull();
+    }
+
+    @Test
+    @DisplayName("JSON 객체가 아니거나 형식이 잘못된 줄은 거부하고 다음 줄을 계속 읽는다")
+    public void readInvalidTest() throws IOException {
+        // given
+        String ndjson = "{\"userId\": \n"
+            + "[1, 2]\n"
+            + "{\"userId\": \"userId\"}\n";
+
+        // when
+        List<ImportRow> rows = readAll(ndjson);
+
+        // then
+        then(rows).hasSize(3);
+        then(rows.get(0).isRejected()).isTrue();
+        then(rows.get(1).isRejected()).isTrue();
+        then(rows.get(2).get("userId")).isEqualTo("userId");
+    }
+
+    private List<ImportRow> readAll(String ndjson) throws IOException {
+        List<ImportRow> rows = new ArrayList<>();
+
+        try (RowReader reader = new NdjsonRowReader(new StringReader(ndjson))) {
+            ImportRow row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,86 @@
+package com.kakao.cafe.unit.pagecache;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+import com.kakao.cafe.pagecache.PageCache;
+import com.kakao.cafe.pagecache.PageCacheFilter;
+import com.kakao.cafe.session.SessionManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PageCacheFilter 단위 테스트")
+public class PageCacheFilterTest {
+
+    @Mock
+    private SessionManager sessionManager;
+
+    private PageCacheFilter filter;
+    private AtomicInteger renders;
+    private FilterChain chain;
+
+    @BeforeEach
+    public void setUp() {
+        PageCache pageCache = new PageCache(100, Duration.ofMinutes(1), Duration.ofSeconds(5),
+            new SimpleMeterRegistry());
+        filter = new PageCacheFilter(pageCache, sessionManager);
+        renders = new AtomicInteger();
+        chain = (request, response) -> {
+            renders.incrementAndGet();
+            response.setContentType("text/html;charset=UTF-8");
+            response.getWriter().write("page");
+        };
+        given(sessionManager.resolve(any(), any())).willReturn(Optional.empty());
+    }
+
+    private MockHttpServletResponse get(String queryString) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.setQueryString(queryString);
+        for (String pair : queryString.split("&")) {
+            String[] nameValue = pair.split("=", 2);
+            request.addParameter(nameValue[0], nameValue[1]);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    @Test
+    @DisplayName("페이지가 사용하지 않는 파라미터는 캐시 키에 넣지 않는다")
+    public void ignoreUnknownParametersTest() throws Exception {
+        // when
+        get("createdDate=2022-01-01T00:00:00&articleId=1&junk=1");
+        MockHttpServletResponse response =
+            get("junk=2&articleId=1&createdDate=2022-01-01T00:00:00");
+
+        // then
+        then(renders.get()).isEqualTo(1);
+        then(response.getHeader(PageCacheFilter.CACHE_HEADER)).isEqualTo("HIT");
+        then(response.getContentAsString()).isEqualTo("page");
+    }
+
+    @Test
+    @DisplayName("페이지가 사용하는 파라미터가 다르면 따로 렌더링한다")
+    public void distinctPageParametersTest() throws Exception {
+        // when
+        get("createdDate=2022-01-01T00:00:00&articleId=1");
+        MockHttpServletResponse response = get("createdDate=2022-01-01T00:00:00&articleId=2");
+
+        // then
+        then(renders.get()).isEqualTo(2);
+        then(response.getHeader(PageCacheFilter.CACHE_HEADER)).isNull();
+    }
+}
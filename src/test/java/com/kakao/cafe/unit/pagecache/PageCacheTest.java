@@ -0,0 +1,146 @@
+package com.kakao.cafe.unit.pagecache;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.kakao.cafe.pagecache.CachedPage;
+import com.kakao.cafe.pagecache.PageCache;
+import com.kakao.cafe.service.ArticleChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PageCache 단위 테스트")
+public class PageCacheTest {
+
+    private SimpleMeterRegistry registry;
+    private PageCache pageCache;
+    private AtomicInteger renders;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        pageCache = new PageCache(100, Duration.ofMinutes(1), Duration.ofSeconds(5), registry);
+        renders = new AtomicInteger();
+    }
+
+    private CachedPage page(String body) {
+        return new CachedPage("text/html;charset=UTF-8", body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private CachedPage render(String key) throws Exception {
+        return pageCache.getOrRender(key, () -> {
+            renders.incrementAndGet();
+            return page(key);
+        });
+    }
+
+    @Test
+    @DisplayName("처음 요청은 렌더링하고 다음 요청은 저장된 바이트를 반환한다")
+    public void hitTest() throws Exception {
+        // when
+        CachedPage first = render("/");
+        CachedPage second = render("/");
+
+        // then
+        then(first).isNull();
+        then(new String(second.getBody(), StandardCharsets.UTF_8)).isEqualTo("/");
+        then(renders.get()).isEqualTo(1);
+        then(registry.get("cafe.page.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 요청은 한 번만 렌더링하고 나머지는 결과를 기다린다")
+    public void stampedeTest() throws Exception {
+        // given
+        int threads = 8;
+        CountDownLatch rendering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        Future<CachedPage> leader = executor.submit(() -> pageCache.getOrRender("/", () -> {
+            renders.incrementAndGet();
+            rendering.countDown();
+            release.await();
+            return page("/");
+        }));
+        rendering.await(5, TimeUnit.SECONDS);
+
+        List<Future<CachedPage>> waiters = new ArrayList<>();
+        for (int i = 1; i < threads; i++) {
+            waiters.add(executor.submit(() -> render("/")));
+        }
+
+        // when
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        then(leader.get(5, TimeUnit.SECONDS)).isNull();
+        for (Future<CachedPage> waiter : waiters) {
+            then(waiter.get(5, TimeUnit.SECONDS)).isNotNull();
+        }
+        then(renders.get()).isEqualTo(1);
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("질문 변경 이벤트는 해당 질문과 목록 페이지만 제거한다")
+    public void invalidateArticleTest() throws Exception {
+        // given
+        render("/");
+        render("/?createdDate=2022-03-01T00:00&articleId=20");
+        render("/articles/1");
+        render("/articles/2");
+
+        // when
+        pageCache.onArticleChanged(new ArticleChangedEvent(1));
+
+        // then
+        then(render("/")).isNull();
+        then(render("/?createdDate=2022-03-01T00:00&articleId=20")).isNull();
+        then(render("/articles/1")).isNull();
+        then(render("/articles/2")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("캐시할 수 없는 응답은 저장하지 않는다")
+    public void notCacheableTest() throws Exception {
+        // when
+        pageCache.getOrRender("/articles/1", () -> {
+            renders.incrementAndGet();
+            return null;
+        });
+        CachedPage page = render("/articles/1");
+
+        // then
+        then(page).isNull();
+        then(renders.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("렌더링 중에 무효화된 결과는 저장하지 않는다")
+    public void invalidateWhileRenderingTest() throws Exception {
+        // when
+        pageCache.getOrRender("/", () -> {
+            renders.incrementAndGet();
+            pageCache.invalidateArticle(1);
+            return page("stale");
+        });
+        CachedPage page = render("/");
+
+        // then
+        then(page).isNull();
+        then(renders.get()).isEqualTo(2);
+    }
+}
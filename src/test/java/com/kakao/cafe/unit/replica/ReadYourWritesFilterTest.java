@@ -0,0 +1,120 @@
+package com.kakao.cafe.unit.replica;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.kakao.cafe.replica.ReadYourWrites;
+import com.kakao.cafe.replica.ReadYourWritesFilter;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("ReadYourWritesFilter 단위 테스트")
+public class ReadYourWritesFilterTest {
+
+    private static final String COOKIE_NAME = "CAFE_PRIMARY";
+    private static final long NOW = 1_000_000L;
+
+    private ReadYourWritesFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    public void setUp() {
+        Clock clock = Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC);
+        filter = new ReadYourWritesFilter(COOKIE_NAME, Duration.ofSeconds(5), clock);
+        request = new MockHttpServletRequest();
+        response = new MockHttpServletResponse();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ReadYourWrites.close();
+    }
+
+    @Test
+    @DisplayName("요청에서 처음 쓸 때 primary 에서 읽을 시각을 쿠키로 남긴다")
+    public void pinSetsCookieTest() throws Exception {
+        // when
+        filter.doFilter(request, response, (req, res) -> {
+            ReadYourWrites.pin(NOW + 5_000);
+            ReadYourWrites.pin(NOW + 5_000);
+        });
+
+        // then
+        then(response.getCookies()).hasSize(1);
+        Cookie cookie = response.getCookie(COOKIE_NAME);
+        then(cookie).isNotNull();
+        then(cookie.getValue()).isEqualTo(String.valueOf(NOW + 5_000));
+        then(cookie.getPath()).isEqualTo("/");
+        then(cookie.isHttpOnly()).isTrue();
+        then(cookie.getMaxAge()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("쓰기가 없는 요청은 쿠키를 남기지 않는다")
+    public void noWriteNoCookieTest() throws Exception {
+        // when
+        filter.doFilter(request, response, (req, res) -> {
+        });
+
+        // then
+        then(response.getCookies()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("쿠키의 시각 전까지 요청의 조회를 primary 로 고정한다")
+    public void cookiePinsReadsTest() throws Exception {
+        // given
+        request.setCookies(new Cookie(COOKIE_NAME, String.valueOf(NOW + 1_000)));
+        AtomicBoolean pinned = new AtomicBoolean();
+        AtomicBoolean pinnedAfter = new AtomicBoolean();
+
+        // when
+        filter.doFilter(request, response, (req, res) -> {
+            pinned.set(ReadYourWrites.pinned(NOW));
+            pinnedAfter.set(ReadYourWrites.pinned(NOW + 1_000));
+        });
+
+        // then
+        then(pinned).isTrue();
+        then(pinnedAfter).isFalse();
+    }
+
+    @Test
+    @DisplayName("쿠키 값이 window 보다 길어도 window 까지만 primary 로 고정한다")
+    public void forgedCookieCappedTest() throws Exception {
+        // given
+        request.setCookies(new Cookie(COOKIE_NAME, String.valueOf(Long.MAX_VALUE)));
+        AtomicBoolean pinned = new AtomicBoolean();
+
+        // when
+        filter.doFilter(request, response, (req, res) ->
+            pinned.set(ReadYourWrites.pinned(NOW + 5_000)));
+
+        // then
+        then(pinned).isFalse();
+    }
+
+    @Test
+    @DisplayName("요청이 끝나면 read-your-writes 상태를 해제한다")
+    public void closeAfterRequestTest() throws Exception {
+        // given
+        request.setCookies(new Cookie(COOKIE_NAME, String.valueOf(NOW + 1_000)));
+
+        // when
+        filter.doFilter(request, response, (req, res) -> {
+        });
+
+        // then
+        then(ReadYourWrites.pinned(NOW)).isFalse();
+    }
+}
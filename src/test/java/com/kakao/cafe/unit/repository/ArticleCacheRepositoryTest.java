@@ -0,0 +1,192 @@
+package com.kakao.cafe.unit.repository;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.kakao.cafe.domain.Article;
+import com.kakao.cafe.domain.ArticleDeleteResult;
+import com.kakao.cafe.domain.Reply;
+import com.kakao.cafe.repository.ArticleRepository;
+import com.kakao.cafe.repository.ReplyRepository;
+import com.kakao.cafe.repository.cache.ArticleCacheRepository;
+import com.kakao.cafe.repository.cache.ReplyCacheRepository;
+import com.kakao.cafe.service.ArticleChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ArticleCacheRepository, ReplyCacheRepository 단위 테스트")
+public class ArticleCacheRepositoryTest {
+
+    @Mock
+    ArticleRepository articleJdbcRepository;
+
+    @Mock
+    ReplyRepository replyJdbcRepository;
+
+    SimpleMeterRegistry registry;
+    ArticleCacheRepository articleRepository;
+    ReplyCacheRepository replyRepository;
+
+    Article article;
+    Reply reply;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        articleRepository = new ArticleCacheRepository(articleJdbcRepository, 100,
+            Duration.ofMinutes(10), registry);
+        replyRepository = new ReplyCacheRepository(replyJdbcRepository, articleRepository, 100,
+            Duration.ofMinutes(10), registry);
+
+        article = new Article(1, "writer", "title", "contents", LocalDateTime.now(), 0);
+        reply = new Reply(1, 1, "writer", "comment", LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("같은 질문 id 로 두 번 조회하면 저장소는 한 번만 조회한다")
+    public void findByIdHitTest() {
+        // given
+        given(articleJdbcRepository.findById(1))
+            .willReturn(Optional.of(article));
+
+        // when
+        articleRepository.findById(1);
+        Optional<Article> findArticle = articleRepository.findById(1);
+
+        // then
+        then(findArticle).hasValue(article);
+        then(cacheGets("hit")).isEqualTo(1);
+        then(cacheGets("miss")).isEqualTo(1);
+        verify(articleJdbcRepository, times(1)).findById(1);
+    }
+
+    @Test
+    @DisplayName("질문을 저장하면 해당 질문의 캐시를 제거한다")
+    public void saveEvictTest() {
+        // given
+        given(articleJdbcRepository.findById(1))
+            .willReturn(Optional.of(article));
+        given(articleJdbcRepository.save(any()))
+            .willReturn(article);
+
+        // when
+        articleRepository.findById(1);
+        articleRepository.save(article);
+        articleRepository.findById(1);
+
+        // then
+        verify(articleJdbcRepository, times(2)).findById(1);
+    }
+
+    @Test
+    @DisplayName("질문 변경 이벤트를 받으면 해당 질문의 캐시를 제거한다")
+    public void articleChangedEvictTest() {
+        // given
+        given(articleJdbcRepository.findById(1))
+            .willReturn(Optional.of(article));
+
+        // when
+        articleRepository.findById(1);
+        articleRepository.onArticleChanged(new ArticleChangedEvent(1));
+        articleRepository.findById(1);
+
+        // then
+        verify(articleJdbcRepository, times(2)).findById(1);
+    }
+
+    @Test
+    @DisplayName("작성자와 질문 id 로 질문을 삭제하면 해당 질문의 캐시를 제거한다")
+    public void deleteByIdAndWriterEvictTest() {
+        // given
+        given(articleJdbcRepository.findById(1))
+            .willReturn(Optional.of(article));
+        given(articleJdbcRepository.deleteByIdAndWriter(1, "writer"))
+            .willReturn(ArticleDeleteResult.DELETED);
+
+        // when
+        articleRepository.findById(1);
+        ArticleDeleteResult result = articleRepository.deleteByIdAndWriter(1, "writer");
+        articleRepository.findById(1);
+
+        // then
+        then(result).isEqualTo(ArticleDeleteResult.DELETED);
+        verify(articleJdbcRepository, times(2)).findById(1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 질문은 캐시하지 않는다")
+    public void findByIdEmptyTest() {
+        // given
+        given(articleJdbcRepository.findById(0))
+            .willReturn(Optional.empty());
+
+        // when
+        articleRepository.findById(0);
+        Optional<Article> findArticle = articleRepository.findById(0);
+
+        // then
+        then(findArticle).isEmpty();
+        then(registry.get("cache.size").tag("cache", "articles").gauge().value()).isZero();
+        verify(articleJdbcRepository, times(2)).findById(0);
+    }
+
+    @Test
+    @DisplayName("댓글을 저장하면 해당 질문의 댓글 목록과 질문 캐시를 제거한다")
+    public void replySaveEvictTest() {
+        // given
+        given(articleJdbcRepository.findById(1))
+            .willReturn(Optional.of(article));
+        given(replyJdbcRepository.findByArticleId(1))
+            .willReturn(List.of(reply));
+        given(replyJdbcRepository.save(any()))
+            .willReturn(reply);
+
+        // when
+        articleRepository.findById(1);
+        replyRepository.findByArticleId(1);
+        replyRepository.save(Reply.createWithInput(1, "writer", "comment"));
+        articleRepository.findById(1);
+        List<Reply> findReplies = replyRepository.findByArticleId(1);
+
+        // then
+        then(findReplies).containsExactly(reply);
+        verify(articleJdbcRepository, times(2)).findById(1);
+        verify(replyJdbcRepository, times(2)).findByArticleId(1);
+    }
+
+    @Test
+    @DisplayName("댓글을 삭제하면 해당 질문의 댓글 목록 캐시를 제거한다")
+    public void replyDeleteEvictTest() {
+        // given
+        given(replyJdbcRepository.findById(1))
+            .willReturn(Optional.of(reply));
+        given(replyJdbcRepository.findByArticleId(1))
+            .willReturn(List.of(reply));
+
+        // when
+        replyRepository.findByArticleId(1);
+        replyRepository.deleteById(1);
+        replyRepository.findByArticleId(1);
+
+        // then
+        verify(replyJdbcRepository, times(2)).findByArticleId(1);
+    }
+
+    private double cacheGets(String result) {
+        return registry.get("cache.gets").tag("cache", "articles").tag("result", result)
+            .functionCounter().count();
+    }
+}
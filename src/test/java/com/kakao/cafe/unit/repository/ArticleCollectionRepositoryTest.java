@@ -3,9 +3,13 @@ package com.kakao.cafe.unit.repository;
 import static org.assertj.core.api.BDDAssertions.then;
 
 import com.kakao.cafe.domain.Article;
+import com.kakao.cafe.domain.ArticleDeleteResult;
 import com.kakao.cafe.repository.collections.ArticleCollectionRepository;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -51,4 +55,131 @@ public class ArticleCollectionRepositoryTest {
         then(findArticle).hasValue(article);
     }
 
+    @Test
+    @DisplayName("커서 이후의 질문 객체를 최신순으로 조회한다")
+    public void findAllAfterTest() {
+        // given
+        Article next = articleRepository.save(Article.createWithInput("writer", "next", "c"));
+
+        // when
+        List<Article> firstPage = articleRepository.findAllAfter(null, null, 1);
+        List<Article> nextPage = articleRepository.findAllAfter(next.getCreatedDate(),
+            next.getArticleId(), 1);
+
+        // then
+        then(firstPage).containsExactly(next);
+        then(nextPage).containsExactly(article);
+    }
+
+    @Test
+    @DisplayName("질문 id 로 질문 객체를 삭제하면 조회되지 않는다")
+    public void deleteByArticleIdTest() {
+        // when
+        articleRepository.deleteById(article.getArticleId());
+
+        // then
+        then(articleRepository.findById(article.getArticleId())).isEmpty();
+        then(articleRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("작성자가 아니면 질문을 삭제하지 않고, 작성자면 삭제한다")
+    public void deleteByIdAndWriterTest() {
+        // when
+        ArticleDeleteResult notWriter = articleRepository.deleteByIdAndWriter(
+            article.getArticleId(), "otherId");
+        ArticleDeleteResult deleted = articleRepository.deleteByIdAndWriter(
+            article.getArticleId(), "writer");
+        ArticleDeleteResult notFound = articleRepository.deleteByIdAndWriter(
+            article.getArticleId(), "writer");
+
+        // then
+        then(notWriter).isEqualTo(ArticleDeleteResult.NOT_WRITER);
+        then(deleted).isEqualTo(ArticleDeleteResult.DELETED);
+        then(notFound).isEqualTo(ArticleDeleteResult.NOT_FOUND);
+        then(articleRepository.findById(article.getArticleId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("질문을 삭제한 후 저장해도 질문 id 가 중복되지 않는다")
+    public void saveAfterDeleteTest() {
+        // given
+        articleRepository.deleteById(article.getArticleId());
+
+        // when
+        Article savedArticle = articleRepository.save(
+            Article.createWithInput("writer", "other", "contents"));
+
+        // then
+        then(savedArticle.getArticleId()).isNotEqualTo(article.getArticleId());
+        then(articleRepository.findAll()).containsExactly(savedArticle);
+    }
+
+    @Test
+    @DisplayName("질문 id 를 포함한 질문 객체를 저장하면 새 질문을 추가하지 않고 업데이트한다")
+    public void saveMergeTest() {
+        // when
+        articleRepository.save(article.update("otherTitle", "otherContents"));
+
+        // then
+        then(articleRepository.findAll()).hasSize(1);
+        then(articleRepository.findById(article.getArticleId()))
+            .hasValueSatisfying(findArticle ->
+                then(findArticle.getTitle()).isEqualTo("otherTitle"));
+    }
+
+    @Test
+    @DisplayName("저장하거나 조회한 질문을 변경해도 저장소의 질문은 저장할 때까지 바뀌지 않는다")
+    public void defensiveCopyTest() {
+        // given
+        Article findArticle = articleRepository.findById(article.getArticleId()).orElseThrow();
+
+        // when
+        article.update("otherTitle", "otherContents");
+        findArticle.update("anotherTitle", "anotherContents");
+
+        // then
+        then(articleRepository.findAll())
+            .extracting(Article::getTitle)
+            .containsExactly("title");
+    }
+
+    @Test
+    @DisplayName("질문을 업데이트하면 버전이 증가하고, 삭제하면 버전이 조회되지 않는다")
+    public void findVersionByIdTest() {
+        // given
+        long version = articleRepository.findVersionById(article.getArticleId())
+            .orElseThrow().getVersion();
+
+        // when
+        articleRepository.save(article.update("otherTitle", "otherContents"));
+
+        // then
+        then(articleRepository.findVersionById(article.getArticleId()))
+            .hasValueSatisfying(after -> then(after.getVersion()).isEqualTo(version + 1));
+
+        articleRepository.deleteById(article.getArticleId());
+        then(articleRepository.findVersionById(article.getArticleId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 저장해도 질문 id 가 중복되지 않는다")
+    public void saveConcurrentTest() throws InterruptedException {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            executor.submit(() -> articleRepository.save(
+                Article.createWithInput("writer", "title", "contents")));
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        List<Article> articles = articleRepository.findAll();
+        then(articles).hasSize(1001);
+        then(articles).extracting(Article::getArticleId).doesNotHaveDuplicates();
+    }
+
 }
@@ -3,11 +3,17 @@ package com.kakao.cafe.unit.repository;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import com.kakao.cafe.config.QueryProps;
 import com.kakao.cafe.domain.Article;
+import com.kakao.cafe.domain.ArticleDeleteResult;
 import com.kakao.cafe.repository.jdbc.ArticleJdbcRepository;
+import com.kakao.cafe.repository.jdbc.BoundQuery;
 import com.kakao.cafe.repository.jdbc.KeyHolderFactory;
+import com.kakao.cafe.repository.jdbc.Query;
+import com.kakao.cafe.repository.jdbc.QueryTemplate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -16,14 +22,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.RowMapper;
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 
@@ -35,13 +39,13 @@ public class ArticleJdbcRepositoryTest {
     ArticleJdbcRepository articleRepository;
 
     @Mock
-    NamedParameterJdbcTemplate jdbcTemplate;
+    QueryTemplate queryTemplate;
 
     @Mock
     KeyHolderFactory keyHolderFactory;
 
-    @Mock
-    QueryProps queryProps;
+    @Spy
+    QueryProps queryProps = new QueryProps();
 
     Article article;
 
@@ -49,9 +53,6 @@ public class ArticleJdbcRepositoryTest {
     public void setUp() {
         article = Article.createWithoutReplyCount(1, "writer", "title", "contents",
             LocalDateTime.now());
-
-        given(queryProps.get(any()))
-            .willReturn("");
     }
 
     @Test
@@ -63,8 +64,7 @@ public class ArticleJdbcRepositoryTest {
         given(keyHolderFactory.newKeyHolder())
             .willReturn(new GeneratedKeyHolder(List.of(Map.of("article_id", 1))));
 
-        given(jdbcTemplate.update(any(String.class), any(BeanPropertySqlParameterSource.class),
-            any(KeyHolder.class)))
+        given(queryTemplate.update(any(BoundQuery.class), any(KeyHolder.class)))
             .willReturn(1);
 
         // when
@@ -81,7 +81,7 @@ public class ArticleJdbcRepositoryTest {
     @DisplayName("모든 질문 객체를 조회한다")
     public void findAllTest() {
         // given
-        given(jdbcTemplate.query(any(String.class), any(RowMapper.class)))
+        given(queryTemplate.query(any(BoundQuery.class), any(RowMapper.class)))
             .willReturn(List.of(article));
 
         // when
@@ -95,9 +95,8 @@ public class ArticleJdbcRepositoryTest {
     @DisplayName("질문 id 로 질문 객체를 조회한다")
     public void findByArticleIdTest() {
         // given
-        given(jdbcTemplate.queryForObject(any(String.class), any(MapSqlParameterSource.class), any(
-            RowMapper.class)))
-            .willReturn(article);
+        given(queryTemplate.queryForOptional(any(BoundQuery.class), any(RowMapper.class)))
+            .willReturn(Optional.of(article));
 
         // when
         Optional<Article> findArticle = articleRepository.findById(article.getArticleId());
@@ -110,9 +109,8 @@ public class ArticleJdbcRepositoryTest {
     @DisplayName("존재하지 않는 질문 id 로 질문 객체를 조회한다")
     public void findNullTest() {
         // given
-        given(jdbcTemplate.queryForObject(any(String.class), any(MapSqlParameterSource.class), any(
-            RowMapper.class)))
-            .willThrow(EmptyResultDataAccessException.class);
+        given(queryTemplate.queryForOptional(any(BoundQuery.class), any(RowMapper.class)))
+            .willReturn(Optional.empty());
 
         // when
         Optional<Article> findArticle = articleRepository.findById(article.getArticleId());
@@ -125,7 +123,7 @@ public class ArticleJdbcRepositoryTest {
     @DisplayName("질문 id 를 포함한 질문 객체를 저장해 업데이트한다")
     public void saveMergeTest() {
         // given
-        given(jdbcTemplate.update(any(String.class), any(BeanPropertySqlParameterSource.class)))
+        given(queryTemplate.update(any(BoundQuery.class)))
             .willReturn(1);
 
         // when
@@ -136,18 +134,84 @@ public class ArticleJdbcRepositoryTest {
         then(savedArticle.getWriter()).isEqualTo("writer");
         then(savedArticle.getTitle()).isEqualTo("title");
         then(savedArticle.getContents()).isEqualTo("contents");
+
+        ArgumentCaptor<BoundQuery> captor = ArgumentCaptor.forClass(BoundQuery.class);
+        verify(queryTemplate).update(captor.capture());
+        then(captor.getValue().getQuery()).isEqualTo(Query.UPDATE_ARTICLE);
+        then(captor.getValue().getArgs()).containsExactly("title", "contents", 1);
+    }
+
+    @Test
+    @DisplayName("새 질문은 작성 시각을 두 번 bind 해 저장한다")
+    public void savePersistArgsTest() {
+        // given
+        article = Article.createWithInput("writer", "title", "contents");
+
+        given(keyHolderFactory.newKeyHolder())
+            .willReturn(new GeneratedKeyHolder(List.of(Map.of("article_id", 1))));
+
+        // when
+        articleRepository.save(article);
+
+        // then
+        ArgumentCaptor<BoundQuery> captor = ArgumentCaptor.forClass(BoundQuery.class);
+        verify(queryTemplate).update(captor.capture(), any(KeyHolder.class));
+        then(captor.getValue().getQuery()).isEqualTo(Query.INSERT_ARTICLE);
+        then(captor.getValue().getArgs()).containsExactly("writer", "title", "contents",
+            article.getCreatedDate(), article.getCreatedDate());
     }
 
     @Test
     @DisplayName("질문 id 로 질문 객체를 삭제한다")
     public void deleteByArticleIdTest() {
         // given
-        given(jdbcTemplate.update(any(String.class), any(MapSqlParameterSource.class)))
+        given(queryTemplate.update(any(BoundQuery.class)))
             .willReturn(1);
 
         // when
         articleRepository.deleteById(article.getArticleId());
     }
 
+    @Test
+    @DisplayName("작성자와 질문 id 로 질문을 삭제하면 한 번의 쿼리로 조건을 확인한다")
+    public void deleteByIdAndWriterTest() {
+        // given
+        given(queryTemplate.update(any(BoundQuery.class)))
+            .willReturn(1);
+
+        // when
+        ArticleDeleteResult result = articleRepository.deleteByIdAndWriter(
+            article.getArticleId(), "writer");
+
+        // then
+        ArgumentCaptor<BoundQuery> captor = ArgumentCaptor.forClass(BoundQuery.class);
+        verify(queryTemplate).update(captor.capture());
+        then(captor.getValue().getQuery()).isEqualTo(Query.DELETE_ARTICLE_BY_WRITER);
+        then(captor.getValue().getArgs()).containsExactly(1, "writer", "writer");
+        then(result).isEqualTo(ArticleDeleteResult.DELETED);
+        verify(queryTemplate, never()).queryForOptional(any(BoundQuery.class),
+            any(RowMapper.class));
+    }
+
+    @Test
+    @DisplayName("질문을 삭제하지 못하면 삭제하지 못한 이유를 조회한다")
+    public void deleteByIdAndWriterRejectedTest() {
+        // given
+        given(queryTemplate.update(any(BoundQuery.class)))
+            .willReturn(0);
+        given(queryTemplate.queryForOptional(any(BoundQuery.class), any(RowMapper.class)))
+            .willReturn(Optional.of(ArticleDeleteResult.HAS_OTHER_REPLIES));
+
+        // when
+        ArticleDeleteResult result = articleRepository.deleteByIdAndWriter(
+            article.getArticleId(), "writer");
+
+        // then
+        ArgumentCaptor<BoundQuery> captor = ArgumentCaptor.forClass(BoundQuery.class);
+        verify(queryTemplate).queryForOptional(captor.capture(), any(RowMapper.class));
+        then(captor.getValue().getQuery()).isEqualTo(Query.SELECT_ARTICLE_DELETE_CHECK);
+        then(result).isEqualTo(ArticleDeleteResult.HAS_OTHER_REPLIES);
+    }
+
 }
 
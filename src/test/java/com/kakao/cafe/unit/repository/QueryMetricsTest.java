@@ -0,0 +1,148 @@
+package com.kakao.cafe.unit.repository;
+
+import static org.assertj.core.api.BDDAssertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+import com.kakao.cafe.config.QueryProps;
+import com.kakao.cafe.repository.jdbc.BoundQuery;
+import com.kakao.cafe.repository.jdbc.Query;
+import com.kakao.cafe.repository.jdbc.QueryMetrics;
+import com.kakao.cafe.repository.jdbc.SlowQueryLog;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Statement;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QueryMetrics 단위 테스트")
+public class QueryMetricsTest {
+
+    @Mock
+    SlowQueryLog slowQueryLog;
+
+    QueryProps queryProps = new QueryProps();
+
+    MeterRegistry registry;
+    QueryMetrics queryMetrics;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        queryMetrics = new QueryMetrics(registry, slowQueryLog);
+    }
+
+    @Test
+    @DisplayName("모든 Query 의 타이머를 시작할 때 등록한다")
+    public void registerTest() {
+        // when
+        int timers = registry.find("cafe.query").timers().size();
+
+        // then
+        then(timers).isEqualTo(Query.values().length);
+    }
+
+    @Test
+    @DisplayName("조회 쿼리의 실행 시간과 조회한 행 수를 Query 태그로 기록한다")
+    public void queryTest() {
+        // when
+        List<String> result = queryMetrics.query(bind(Query.SELECT_ARTICLES),
+            () -> List.of("a", "b"));
+
+        // then
+        then(result).containsExactly("a", "b");
+        then(timer(Query.SELECT_ARTICLES).count()).isEqualTo(1);
+        then(rows(Query.SELECT_ARTICLES).totalAmount()).isEqualTo(2);
+        then(timer(Query.SELECT_USERS).count()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패한 쿼리도 실행 시간을 기록한다")
+    public void updateFailTest() {
+        // given
+        BoundQuery query = bind(Query.UPDATE_ARTICLE, "title", "contents", 1);
+
+        // when
+        Throwable throwable = catchThrowable(() ->
+            queryMetrics.update(query, () -> {
+                throw new IllegalStateException();
+            }));
+
+        // then
+        then(throwable).isInstanceOf(IllegalStateException.class);
+        then(timer(Query.UPDATE_ARTICLE).count()).isEqualTo(1);
+        then(rows(Query.UPDATE_ARTICLE).count()).isZero();
+    }
+
+    @Test
+    @DisplayName("배치는 변경한 행 수를 합쳐 기록하고, 행 수를 알 수 없으면 한 행으로 계산한다")
+    public void batchUpdateTest() {
+        // given
+        List<BoundQuery> queries = List.of(
+            bind(Query.UPDATE_REPLY, "comment", 1), bind(Query.UPDATE_REPLY, "comment", 2),
+            bind(Query.UPDATE_REPLY, "comment", 3), bind(Query.UPDATE_REPLY, "comment", 4));
+
+        // when
+        queryMetrics.batchUpdate(queries, () -> new int[]{1, 0, Statement.SUCCESS_NO_INFO, 2});
+
+        // then
+        then(rows(Query.UPDATE_REPLY).count()).isEqualTo(1);
+        then(rows(Query.UPDATE_REPLY).totalAmount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("실행한 쿼리, 행 수, 실행 시간을 SlowQueryLog 에 전달한다")
+    public void slowQueryLogTest() {
+        // given
+        BoundQuery query = bind(Query.COUNT_USER, "userId");
+
+        // when
+        queryMetrics.query(query, () -> List.of(1));
+
+        // then
+        verify(slowQueryLog).record(eq(query), eq(1), eq(1), anyLong());
+    }
+
+    @Test
+    @DisplayName("배치는 첫 행과 배치 크기를 SlowQueryLog 에 전달한다")
+    public void slowQueryLogBatchTest() {
+        // given
+        List<BoundQuery> queries = List.of(
+            bind(Query.INSERT_REPLY, 1, "userId", "comment", null),
+            bind(Query.INSERT_REPLY, 2, "userId", "comment", null));
+
+        // when
+        queryMetrics.batchInsert(queries, List::of);
+
+        // then
+        then(rows(Query.INSERT_REPLY).totalAmount()).isEqualTo(2);
+        verify(slowQueryLog).record(eq(queries.get(0)), eq(2), eq(2), anyLong());
+    }
+
+    // 값은 query.yml 에 파라미터가 처음 나오는 순서
+    private BoundQuery bind(Query query, Object... values) {
+        return queryProps.getPlan(query)
+            .binder(queryProps.getPlan(query).getParameterNames().stream()
+                .distinct()
+                .toArray(String[]::new))
+            .bind(values);
+    }
+
+    private Timer timer(Query query) {
+        return registry.get("cafe.query").tag("query", query.name()).timer();
+    }
+
+    private DistributionSummary rows(Query query) {
+        return registry.get("cafe.query.rows").tag("query", query.name()).summary();
+    }
+}
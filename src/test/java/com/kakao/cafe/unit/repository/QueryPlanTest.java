@@ -0,0 +1,108 @@
+package com.kakao.cafe.unit.repository;
+
+import static org.assertj.core.api.BDDAssertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.kakao.cafe.config.QueryProps;
+import com.kakao.cafe.repository.jdbc.BoundQuery;
+import com.kakao.cafe.repository.jdbc.Query;
+import com.kakao.cafe.repository.jdbc.QueryPlan;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("QueryPlan 단위 테스트")
+public class QueryPlanTest {
+
+    QueryProps queryProps = new QueryProps();
+
+    @Test
+    @DisplayName("query.yml 의 모든 Query 를 시작할 때 파싱한다")
+    public void loadTest() {
+        for (Query query : Query.values()) {
+            // when
+            QueryPlan plan = queryProps.getPlan(query);
+
+            // then
+            then(plan.getQuery()).isEqualTo(query);
+            then(plan.getSql()).doesNotContain(":");
+            then(plan.getNamedSql()).isEqualTo(queryProps.get(query));
+        }
+    }
+
+    @Test
+    @DisplayName("이름 있는 파라미터를 ? 로 바꾸고 ? 순서의 이름을 기록한다")
+    public void parseTest() {
+        // when
+        QueryPlan plan = QueryPlan.parse(Query.SELECT_ARTICLES_AFTER,
+            "SELECT * FROM article WHERE created_date < :createdDate "
+                + "OR (created_date = :createdDate AND article_id < :articleId) LIMIT :size");
+
+        // then
+        then(plan.getSql()).isEqualTo("SELECT * FROM article WHERE created_date < ? "
+            + "OR (created_date = ? AND article_id < ?) LIMIT ?");
+        then(plan.getParameterNames())
+            .containsExactly("createdDate", "createdDate", "articleId", "size");
+    }
+
+    @Test
+    @DisplayName("binder 에 선언한 순서의 값을 ? 순서로 바꾸고, 두 번 나오는 파라미터는 두 번 채운다")
+    public void bindTest() {
+        // given
+        LocalDateTime createdDate = LocalDateTime.now();
+        QueryPlan.Binder binder = queryProps.getPlan(Query.SELECT_ARTICLES_AFTER)
+            .binder("size", "articleId", "createdDate");
+
+        // when
+        BoundQuery query = binder.bind(10, 3, createdDate);
+
+        // then
+        then(query.getQuery()).isEqualTo(Query.SELECT_ARTICLES_AFTER);
+        then(query.getArgs()).containsExactly(createdDate, createdDate, 3, 10);
+    }
+
+    @Test
+    @DisplayName("컬렉션 값은 개수만큼 ? 를 펼쳐 bind 한다")
+    public void bindCollectionTest() {
+        // given
+        QueryPlan.Binder binder = queryProps.getPlan(Query.SELECT_USER_IDS).binder("userIds");
+
+        // when
+        BoundQuery query = binder.bind(List.of("a", "b", "c"));
+
+        // then
+        then(query.getSql()).contains("IN (?, ?, ?)");
+        then(query.getArgs()).containsExactly("a", "b", "c");
+        then(query.getValues()).containsExactly(List.of("a", "b", "c"));
+    }
+
+    @Test
+    @DisplayName("SQL 의 파라미터와 binder 에 선언한 이름이 다르면 예외가 발생한다")
+    public void binderMismatchTest() {
+        // given
+        QueryPlan plan = queryProps.getPlan(Query.UPDATE_ARTICLE);
+
+        // when
+        Throwable missing = catchThrowable(() -> plan.binder("title", "articleId"));
+        Throwable unknown = catchThrowable(() ->
+            plan.binder("title", "contents", "articleId", "writer"));
+
+        // then
+        then(missing).isInstanceOf(IllegalStateException.class);
+        then(unknown).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("선언한 개수와 다른 개수의 값을 bind 하면 예외가 발생한다")
+    public void bindArityTest() {
+        // given
+        QueryPlan.Binder binder = queryProps.getPlan(Query.SELECT_ARTICLE).binder("articleId");
+
+        // when
+        Throwable throwable = catchThrowable(() -> binder.bind(1, 2));
+
+        // then
+        then(throwable).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -2,12 +2,17 @@ package com.kakao.cafe.unit.repository;
 
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import com.kakao.cafe.config.QueryProps;
 import com.kakao.cafe.domain.Reply;
+import com.kakao.cafe.repository.jdbc.BoundQuery;
 import com.kakao.cafe.repository.jdbc.KeyHolderFactory;
+import com.kakao.cafe.repository.jdbc.Query;
+import com.kakao.cafe.repository.jdbc.QueryTemplate;
 import com.kakao.cafe.repository.jdbc.ReplyJdbcRepository;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,12 +24,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.jdbc.core.RowMapper;
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 
 @ExtendWith(MockitoExtension.class)
 public class ReplyJdbcRepositoryTest {
@@ -33,22 +37,19 @@ public class ReplyJdbcRepositoryTest {
     private ReplyJdbcRepository replyRepository;
 
     @Mock
-    private NamedParameterJdbcTemplate jdbcTemplate;
+    private QueryTemplate queryTemplate;
 
     @Mock
     private KeyHolderFactory keyHolderFactory;
 
-    @Mock
-    private QueryProps queryProps;
+    @Spy
+    private QueryProps queryProps = new QueryProps();
 
     private Reply reply;
 
     @BeforeEach
     public void setUp() {
         reply = new Reply(1, 1, "userId", "comment", LocalDateTime.now());
-
-        given(queryProps.get(any()))
-            .willReturn("");
     }
 
     @Test
@@ -60,7 +61,7 @@ public class ReplyJdbcRepositoryTest {
         given(keyHolderFactory.newKeyHolder())
             .willReturn(new GeneratedKeyHolder(List.of(Map.of("reply_id", 1))));
 
-        given(jdbcTemplate.update(any(), any(), any()))
+        given(queryTemplate.update(any(BoundQuery.class), any(KeyHolder.class)))
             .willReturn(1);
 
         // when
@@ -77,8 +78,8 @@ public class ReplyJdbcRepositoryTest {
     @DisplayName("댓글 id 로 댓글 객체를 조회한다")
     public void findByIdTest() {
         // given
-        given(jdbcTemplate.queryForObject(any(String.class), any(MapSqlParameterSource.class),
-            any(RowMapper.class))).willReturn(reply);
+        given(queryTemplate.queryForOptional(any(BoundQuery.class), any(RowMapper.class)))
+            .willReturn(Optional.of(reply));
 
         // when
         Optional<Reply> findReply = replyRepository.findById(reply.getReplyId());
@@ -96,8 +97,8 @@ public class ReplyJdbcRepositoryTest {
     @DisplayName("질문 id 로 댓글 컬렉션을 조회한다")
     public void findByArticleIdTest() {
         // given
-        given(jdbcTemplate.query(any(String.class), any(MapSqlParameterSource.class),
-            any(RowMapper.class))).willReturn(List.of(reply));
+        given(queryTemplate.query(any(BoundQuery.class), any(RowMapper.class)))
+            .willReturn(List.of(reply));
 
         // when
         List<Reply> findReplies = replyRepository.findByArticleId(1);
@@ -110,7 +111,7 @@ public class ReplyJdbcRepositoryTest {
     @DisplayName("댓글 id 가 포함된 댓글 객체를 업데이트한다")
     public void saveMergeTest() {
         // given
-        given(jdbcTemplate.update(any(String.class), any(BeanPropertySqlParameterSource.class)))
+        given(queryTemplate.update(any(BoundQuery.class)))
             .willReturn(1);
 
         // when
@@ -124,19 +125,38 @@ public class ReplyJdbcRepositoryTest {
     @DisplayName("댓글 id 로 댓글 객체를 삭제한다")
     public void deleteReplyTest() {
         // given
-        given(jdbcTemplate.update(any(String.class), any(MapSqlParameterSource.class)))
+        given(queryTemplate.update(any(BoundQuery.class)))
             .willReturn(1);
 
         // when
         replyRepository.deleteById(reply.getReplyId());
+
+        // then
+        verify(queryTemplate)
+            .update(argThat(query -> query.getQuery() == Query.DECREASE_REPLY_COUNT));
+    }
+
+    @Test
+    @DisplayName("이미 삭제된 댓글을 삭제하면 댓글 수를 줄이지 않는다")
+    public void deleteDeletedReplyTest() {
+        // given
+        given(queryTemplate.update(any(BoundQuery.class)))
+            .willReturn(0);
+
+        // when
+        replyRepository.deleteById(reply.getReplyId());
+
+        // then
+        verify(queryTemplate, never())
+            .update(argThat(query -> query.getQuery() == Query.DECREASE_REPLY_COUNT));
     }
 
     @Test
     @DisplayName("유저 아이디와 질문 id 로 댓글 개수를 조회한다")
     public void countByArticleIdAndUserIdTest() {
         // given
-        given(jdbcTemplate.queryForObject(any(String.class), any(MapSqlParameterSource.class),
-            eq(Integer.class))).willReturn(1);
+        given(queryTemplate.queryForOptional(any(BoundQuery.class), any(RowMapper.class)))
+            .willReturn(Optional.of(1));
 
         // when
         Integer count = replyRepository.countByArticleIdAndNotUserId("otherId",
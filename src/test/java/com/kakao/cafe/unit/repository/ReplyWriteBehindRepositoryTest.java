@@ -0,0 +1,273 @@
+package com.kakao.cafe.unit.repository;
+
+import static org.assertj.core.api.BDDAssertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+
+import com.kakao.cafe.domain.Reply;
+import com.kakao.cafe.exception.ErrorCode;
+import com.kakao.cafe.exception.InternalOperationException;
+import com.kakao.cafe.replica.ReplicaRouter;
+import com.kakao.cafe.repository.jdbc.ReplyJdbcRepository;
+import com.kakao.cafe.repository.writebehind.ReplyDeadLetter;
+import com.kakao.cafe.repository.writebehind.ReplyWriteBehindRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ReplyWriteBehindRepository 단위 테스트")
+public class ReplyWriteBehindRepositoryTest {
+
+    @Mock
+    private ReplyJdbcRepository replyJdbcRepository;
+
+    @Mock
+    private ReplicaRouter replicaRouter;
+
+    private ReplyWriteBehindRepository replyRepository;
+    private CountDownLatch writerBlocked;
+    private final AtomicInteger sequence = new AtomicInteger();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    public void setUp() {
+        writerBlocked = new CountDownLatch(0);
+
+        given(replyJdbcRepository.allocateIds(anyInt()))
+            .willAnswer(invocation -> sequence.addAndGet(invocation.getArgument(0)));
+        willAnswer(invocation -> {
+            writerBlocked.await();
+            return null;
+        }).given(replyJdbcRepository).insertAll(anyList());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        writerBlocked.countDown();
+        replyRepository.close();
+    }
+
+    @Test
+    @DisplayName("저장되기 전인 댓글도 id 가 할당되고, 질문 id 로 조회된다")
+    public void findPendingReplyTest() {
+        // given
+        writerBlocked = new CountDownLatch(1);
+        replyRepository = newRepository(10, 10);
+
+        given(replyJdbcRepository.findByArticleId(1))
+            .willReturn(List.of());
+
+        // when
+        Reply savedReply = replyRepository.save(Reply.createWithInput(1, "userId", "comment"));
+
+        // then
+        then(savedReply.getReplyId()).isEqualTo(1);
+        then(replyRepository.findByArticleId(1)).containsExactly(savedReply);
+        then(replyRepository.findById(1)).hasValue(savedReply);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 기다리지 않고 댓글 저장을 거절한다")
+    public void backpressureTest() throws InterruptedException {
+        // given
+        writerBlocked = new CountDownLatch(1);
+        replyRepository = newRepository(1, 1);
+
+        // writer 가 첫 댓글을 가져가 저장 중인 상태에서 큐를 채움
+        replyRepository.save(Reply.createWithInput(1, "userId", "first"));
+        while (replyRepository.getQueueSize() > 0) {
+            Thread.sleep(10);
+        }
+        replyRepository.save(Reply.createWithInput(1, "userId", "second"));
+
+        // when
+        Throwable throwable = catchThrowable(() ->
+            replyRepository.save(Reply.createWithInput(1, "userId", "third")));
+
+        // then
+        then(throwable)
+            .isInstanceOf(InternalOperationException.class)
+            .hasMessage(ErrorCode.REPLY_QUEUE_FULL.getMessage());
+    }
+
+    @Test
+    @DisplayName("종료하면 큐에 남은 댓글을 모두 저장한다")
+    public void closeTest() {
+        // given
+        replyRepository = newRepository(100, 10);
+
+        for (int i = 0; i < 25; i++) {
+            replyRepository.save(Reply.createWithInput(1, "userId", "comment" + i));
+        }
+
+        // when
+        replyRepository.close();
+
+        // then
+        ArgumentCaptor<List<Reply>> captor = ArgumentCaptor.forClass(List.class);
+        verify(replyJdbcRepository, atLeastOnce()).insertAll(captor.capture());
+
+        then(captor.getAllValues().stream().mapToInt(List::size).sum()).isEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("댓글을 삭제하기 전에 큐에 남은 댓글을 먼저 저장한다")
+    public void deleteAfterFlushTest() {
+        // given
+        replyRepository = newRepository(100, 10);
+        Reply savedReply = replyRepository.save(Reply.createWithInput(1, "userId", "comment"));
+
+        // when
+        replyRepository.deleteById(savedReply.getReplyId());
+
+        // then
+        verify(replyJdbcRepository).insertAll(List.of(savedReply));
+        verify(replyJdbcRepository).deleteById(eq(savedReply.getReplyId()));
+    }
+
+    @Test
+    @DisplayName("재시도해도 저장하지 못한 댓글은 버리지 않고 dead letter 파일에 남기고 지표로 알린다")
+    public void deadLetterTest() throws IOException {
+        // given
+        willAnswer(invocation -> {
+            List<Reply> replies = invocation.getArgument(0);
+            if (replies.stream().anyMatch(reply -> reply.getComment().equals("broken"))) {
+                throw new DataAccessResourceFailureException("broken");
+            }
+            return null;
+        }).given(replyJdbcRepository).insertAll(anyList());
+
+        replyRepository = newRepository(100, 10);
+        List<Reply> flushed = new CopyOnWriteArrayList<>();
+        replyRepository.addFlushListener(flushed::addAll);
+        Reply savedReply = replyRepository.save(Reply.createWithInput(1, "userId", "comment"));
+        Reply brokenReply = replyRepository.save(Reply.createWithInput(1, "userId", "broken"));
+
+        // when
+        replyRepository.flush();
+
+        // then
+        List<String> lines = Files.readAllLines(tempDir.resolve("dead-letter.ndjson"));
+        then(lines).hasSize(1);
+        then(lines.get(0))
+            .contains("\"articleId\":1", "\"userId\":\"userId\"", "\"comment\":\"broken\"",
+                "\"replyId\":" + brokenReply.getReplyId());
+        verify(replyJdbcRepository).insertAll(List.of(savedReply));
+        then(replyRepository.hasPendingReplies(1)).isFalse();
+        then(flushed).containsExactly(savedReply);
+        then(registry.get("cafe.reply.dead.letter").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대량 저장에 실패하면 할당한 id 를 지워 다시 저장할 때 새 댓글로 저장한다")
+    public void saveAllFailureClearsIdTest() {
+        // given
+        replyRepository = newRepository(10, 10);
+        Reply reply = Reply.createWithInput(999, "userId", "comment");
+
+        willThrow(new DataIntegrityViolationException("article_id"))
+            .given(replyJdbcRepository).insertAll(anyList());
+
+        // when
+        Throwable throwable = catchThrowable(() -> replyRepository.saveAll(List.of(reply)));
+
+        // then
+        then(throwable).isInstanceOf(DataIntegrityViolationException.class);
+        then(reply.getReplyId()).isNull();
+        then(reply.getCreatedDate()).isNull();
+    }
+
+    @Test
+    @DisplayName("질문을 잠근 동안 그 질문의 댓글은 큐에 넣지 않고 기다린다")
+    public void lockArticleTest() throws Exception {
+        // given
+        writerBlocked = new CountDownLatch(1);
+        replyRepository = newRepository(10, 10);
+        CountDownLatch saving = new CountDownLatch(1);
+        Thread saver = new Thread(() -> {
+            saving.countDown();
+            replyRepository.save(Reply.createWithInput(1, "otherId", "comment"));
+        });
+
+        // when
+        boolean pendingWhileLocked = replyRepository.lockArticle(1, () -> {
+            saver.start();
+            awaitQuietly(saving);
+            sleepQuietly(100);
+            return replyRepository.hasPendingReplies(1);
+        });
+        saver.join(5_000);
+
+        // then
+        then(pendingWhileLocked).isFalse();
+        then(replyRepository.hasPendingReplies(1)).isTrue();
+    }
+
+    @Test
+    @DisplayName("큐에 넣은 요청 스레드에서 이후 조회를 primary 로 고정한다")
+    public void pinPrimaryOnEnqueueTest() {
+        // given
+        writerBlocked = new CountDownLatch(1);
+        replyRepository = newRepository(10, 10);
+
+        // when
+        replyRepository.save(Reply.createWithInput(1, "userId", "comment"));
+
+        // then
+        verify(replicaRouter).wrote();
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ReplyWriteBehindRepository newRepository(int capacity, int batchSize) {
+        return new ReplyWriteBehindRepository(replyJdbcRepository, capacity, batchSize,
+            Duration.ofMillis(10), Duration.ofSeconds(5),
+            new ReplyDeadLetter(tempDir.resolve("dead-letter.ndjson"), registry), replicaRouter);
+    }
+}
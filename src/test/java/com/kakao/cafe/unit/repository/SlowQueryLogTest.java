@@ -0,0 +1,144 @@
+package com.kakao.cafe.unit.repository;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.kakao.cafe.config.QueryProps;
+import com.kakao.cafe.repository.jdbc.BoundQuery;
+import com.kakao.cafe.repository.jdbc.Query;
+import com.kakao.cafe.repository.jdbc.SlowQueryLog;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SlowQueryLog 단위 테스트")
+public class SlowQueryLogTest {
+
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Mock
+    NamedParameterJdbcTemplate jdbcTemplate;
+
+    QueryProps queryProps = new QueryProps();
+
+    Logger logger;
+    ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    public void setUp() {
+        appender = new ListAppender<>();
+        appender.start();
+
+        logger = (Logger) LoggerFactory.getLogger(SlowQueryLog.class);
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("느린 쿼리를 파라미터, 행 수, 실행 계획과 함께 로그로 남기고 비밀번호는 가린다")
+    public void recordTest() throws InterruptedException {
+        // given
+        given(jdbcTemplate.queryForList(eq("EXPLAIN " + queryProps.get(Query.INSERT_USER)),
+            any(SqlParameterSource.class)))
+            .willReturn(List.of(Map.<String, Object>of("PLAN", "INSERT INTO PUBLIC.user")));
+
+        SlowQueryLog slowQueryLog = new SlowQueryLog(jdbcTemplate, true, 100, 1.0, 10);
+        BoundQuery query = queryProps.getPlan(Query.INSERT_USER)
+            .binder("userId", "password", "name", "email")
+            .bind("userId", "userPassword", "userName", "user@example.com");
+
+        // when
+        slowQueryLog.record(query, 1, 1, SLOW);
+        slowQueryLog.record(query, 1, 1, SLOW);
+        slowQueryLog.close();
+
+        // then
+        then(appender.list).hasSize(2);
+
+        String message = appender.list.get(0).getFormattedMessage();
+        then(message)
+            .contains("INSERT_USER", "200ms", "rows=1", "userId=userId", "password=****",
+                "INSERT INTO PUBLIC.user")
+            .doesNotContain("userPassword");
+
+        // 실행 계획은 Query 마다 한 번만 조회
+        verify(jdbcTemplate, times(1))
+            .queryForList(any(String.class), any(SqlParameterSource.class));
+    }
+
+    @Test
+    @DisplayName("threshold 보다 빠른 쿼리는 로그로 남기지 않는다")
+    public void fastQueryTest() throws InterruptedException {
+        // given
+        SlowQueryLog slowQueryLog = new SlowQueryLog(jdbcTemplate, true, 100, 1.0, 10);
+
+        // when
+        slowQueryLog.record(selectArticles(), 1, 10, FAST);
+        slowQueryLog.close();
+
+        // then
+        then(appender.list).isEmpty();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("초당 로그 수를 넘는 느린 쿼리는 버린다")
+    public void rateLimitTest() throws InterruptedException {
+        // given
+        given(jdbcTemplate.queryForList(any(String.class), any(SqlParameterSource.class)))
+            .willReturn(List.of(Map.<String, Object>of("PLAN", "SELECT * FROM article")));
+
+        SlowQueryLog slowQueryLog = new SlowQueryLog(jdbcTemplate, true, 100, 1.0, 1);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            slowQueryLog.record(selectArticles(), 1, 10, SLOW);
+        }
+        slowQueryLog.close();
+
+        // then
+        then(appender.list).hasSizeBetween(1, 2);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 로그를 남기지 않는다")
+    public void disabledTest() throws InterruptedException {
+        // given
+        SlowQueryLog slowQueryLog = SlowQueryLog.disabled();
+
+        // when
+        slowQueryLog.record(selectArticles(), 1, 10, SLOW);
+        slowQueryLog.close();
+
+        // then
+        then(appender.list).isEmpty();
+    }
+
+    private BoundQuery selectArticles() {
+        return queryProps.getPlan(Query.SELECT_ARTICLES).binder().bind();
+    }
+}
@@ -4,11 +4,15 @@ import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.BDDAssertions.then;
 
 import com.kakao.cafe.domain.User;
+import com.kakao.cafe.exception.DuplicateException;
 import com.kakao.cafe.exception.ErrorCode;
 import com.kakao.cafe.exception.NotFoundException;
 import com.kakao.cafe.repository.collections.UserCollectionRepository;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -46,6 +50,21 @@ class UserCollectionRepositoryTest {
         then(users).containsExactly(user);
     }
 
+    @Test
+    @DisplayName("유저 정보를 업데이트하면 버전이 증가한다")
+    public void findVersionByUserIdTest() {
+        // given
+        long version = userRepository.findVersionByUserId(user.getUserId())
+            .orElseThrow().getVersion();
+
+        // when
+        userRepository.save(user.update("otherName", "other@example.com"));
+
+        // then
+        then(userRepository.findVersionByUserId(user.getUserId()))
+            .hasValueSatisfying(after -> then(after.getVersion()).isEqualTo(version + 1));
+    }
+
     @Test
     @DisplayName("유저 아이디를 입력해 유저 객체를 조회한다")
     public void findByUserIdTest() {
@@ -86,4 +105,62 @@ class UserCollectionRepositoryTest {
             .isInstanceOf(NotFoundException.class)
             .hasMessage(ErrorCode.USER_NOT_FOUND.getMessage());
     }
+
+    @Test
+    @DisplayName("이미 등록된 유저 아이디로 새 유저 객체를 저장하면 예외를 반환한다")
+    public void saveDuplicateTest() {
+        // given
+        User otherUser = User.createWithInput("userId", "otherPassword", "otherName",
+            "other@example.com");
+
+        // when
+        Throwable throwable = catchThrowable(() -> userRepository.save(otherUser));
+
+        // then
+        then(throwable)
+            .isInstanceOf(DuplicateException.class)
+            .hasMessage(ErrorCode.DUPLICATE_USER.getMessage());
+        then(otherUser.getUserNum()).isNull();
+
+        User nextUser = userRepository.save(
+            User.createWithInput("nextId", "nextPassword", "nextName", "next@example.com"));
+        then(nextUser.getUserNum()).isEqualTo(user.getUserNum() + 1);
+    }
+
+    @Test
+    @DisplayName("조회한 유저 목록은 변경할 수 없는 스냅샷이다")
+    public void findAllSnapshotTest() {
+        // given
+        List<User> users = userRepository.findAll();
+
+        // when
+        userRepository.save(
+            User.createWithInput("otherId", "otherPassword", "otherName", "other@example.com"));
+
+        // then
+        then(users).containsExactly(user);
+        then(catchThrowable(() -> users.add(user)))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 저장해도 유저 번호가 중복되지 않는다")
+    public void saveConcurrentTest() throws InterruptedException {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            String userId = "user" + i;
+            executor.submit(() -> userRepository.save(
+                User.createWithInput(userId, "password", "name", "user@example.com")));
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        List<User> users = userRepository.findAll();
+        then(users).hasSize(1001);
+        then(users).extracting(User::getUserNum).doesNotHaveDuplicates();
+    }
 }
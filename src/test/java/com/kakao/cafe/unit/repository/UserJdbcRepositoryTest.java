@@ -2,11 +2,15 @@ package com.kakao.cafe.unit.repository;
 
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 import com.kakao.cafe.config.QueryProps;
 import com.kakao.cafe.domain.User;
+import com.kakao.cafe.repository.jdbc.BoundQuery;
+import com.kakao.cafe.repository.jdbc.Query;
+import com.kakao.cafe.repository.jdbc.QueryTemplate;
 import com.kakao.cafe.repository.jdbc.UserJdbcRepository;
 import java.util.List;
 import java.util.Optional;
@@ -16,12 +20,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.RowMapper;
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("UserJdbcRepository 단위 테스트")
@@ -31,30 +32,26 @@ public class UserJdbcRepositoryTest {
     UserJdbcRepository userRepository;
 
     @Mock
-    NamedParameterJdbcTemplate jdbcTemplate;
+    QueryTemplate queryTemplate;
 
-    @Mock
-    QueryProps queryProps;
+    @Spy
+    QueryProps queryProps = new QueryProps();
 
     User user;
 
     @BeforeEach
     public void setUp() {
         user = User.createWithInput("userId", "userPassword", "userName", "user@example.com");
-
-        given(queryProps.get(any()))
-            .willReturn("");
     }
 
     @Test
     @DisplayName("유저 객체를 저장한다")
     public void savePersistTest() {
         // given
-        given(jdbcTemplate.queryForObject(any(String.class),
-            any(BeanPropertySqlParameterSource.class), eq(Integer.class)))
-            .willReturn(0);
+        given(queryTemplate.queryForOptional(any(BoundQuery.class), any(RowMapper.class)))
+            .willReturn(Optional.of(0));
 
-        given(jdbcTemplate.update(any(String.class), any(BeanPropertySqlParameterSource.class)))
+        given(queryTemplate.update(any(BoundQuery.class)))
             .willReturn(1);
 
         // when
@@ -65,6 +62,8 @@ public class UserJdbcRepositoryTest {
         then(savedUser.getPassword()).isEqualTo("userPassword");
         then(savedUser.getName()).isEqualTo("userName");
         then(savedUser.getEmail()).isEqualTo("user@example.com");
+
+        verify(queryTemplate).update(argThat(query -> query.getQuery() == Query.INSERT_USER));
     }
 
     @Test
@@ -74,11 +73,10 @@ public class UserJdbcRepositoryTest {
         User changedUser = User.createWithInput("userId", "userPassword", "otherName",
             "other@example.com");
 
-        given(jdbcTemplate.queryForObject(any(String.class),
-            any(BeanPropertySqlParameterSource.class), eq(Integer.class)))
-            .willReturn(1);
+        given(queryTemplate.queryForOptional(any(BoundQuery.class), any(RowMapper.class)))
+            .willReturn(Optional.of(1));
 
-        given(jdbcTemplate.update(any(String.class), any(BeanPropertySqlParameterSource.class)))
+        given(queryTemplate.update(any(BoundQuery.class)))
             .willReturn(1);
 
         // when
@@ -89,13 +87,15 @@ public class UserJdbcRepositoryTest {
         then(savedUser.getPassword()).isEqualTo("userPassword");
         then(savedUser.getName()).isEqualTo("otherName");
         then(savedUser.getEmail()).isEqualTo("other@example.com");
+
+        verify(queryTemplate).update(argThat(query -> query.getQuery() == Query.UPDATE_USER));
     }
 
     @Test
     @DisplayName("모든 유저 객체를 조회한다")
     public void findAllTest() {
         // given
-        given(jdbcTemplate.query(any(String.class), any(RowMapper.class)))
+        given(queryTemplate.query(any(BoundQuery.class), any(RowMapper.class)))
             .willReturn(List.of(user));
 
         // when
@@ -109,9 +109,8 @@ public class UserJdbcRepositoryTest {
     @DisplayName("유저 아이디를 입력해 유저 객체를 조회한다")
     public void findByUserIdTest() {
         // given
-        given(jdbcTemplate.queryForObject(any(String.class), any(MapSqlParameterSource.class), any(
-            RowMapper.class)))
-            .willReturn(user);
+        given(queryTemplate.queryForOptional(any(BoundQuery.class), any(RowMapper.class)))
+            .willReturn(Optional.of(user));
 
         // when
         Optional<User> findUser = userRepository.findByUserId(user.getUserId());
@@ -124,9 +123,8 @@ public class UserJdbcRepositoryTest {
     @DisplayName("존재하지 않는 질문 id 로 질문 객체를 조회한다")
     public void findNullTest() {
         // given
-        given(jdbcTemplate.queryForObject(any(String.class), any(MapSqlParameterSource.class), any(
-            RowMapper.class)))
-            .willThrow(EmptyResultDataAccessException.class);
+        given(queryTemplate.queryForOptional(any(BoundQuery.class), any(RowMapper.class)))
+            .willReturn(Optional.empty());
 
         // when
         Optional<User> findUser = userRepository.findByUserId(user.getUserId());
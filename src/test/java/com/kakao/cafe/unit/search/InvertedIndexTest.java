@@ -0,0 +1,129 @@
+package com.kakao.cafe.unit.search;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.kakao.cafe.domain.Article;
+import com.kakao.cafe.domain.Reply;
+import com.kakao.cafe.search.InvertedIndex;
+import com.kakao.cafe.search.KoreanTokenizer;
+import com.kakao.cafe.search.SearchHit;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("InvertedIndex 단위 테스트")
+public class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new InvertedIndex(new KoreanTokenizer());
+    }
+
+    private Article article(Integer articleId, String title, String contents) {
+        return new Article(articleId, "writer", title, contents, LocalDateTime.now(), 0);
+    }
+
+    private List<Integer> search(String query) {
+        return index.search(query, 10).stream()
+            .map(hit -> hit.getArticle().getArticleId())
+            .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("조사가 붙은 단어도 검색하고 제목에 나온 질문을 먼저 반환한다")
+    public void rankTest() {
+        // given
+        index.put(article(1, "자바 질문", "스프링을 공부하고 있습니다"), List.of());
+        index.put(article(2, "스프링 질문", "빈 등록 방법"), List.of());
+        index.put(article(3, "데이터베이스", "인덱스 설계"), List.of());
+
+        // when
+        List<Integer> articleIds = search("스프링");
+
+        // then
+        then(articleIds).containsExactly(2, 1);
+    }
+
+    @Test
+    @DisplayName("댓글의 내용으로도 검색하고 요약에는 본문 없이 댓글 수를 담는다")
+    public void replyTest() {
+        // given
+        Reply reply = new Reply(1, 1, "userId", "트랜잭션 격리 수준 확인", LocalDateTime.now());
+        index.put(article(1, "title", "contents"), List.of(reply));
+
+        // when
+        List<SearchHit> hits = index.search("격리 수준", 10);
+
+        // then
+        then(hits).hasSize(1);
+        then(hits.get(0).getArticle().getContents()).isNull();
+        then(hits.get(0).getArticle().getReplyCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다시 색인하면 이전 내용으로는 검색되지 않는다")
+    public void replaceTest() {
+        // given
+        index.put(article(1, "mysql", "contents"), List.of());
+
+        // when
+        index.put(article(1, "h2", "contents"), List.of());
+
+        // then
+        then(search("mysql")).isEmpty();
+        then(search("h2")).containsExactly(1);
+        then(index.getDocumentCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("질문을 제거하면 토큰과 함께 색인에서 사라진다")
+    public void removeTest() {
+        // given
+        index.put(article(1, "mysql", "replication"), List.of());
+        index.put(article(2, "mysql", "index"), List.of());
+
+        // when
+        index.remove(1);
+
+        // then
+        then(search("mysql")).containsExactly(2);
+        then(search("replication")).isEmpty();
+        then(index.getDocumentCount()).isEqualTo(1);
+        then(index.getTermCount()).isEqualTo(2);
+        then(index.getPostingCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("토큰이 적은 검색어는 모든 토큰이 일치해야 한다")
+    public void minimumMatchTest() {
+        // given
+        index.put(article(1, "spring", "boot"), List.of());
+        index.put(article(2, "spring", "batch"), List.of());
+
+        // when, then
+        then(search("spring boot")).containsExactly(1);
+        then(search("없는 단어")).isEmpty();
+        then(search("  ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("점수가 같으면 최신 질문부터 limit 개까지 반환한다")
+    public void limitTest() {
+        // given
+        for (int articleId = 1; articleId <= 5; articleId++) {
+            index.put(article(articleId, "cafe", "contents"), List.of());
+        }
+
+        // when
+        List<SearchHit> hits = index.search("cafe", 3);
+
+        // then
+        then(hits).extracting(hit -> hit.getArticle().getArticleId())
+            .containsExactly(5, 4, 3);
+    }
+}
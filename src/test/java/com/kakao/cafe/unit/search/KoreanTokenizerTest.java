@@ -0,0 +1,63 @@
+package com.kakao.cafe.unit.search;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.kakao.cafe.search.KoreanTokenizer;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("KoreanTokenizer 단위 테스트")
+public class KoreanTokenizerTest {
+
+    private final KoreanTokenizer tokenizer = new KoreanTokenizer();
+
+    @Test
+    @DisplayName("한글은 두 글자씩 겹쳐 자른다")
+    public void hangulBigramTest() {
+        // when
+        List<String> tokens = tokenizer.tokenize("스프링을 배워요");
+
+        // then
+        then(tokens).containsExactly("스프", "프링", "링을", "배워", "워요");
+    }
+
+    @Test
+    @DisplayName("영문, 숫자는 소문자 단어로 자르고 문장 부호는 버린다")
+    public void wordTest() {
+        // when
+        List<String> tokens = tokenizer.tokenize("Spring Boot 2.6, JDBC!");
+
+        // then
+        then(tokens).containsExactly("spring", "boot", "2", "6", "jdbc");
+    }
+
+    @Test
+    @DisplayName("한글과 영문이 붙어 있으면 나누어 자르고 한 글자 한글은 그대로 둔다")
+    public void mixedTest() {
+        // when
+        List<String> tokens = tokenizer.tokenize("JPA와 책");
+
+        // then
+        then(tokens).containsExactly("jpa", "와", "책");
+    }
+
+    @Test
+    @DisplayName("전각 문자는 정규화한다")
+    public void normalizeTest() {
+        // when
+        List<String> tokens = tokenizer.tokenize("ＳＱＬ");
+
+        // then
+        then(tokens).containsExactly("sql");
+    }
+
+    @Test
+    @DisplayName("빈 문자열이나 null 은 토큰이 없다")
+    public void emptyTest() {
+        // when, then
+        then(tokenizer.tokenize("")).isEmpty();
+        then(tokenizer.tokenize(null)).isEmpty();
+        then(tokenizer.tokenize(" ?! ")).isEmpty();
+    }
+}
@@ -4,9 +4,14 @@ import static org.assertj.core.api.BDDAssertions.catchThrowable;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import com.kakao.cafe.domain.Article;
+import com.kakao.cafe.domain.ArticleDeleteResult;
 import com.kakao.cafe.domain.Reply;
+import com.kakao.cafe.domain.ResourceVersion;
+import com.kakao.cafe.dto.ArticlePageResponse;
 import com.kakao.cafe.dto.ArticleResponse;
 import com.kakao.cafe.dto.ArticleSaveRequest;
 import com.kakao.cafe.exception.ErrorCode;
@@ -14,18 +19,24 @@ import com.kakao.cafe.exception.InvalidRequestException;
 import com.kakao.cafe.exception.NotFoundException;
 import com.kakao.cafe.repository.ArticleRepository;
 import com.kakao.cafe.repository.ReplyRepository;
+import com.kakao.cafe.service.ArticleChangedEvent;
 import com.kakao.cafe.service.ArticleService;
 import com.kakao.cafe.session.SessionUser;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ArticleService mock 단위 테스트")
@@ -40,6 +51,9 @@ public class ArticleServiceTest {
     @Mock
     private ReplyRepository replyRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private Article article;
     private Reply reply;
     private ArticleResponse articleResponse;
@@ -55,13 +69,17 @@ public class ArticleServiceTest {
 
         articleResponse = ArticleResponse.createWithArticle(1, "writer", "title", "contents",
             LocalDateTime.now());
-        sessionUser = new SessionUser(1, "writer", "userPassword", "userName",
-            "user@example.com");
-        sessionOther = new SessionUser(1, "otherId", "otherPassword", "otherName",
-            "other@example.com");
+        sessionUser = new SessionUser("writer", "userName");
+        sessionOther = new SessionUser("otherId", "otherName");
         request = new ArticleSaveRequest("writer", "otherTitle", "otherContents");
     }
 
+    // 질문 삭제는 댓글 저장을 막은 상태에서 실행하므로 전달한 action 을 그대로 실행
+    private void givenLockArticle() {
+        given(replyRepository.lockArticle(any(), any()))
+            .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    }
+
     @Test
     @DisplayName("질문을 작성한 후 저장소에 저장한다")
     public void writeTest() {
@@ -92,6 +110,42 @@ public class ArticleServiceTest {
         then(articles).containsExactlyElementsOf(List.of(articleResponse));
     }
 
+    @Test
+    @DisplayName("커서 이후의 질문을 페이지 단위로 조회한다")
+    public void findArticlePageTest() {
+        // given
+        given(articleRepository.findAllAfter(any(), any(), any()))
+            .willReturn(List.of(article));
+
+        // when
+        ArticlePageResponse page = articleService.findArticlePage(null, null);
+
+        // then
+        then(page.getArticles()).containsExactlyElementsOf(List.of(articleResponse));
+        then(page.getHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("페이지 크기보다 많은 질문이 있으면 다음 페이지 커서를 반환한다")
+    public void findArticlePageHasNextTest() {
+        // given
+        List<Article> articles = IntStream.rangeClosed(1, 16)
+            .mapToObj(id -> Article.createWithoutReplyCount(17 - id, "writer", "title",
+                "contents", LocalDateTime.now()))
+            .collect(Collectors.toList());
+
+        given(articleRepository.findAllAfter(any(), any(), any()))
+            .willReturn(articles);
+
+        // when
+        ArticlePageResponse page = articleService.findArticlePage(null, null);
+
+        // then
+        then(page.getArticles()).hasSize(15);
+        then(page.getHasNext()).isTrue();
+        then(page.getNextArticleId()).isEqualTo(2);
+    }
+
     @Test
     @DisplayName("질문 id 로 저장소에 저장된 질문을 조회한다")
     public void findArticleTest() {
@@ -240,22 +294,45 @@ public class ArticleServiceTest {
     @DisplayName("유저 정보와 질문 id 로 유저의 질문을 삭제한다")
     public void deleteArticleTest() {
         // given
-        given(articleRepository.findById(any()))
-            .willReturn(Optional.of(article));
+        givenLockArticle();
+        given(articleRepository.deleteByIdAndWriter(any(), any()))
+            .willReturn(ArticleDeleteResult.DELETED);
 
-        given(replyRepository.countByArticleIdAndNotUserId(any(), any()))
-            .willReturn(0);
+        // when
+        articleService.deleteArticle(sessionUser, article.getArticleId());
+
+        // then
+        verify(articleRepository).deleteByIdAndWriter(article.getArticleId(), "writer");
+        verify(articleRepository, never()).findById(any());
+        verify(replyRepository, never()).countByArticleIdAndNotUserId(any(), any());
+    }
+
+    @Test
+    @DisplayName("질문을 삭제하면 질문 변경 이벤트를 발행한다")
+    public void deleteArticleEventTest() {
+        // given
+        givenLockArticle();
+        given(articleRepository.deleteByIdAndWriter(any(), any()))
+            .willReturn(ArticleDeleteResult.DELETED);
+
+        ArgumentCaptor<ArticleChangedEvent> captor =
+            ArgumentCaptor.forClass(ArticleChangedEvent.class);
 
         // when
         articleService.deleteArticle(sessionUser, article.getArticleId());
+
+        // then
+        verify(eventPublisher).publishEvent(captor.capture());
+        then(captor.getValue().getArticleId()).isEqualTo(article.getArticleId());
     }
 
     @Test
     @DisplayName("유저 정보와 존재하지 않는 질문 id 로 유저의 질문을 삭제 시 예외를 반환한다")
     public void deleteArticleNotFoundTest() {
         // given
-        given(articleRepository.findById(any()))
-            .willThrow(new NotFoundException(ErrorCode.ARTICLE_NOT_FOUND));
+        givenLockArticle();
+        given(articleRepository.deleteByIdAndWriter(any(), any()))
+            .willReturn(ArticleDeleteResult.NOT_FOUND);
 
         // when
         Throwable throwable = catchThrowable(
@@ -265,14 +342,16 @@ public class ArticleServiceTest {
         then(throwable)
             .isInstanceOf(NotFoundException.class)
             .hasMessage(ErrorCode.ARTICLE_NOT_FOUND.getMessage());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
     @DisplayName("다른 유저 정보와 질문 id 로 유저의 질문을 삭제 시 예외를 반환한다")
     public void deleteArticleValidateTest() {
         // given
-        given(articleRepository.findById(any()))
-            .willReturn(Optional.of(article));
+        givenLockArticle();
+        given(articleRepository.deleteByIdAndWriter(any(), any()))
+            .willReturn(ArticleDeleteResult.NOT_WRITER);
 
         // when
         Throwable throwable = catchThrowable(
@@ -288,6 +367,28 @@ public class ArticleServiceTest {
     @DisplayName("다른 유저의 댓글이 있는 질문 삭제 시 예외를 반환한다")
     public void deleteArticleOthersReplyTest() {
         // given
+        givenLockArticle();
+        given(articleRepository.deleteByIdAndWriter(any(), any()))
+            .willReturn(ArticleDeleteResult.HAS_OTHER_REPLIES);
+
+        // when
+        Throwable throwable = catchThrowable(
+            () -> articleService.deleteArticle(sessionUser, article.getArticleId()));
+
+        // then
+        then(throwable)
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessage(ErrorCode.INVALID_ARTICLE_DELETE.getMessage());
+    }
+
+    @Test
+    @DisplayName("저장 대기 중인 다른 유저의 댓글이 있으면 삭제 전에 확인해 예외를 반환한다")
+    public void deleteArticlePendingReplyTest() {
+        // given
+        givenLockArticle();
+        given(replyRepository.hasPendingReplies(any()))
+            .willReturn(true);
+
         given(articleRepository.findById(any()))
             .willReturn(Optional.of(article));
 
@@ -302,5 +403,61 @@ public class ArticleServiceTest {
         then(throwable)
             .isInstanceOf(InvalidRequestException.class)
             .hasMessage(ErrorCode.INVALID_ARTICLE_DELETE.getMessage());
+        verify(articleRepository, never()).deleteByIdAndWriter(any(), any());
+    }
+
+    @Test
+    @DisplayName("대기 중인 댓글 확인과 삭제는 질문의 댓글 저장을 막은 상태에서 실행한다")
+    public void deleteArticleLockTest() {
+        // given
+        given(replyRepository.lockArticle(any(), any()))
+            .willAnswer(invocation -> {
+                verify(articleRepository, never()).deleteByIdAndWriter(any(), any());
+                Object result = invocation.<Supplier<?>>getArgument(1).get();
+                verify(articleRepository).deleteByIdAndWriter(article.getArticleId(), "writer");
+                return result;
+            });
+        given(articleRepository.deleteByIdAndWriter(any(), any()))
+            .willReturn(ArticleDeleteResult.DELETED);
+
+        // when
+        articleService.deleteArticle(sessionUser, article.getArticleId());
+
+        // then
+        verify(replyRepository).lockArticle(any(), any());
+        verify(replyRepository).hasPendingReplies(article.getArticleId());
+    }
+
+    @Test
+    @DisplayName("질문 id 로 질문의 버전을 조회한다")
+    public void findArticleVersionTest() {
+        // given
+        ResourceVersion version = new ResourceVersion(3, LocalDateTime.now());
+
+        given(replyRepository.hasPendingReplies(any()))
+            .willReturn(false);
+        given(articleRepository.findVersionById(any()))
+            .willReturn(Optional.of(version));
+
+        // when
+        Optional<ResourceVersion> findVersion = articleService.findArticleVersion(1);
+
+        // then
+        then(findVersion).hasValue(version);
+    }
+
+    @Test
+    @DisplayName("저장 대기 중인 댓글이 있으면 질문의 버전을 반환하지 않는다")
+    public void findArticleVersionPendingTest() {
+        // given
+        given(replyRepository.hasPendingReplies(any()))
+            .willReturn(true);
+
+        // when
+        Optional<ResourceVersion> findVersion = articleService.findArticleVersion(1);
+
+        // then
+        then(findVersion).isEmpty();
     }
+
 }
@@ -0,0 +1,94 @@
+package com.kakao.cafe.unit.service.mock;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+
+import com.kakao.cafe.domain.Article;
+import com.kakao.cafe.domain.Reply;
+import com.kakao.cafe.repository.jdbc.ArticleExportRepository;
+import com.kakao.cafe.service.ExportService;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportService mock 단위 테스트")
+public class ExportServiceTest {
+
+    private ExportService exportService;
+
+    @Mock
+    private ArticleExportRepository exportRepository;
+
+    private Article article;
+    private Article otherArticle;
+
+    @BeforeEach
+    public void setUp() {
+        exportService = new ExportService(exportRepository,
+            Jackson2ObjectMapperBuilder.json().build());
+
+        article = new Article(1, "writer", "title", "contents", LocalDateTime.now(), 1);
+        otherArticle = new Article(2, "writer", "otherTitle", "otherContents",
+            LocalDateTime.now(), 0);
+    }
+
+    @Test
+    @DisplayName("질문 하나를 한 줄의 JSON 으로 기록한다")
+    public void exportArticlesTest() throws IOException {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        willAnswer(invocation -> {
+            Consumer<Article> consumer = invocation.getArgument(0);
+            consumer.accept(article);
+            consumer.accept(otherArticle);
+            return null;
+        }).given(exportRepository).streamArticles(any());
+
+        // when
+        long count = exportService.exportArticles(out, false);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+
+        then(count).isEqualTo(2);
+        then(lines).hasSize(2);
+        then(lines[0]).startsWith("{").contains("\"articleId\":1", "\"title\":\"title\"");
+        then(lines[1]).contains("\"articleId\":2");
+    }
+
+    @Test
+    @DisplayName("댓글을 포함하면 질문의 JSON 에 댓글 목록을 함께 기록한다")
+    public void exportArticlesWithRepliesTest() throws IOException {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Reply reply = new Reply(1, 1, "userId", "comment", LocalDateTime.now());
+
+        willAnswer(invocation -> {
+            BiConsumer<Article, List<Reply>> consumer = invocation.getArgument(0);
+            consumer.accept(article, List.of(reply));
+            return null;
+        }).given(exportRepository).streamArticlesWithReplies(any());
+
+        // when
+        exportService.exportArticles(out, true);
+
+        // then
+        then(out.toString(StandardCharsets.UTF_8))
+            .contains("\"replies\":[{\"replyId\":1")
+            .endsWith("}\n");
+    }
+}
@@ -0,0 +1,102 @@
+package com.kakao.cafe.unit.service.mock;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.kakao.cafe.domain.Reply;
+import com.kakao.cafe.dto.ImportResult;
+import com.kakao.cafe.importer.CsvRowReader;
+import com.kakao.cafe.importer.NdjsonRowReader;
+import com.kakao.cafe.repository.ArticleRepository;
+import com.kakao.cafe.repository.ReplyRepository;
+import com.kakao.cafe.service.ImportService;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportService mock 단위 테스트")
+public class ImportServiceTest {
+
+    private ImportService importService;
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private ReplyRepository replyRepository;
+
+    @BeforeEach
+    public void setUp() {
+        importService = new ImportService(articleRepository, replyRepository, event -> {
+        }, 2);
+    }
+
+    @Test
+    @DisplayName("질문을 배치 크기만큼 나눠 저장하고, 잘못된 행은 거부한다")
+    public void importArticlesTest() throws IOException {
+        // given
+        String csv = "writer,title,contents\n"
+            + "writer,title1,contents1\n"
+            + "writer,,contents2\n"
+            + "writer,title3,contents3\n"
+            + "writer,title4,contents4\n"
+            + "writer,title5,contents5\n";
+
+        // when
+        ImportResult result = importService.importArticles(
+            new CsvRowReader(new StringReader(csv)));
+
+        // then
+        verify(articleRepository, times(2)).saveAll(anyCollection());
+        then(result.getTotal()).isEqualTo(5);
+        then(result.getImported()).isEqualTo(4);
+        then(result.getRejected()).isEqualTo(1);
+        then(result.getRejections()).singleElement()
+            .satisfies(rejection -> then(rejection.getLine()).isEqualTo(3));
+    }
+
+    @Test
+    @DisplayName("배치 저장에 실패하면 한 행씩 다시 저장해 실패한 행만 거부한다")
+    public void importRepliesFallbackTest() throws IOException {
+        // given
+        String ndjson = "{\"articleId\": 1, \"userId\": \"userId\", \"comment\": \"comment\"}\n"
+            + "{\"articleId\": 999, \"userId\": \"userId\", \"comment\": \"comment\"}\n"
+            + "{\"articleId\": \"none\", \"userId\": \"userId\", \"comment\": \"comment\"}\n";
+
+        // 한 행씩 다시 저장할 때도 saveAll 로 저장 결과를 바로 확인
+        given(replyRepository.saveAll(anyCollection()))
+            .will(invocation -> {
+                Collection<Reply> replies = invocation.getArgument(0);
+                if (replies.stream().anyMatch(reply -> reply.getArticleId() == 999)) {
+                    throw new DataIntegrityViolationException("article_id");
+                }
+                return List.copyOf(replies);
+            });
+
+        // when
+        ImportResult result = importService.importReplies(
+            new NdjsonRowReader(new StringReader(ndjson)));
+
+        // then
+        then(result.getImported()).isEqualTo(1);
+        then(result.getRejected()).isEqualTo(2);
+        then(result.getRejections())
+            .extracting(ImportResult.Rejection::getLine)
+            .containsExactlyInAnyOrder(2L, 3L);
+        verify(replyRepository, never()).save(any(Reply.class));
+    }
+}
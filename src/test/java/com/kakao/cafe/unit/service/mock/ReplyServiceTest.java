@@ -4,6 +4,7 @@ import static org.assertj.core.api.BDDAssertions.catchThrowable;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 import com.kakao.cafe.domain.Reply;
 import com.kakao.cafe.dto.ReplyResponse;
@@ -11,6 +12,7 @@ import com.kakao.cafe.exception.ErrorCode;
 import com.kakao.cafe.exception.InvalidRequestException;
 import com.kakao.cafe.exception.NotFoundException;
 import com.kakao.cafe.repository.ReplyRepository;
+import com.kakao.cafe.service.ArticleChangedEvent;
 import com.kakao.cafe.service.ReplyService;
 import com.kakao.cafe.session.SessionUser;
 import java.time.LocalDateTime;
@@ -19,9 +21,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 public class ReplyServiceTest {
@@ -32,13 +36,15 @@ public class ReplyServiceTest {
     @Mock
     private ReplyRepository replyRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private SessionUser sessionUser;
     private Reply reply;
 
     @BeforeEach
     public void setUp() {
-        sessionUser = new SessionUser(1, "userId", "userPassword", "userName",
-            "user@example.com");
+        sessionUser = new SessionUser("userId", "userName");
 
         reply = new Reply(1, 1, "userId", "comment", LocalDateTime.now());
     }
@@ -101,8 +107,7 @@ public class ReplyServiceTest {
     @DisplayName("댓글을 업데이트할 때 세션 유저와 댓글을 작성한 유저가 일치하지 않을 경우 예외를 반환한다")
     public void updateReplyValidateTest() {
         // given
-        SessionUser sessionOther = new SessionUser(1, "otherId", "otherPassword", "otherName",
-            "other@example.com");
+        SessionUser sessionOther = new SessionUser("otherId", "otherName");
 
         given(replyRepository.findById(any()))
             .willReturn(Optional.of(reply));
@@ -128,6 +133,24 @@ public class ReplyServiceTest {
         replyService.deleteReply(sessionUser, 1);
     }
 
+    @Test
+    @DisplayName("댓글을 삭제하면 댓글이 달린 질문의 변경 이벤트를 발행한다")
+    public void deleteReplyEventTest() {
+        // given
+        given(replyRepository.findById(any()))
+            .willReturn(Optional.of(reply));
+
+        ArgumentCaptor<ArticleChangedEvent> captor =
+            ArgumentCaptor.forClass(ArticleChangedEvent.class);
+
+        // when
+        replyService.deleteReply(sessionUser, 1);
+
+        // then
+        verify(eventPublisher).publishEvent(captor.capture());
+        then(captor.getValue().getArticleId()).isEqualTo(reply.getArticleId());
+    }
+
     @Test
     @DisplayName("댓글을 삭제할 때 존재하지 않는 댓글 id 를 입력하면 예외를 반환한다")
     public void deleteReplyNotFoundTest() {
@@ -148,8 +171,7 @@ public class ReplyServiceTest {
     @DisplayName("댓글을 업데이트할 때 세션 유저와 댓글을 작성한 유저가 일치하지 않을 경우 예외를 반환한다")
     public void deleteReplyValidateTest() {
         // given
-        SessionUser sessionOther = new SessionUser(1, "otherId", "otherPassword", "otherName",
-            "other@example.com");
+        SessionUser sessionOther = new SessionUser("otherId", "otherName");
 
         given(replyRepository.findById(any()))
             .willReturn(Optional.of(reply));
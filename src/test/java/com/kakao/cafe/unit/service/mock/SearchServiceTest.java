@@ -0,0 +1,201 @@
+package com.kakao.cafe.unit.service.mock;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.kakao.cafe.domain.Article;
+import com.kakao.cafe.domain.Reply;
+import com.kakao.cafe.dto.ArticleResponse;
+import com.kakao.cafe.dto.SearchResponse;
+import com.kakao.cafe.repository.ArticleRepository;
+import com.kakao.cafe.repository.ReplyRepository;
+import com.kakao.cafe.repository.jdbc.ArticleExportRepository;
+import com.kakao.cafe.service.ArticleChangedEvent;
+import com.kakao.cafe.service.SearchService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class SearchServiceTest {
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private ReplyRepository replyRepository;
+
+    @Mock
+    private ArticleExportRepository exportRepository;
+
+    private SimpleMeterRegistry registry;
+    private SearchService searchService;
+
+    private Article article;
+    private Reply reply;
+
+    @AfterEach
+    public void tearDown() {
+        searchService.close();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        searchService = new SearchService(articleRepository, replyRepository, exportRepository,
+            registry);
+
+        article = new Article(1, "writer", "스프링 질문", "빈 등록 방법", LocalDateTime.now(), 1);
+        reply = new Reply(1, 1, "userId", "트랜잭션 전파", LocalDateTime.now());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenArticles(Article article, List<Reply> replies) {
+        willAnswer(invocation -> {
+            ((BiConsumer<Article, List<Reply>>) invocation.getArgument(0))
+                .accept(article, replies);
+            return null;
+        }).given(exportRepository).streamArticlesWithReplies(any());
+    }
+
+    private List<Integer> search(String query) {
+        SearchResponse response = searchService.search(query);
+        return response.getArticles().stream()
+            .map(ArticleResponse::getArticleId)
+            .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("시작할 때 저장소의 질문, 댓글을 모두 색인하고 색인 크기를 기록한다")
+    public void rebuildTest() {
+        // given
+        givenArticles(article, List.of(reply));
+
+        // when
+        searchService.onApplicationReady();
+        searchService.flush();
+
+        // then
+        then(search("스프링")).containsExactly(1);
+        then(search("전파")).containsExactly(1);
+        then(registry.get("cafe.search.index.documents").gauge().value()).isEqualTo(1);
+        then(registry.get("cafe.search.rebuild").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("질문이 바뀌면 해당 질문만 다시 조회해 색인한다")
+    public void articleChangedTest() {
+        // given
+        given(articleRepository.findById(1))
+            .willReturn(Optional.of(article));
+        given(replyRepository.findByArticleId(1))
+            .willReturn(List.of(reply));
+
+        // when
+        searchService.onArticleChanged(new ArticleChangedEvent(1));
+        searchService.flush();
+
+        // then
+        SearchResponse response = searchService.search("트랜잭션");
+        then(response.getQuery()).isEqualTo("트랜잭션");
+        then(response.getArticles()).hasSize(1);
+        then(response.getArticles().get(0).getReplyCount()).isEqualTo(1);
+        then(registry.get("cafe.search.query").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제된 질문은 색인에서 제거한다")
+    public void articleDeletedTest() {
+        // given
+        givenArticles(article, List.of());
+        searchService.onApplicationReady();
+        searchService.flush();
+
+        given(articleRepository.findById(1))
+            .willReturn(Optional.empty());
+
+        // when
+        searchService.onArticleChanged(new ArticleChangedEvent(1));
+        searchService.flush();
+
+        // then
+        then(search("스프링")).isEmpty();
+        then(registry.get("cafe.search.index.documents").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 질문이 한꺼번에 바뀌면 전체를 다시 색인한다")
+    public void allChangedTest() {
+        // given
+        givenArticles(article, List.of());
+
+        // when
+        searchService.onArticleChanged(ArticleChangedEvent.all());
+        searchService.flush();
+
+        // then
+        then(search("스프링")).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("색인은 요청 스레드가 아닌 indexer 스레드에서 실행하고, 바뀐 질문을 모아 한 번만 색인한다")
+    public void asyncCoalesceTest() throws Exception {
+        // given
+        CountDownLatch indexing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<String> indexerThread = new AtomicReference<>();
+
+        willAnswer(invocation -> {
+            indexerThread.set(Thread.currentThread().getName());
+            indexing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).given(exportRepository).streamArticlesWithReplies(any());
+        given(articleRepository.findById(1))
+            .willReturn(Optional.of(article));
+        given(replyRepository.findByArticleId(1))
+            .willReturn(List.of(reply));
+
+        // when
+        searchService.onArticleChanged(ArticleChangedEvent.all());
+        indexing.await(5, TimeUnit.SECONDS);
+        for (int i = 0; i < 3; i++) {
+            searchService.onArticleChanged(new ArticleChangedEvent(1));
+        }
+        release.countDown();
+        searchService.flush();
+
+        // then
+        then(indexerThread.get()).isEqualTo("search-indexer");
+        then(search("트랜잭션")).containsExactly(1);
+        verify(articleRepository, times(1)).findById(1);
+    }
+
+    @Test
+    @DisplayName("검색어가 없으면 빈 결과를 반환한다")
+    public void emptyQueryTest() {
+        // when
+        SearchResponse response = searchService.search(null);
+
+        // then
+        then(response.getQuery()).isEmpty();
+        then(response.getArticles()).isEmpty();
+    }
+}
@@ -0,0 +1,84 @@
+package com.kakao.cafe.unit.service.mock;
+
+import static org.assertj.core.api.BDDAssertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+import com.kakao.cafe.domain.User;
+import com.kakao.cafe.exception.NotFoundException;
+import com.kakao.cafe.repository.UserRepository;
+import com.kakao.cafe.service.ServiceMetricsAspect;
+import com.kakao.cafe.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ServiceMetricsAspect 단위 테스트")
+public class ServiceMetricsAspectTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private MeterRegistry registry;
+    private UserService userService;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(
+            new UserService(userRepository));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new ServiceMetricsAspect(registry));
+        userService = proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("서비스 메서드의 실행 시간을 서비스, 메서드 이름으로 기록한다")
+    public void recordTest() {
+        // given
+        given(userRepository.findAll())
+            .willReturn(List.of(
+                User.createWithInput("userId", "userPassword", "userName", "user@example.com")));
+
+        // when
+        userService.findUsers();
+        userService.findUsers();
+
+        // then
+        then(timer("findUsers").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("예외로 끝난 서비스 메서드도 실행 시간을 기록한다")
+    public void recordExceptionTest() {
+        // given
+        given(userRepository.findByUserId(any()))
+            .willReturn(Optional.empty());
+
+        // when
+        Throwable throwable = catchThrowable(() -> userService.findUser("userId"));
+
+        // then
+        then(throwable).isInstanceOf(NotFoundException.class);
+        then(timer("findUser").count()).isEqualTo(1);
+    }
+
+    private Timer timer(String method) {
+        return registry.get("cafe.service")
+            .tag("service", "UserService")
+            .tag("method", method)
+            .timer();
+    }
+}
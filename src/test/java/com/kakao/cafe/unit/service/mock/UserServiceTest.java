@@ -45,8 +45,7 @@ public class UserServiceTest {
         user = User.createWithInput("userId", "userPassword", "userName", "user@example.com");
         userResponse = new UserResponse(1, "userId", "userPassword", "userName",
             "user@example.com");
-        sessionUser = new SessionUser(1, "userId", "userPassword", "userName",
-            "user@example.com");
+        sessionUser = new SessionUser("userId", "userName");
     }
 
     @Test
@@ -4,7 +4,9 @@ import static org.assertj.core.api.BDDAssertions.catchThrowable;
 import static org.assertj.core.api.BDDAssertions.then;
 
 import com.kakao.cafe.domain.Article;
+import com.kakao.cafe.domain.ArticleDeleteResult;
 import com.kakao.cafe.domain.Reply;
+import com.kakao.cafe.domain.ResourceVersion;
 import com.kakao.cafe.dto.ArticleResponse;
 import com.kakao.cafe.dto.ArticleSaveRequest;
 import com.kakao.cafe.exception.ErrorCode;
@@ -14,8 +16,10 @@ import com.kakao.cafe.repository.ReplyRepository;
 import com.kakao.cafe.service.ArticleService;
 import com.kakao.cafe.session.SessionUser;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -34,6 +38,11 @@ public class ArticleServiceTest {
             return null;
         }
 
+        @Override
+        public List<User> saveAll(Collection<User> users) {
+            return null;
+        }
+
         @Override
         public List<User> findAll() {
             return null;
@@ -58,7 +67,9 @@ public class ArticleServiceTest {
 
     @BeforeEach
     public void setUp() {
-        articleService = new ArticleService(new ArticleStubRepository(), new ReplyStubRepository());
+        articleService = new ArticleService(new ArticleStubRepository(), new ReplyStubRepository(),
+            event -> {
+            });
 
         articleResponse = ArticleResponse.createWithArticle(1, "writer", "title", "contents",
             LocalDateTime.now());
@@ -67,8 +78,7 @@ public class ArticleServiceTest {
     @Test
     @DisplayName("질문을 작성한 후 저장소에 저장한다")
     public void writeTest() {
-        SessionUser sessionUser = new SessionUser(1, "userId", "userPassword", "usrName",
-            "user@example.com");
+        SessionUser sessionUser = new SessionUser("userId", "usrName");
         // given
         ArticleSaveRequest request = new ArticleSaveRequest("writer", "title", "contents");
 
@@ -106,8 +116,7 @@ public class ArticleServiceTest {
     @DisplayName("질문을 작성할 때 유저아이디가 존재하지 않으면 예외 처리한다")
     public void writeValidationTest() {
         // given
-        SessionUser sessionNone = new SessionUser(1, "none", "userPassword", "userName",
-            "user@example.com");
+        SessionUser sessionNone = new SessionUser("none", "userName");
 
         ArticleSaveRequest request = new ArticleSaveRequest("none", "title", "contents");
 
@@ -143,11 +152,22 @@ public class ArticleServiceTest {
             return this.article;
         }
 
+        @Override
+        public List<Article> saveAll(Collection<Article> articles) {
+            return List.of(article);
+        }
+
         @Override
         public List<Article> findAll() {
             return List.of(article);
         }
 
+        @Override
+        public List<Article> findAllAfter(LocalDateTime createdDate, Integer articleId,
+            Integer size) {
+            return List.of(article);
+        }
+
         @Override
         public Optional<Article> findById(Integer articleId) {
             if (articleId == null) {
@@ -156,6 +176,16 @@ public class ArticleServiceTest {
             return Optional.of(article);
         }
 
+        @Override
+        public Optional<ResourceVersion> findVersionById(Integer articleId) {
+            return Optional.of(new ResourceVersion(1, article.getCreatedDate()));
+        }
+
+        @Override
+        public <T> T readAtVersion(Integer articleId, long version, Supplier<T> action) {
+            return action.get();
+        }
+
         @Override
         public void deleteAll() {
 
@@ -165,6 +195,11 @@ public class ArticleServiceTest {
         public void deleteById(Integer articleId) {
 
         }
+
+        @Override
+        public ArticleDeleteResult deleteByIdAndWriter(Integer articleId, String writer) {
+            return ArticleDeleteResult.DELETED;
+        }
     }
 
     private static class ReplyStubRepository implements ReplyRepository {
@@ -176,6 +211,11 @@ public class ArticleServiceTest {
             return null;
         }
 
+        @Override
+        public List<Reply> saveAll(Collection<Reply> replies) {
+            return null;
+        }
+
         @Override
         public Optional<Reply> findById(Integer replyId) {
             return Optional.empty();
@@ -195,6 +235,16 @@ public class ArticleServiceTest {
         public Integer countByArticleIdAndNotUserId(String userId, Integer articleId) {
             return null;
         }
+
+        @Override
+        public boolean hasPendingReplies(Integer articleId) {
+            return false;
+        }
+
+        @Override
+        public <T> T lockArticle(Integer articleId, Supplier<T> action) {
+            return action.get();
+        }
     }
 
     // TODO: ArticleService 에서 mapUserArticle, updateUserArticle, deleteUserArticle stub 테스트 필요
@@ -3,6 +3,7 @@ package com.kakao.cafe.unit.service.stub;
 import static org.assertj.core.api.BDDAssertions.catchThrowable;
 import static org.assertj.core.api.BDDAssertions.then;
 
+import com.kakao.cafe.domain.ResourceVersion;
 import com.kakao.cafe.domain.User;
 import com.kakao.cafe.dto.UserLoginRequest;
 import com.kakao.cafe.dto.UserResponse;
@@ -14,8 +15,11 @@ import com.kakao.cafe.exception.NotFoundException;
 import com.kakao.cafe.repository.UserRepository;
 import com.kakao.cafe.service.UserService;
 import com.kakao.cafe.session.SessionUser;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,8 +37,7 @@ public class UserServiceTest {
 
         userResponse = new UserResponse(1, "userId", "userPassword", "userName",
             "user@example.com");
-        sessionUser = new SessionUser(1, "userId", "userPassword", "userName",
-            "user@example.com");
+        sessionUser = new SessionUser("userId", "userName");
     }
 
     @Test
@@ -122,8 +125,7 @@ public class UserServiceTest {
     @DisplayName("유저 정보 변경 시 변경할 유저가 존재하지 않으면 예외를 반환한다")
     public void updateUserNotFoundTest() {
         // given
-        SessionUser sessionOther = new SessionUser(1, "newId", "userPassword", "userName",
-            "user@example.com");
+        SessionUser sessionOther = new SessionUser("newId", "userName");
 
         UserSaveRequest request = new UserSaveRequest("newId", "userPassword", "otherName",
             "other@example.com");
@@ -212,6 +214,11 @@ public class UserServiceTest {
             return user;
         }
 
+        @Override
+        public List<User> saveAll(Collection<User> users) {
+            return List.of(user);
+        }
+
         @Override
         public List<User> findAll() {
             return List.of(user);
@@ -222,6 +229,16 @@ public class UserServiceTest {
             return userId == null || userId.equals("newId") ? Optional.empty() : Optional.of(user);
         }
 
+        @Override
+        public Optional<ResourceVersion> findVersionByUserId(String userId) {
+            return Optional.of(new ResourceVersion(1, LocalDateTime.now()));
+        }
+
+        @Override
+        public <T> T readAtVersion(String userId, long version, Supplier<T> action) {
+            return action.get();
+        }
+
         @Override
         public void deleteAll() {
 
@@ -0,0 +1,74 @@
+package com.kakao.cafe.unit.session;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.kakao.cafe.session.SessionMetrics;
+import com.kakao.cafe.session.SessionUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import javax.servlet.http.HttpSessionBindingEvent;
+import javax.servlet.http.HttpSessionEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpSession;
+
+@DisplayName("SessionMetrics 단위 테스트")
+public class SessionMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private SessionMetrics sessionMetrics;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        sessionMetrics = new SessionMetrics(registry);
+    }
+
+    private double gauge(String name) {
+        return registry.get(name).gauge().value();
+    }
+
+    @Test
+    @DisplayName("세션 생성, 속성 저장, 만료에 따라 세션 수와 크기를 기록한다")
+    public void sessionLifecycleTest() {
+        // given
+        MockHttpSession session = new MockHttpSession();
+        sessionMetrics.sessionCreated(new HttpSessionEvent(session));
+
+        // when
+        SessionUser user = new SessionUser("userId", "userName");
+        session.setAttribute(SessionUser.SESSION_KEY, user);
+        sessionMetrics.attributeAdded(
+            new HttpSessionBindingEvent(session, SessionUser.SESSION_KEY, user));
+
+        double live = gauge("cafe.session.live");
+        double bytes = gauge("cafe.session.bytes");
+
+        sessionMetrics.sessionDestroyed(new HttpSessionEvent(session));
+
+        // then
+        then(live).isEqualTo(1);
+        then(bytes).isPositive();
+        then(gauge("cafe.session.live")).isZero();
+        then(gauge("cafe.session.bytes")).isZero();
+        then(registry.get("cafe.session.size").summary().count()).isEqualTo(1);
+        then(registry.get("cafe.session.size").summary().totalAmount()).isEqualTo(bytes);
+    }
+
+    @Test
+    @DisplayName("세션 아이디가 바뀌어도 같은 세션으로 기록한다")
+    public void sessionIdChangedTest() {
+        // given
+        MockHttpSession session = new MockHttpSession();
+        sessionMetrics.sessionCreated(new HttpSessionEvent(session));
+        String oldSessionId = session.getId();
+
+        // when
+        String newSessionId = session.changeSessionId();
+        sessionMetrics.sessionIdChanged(new HttpSessionEvent(session), oldSessionId);
+
+        // then
+        then(newSessionId).isNotEqualTo(oldSessionId);
+        then(gauge("cafe.session.live")).isEqualTo(1);
+    }
+}
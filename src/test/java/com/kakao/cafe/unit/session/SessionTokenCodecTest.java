@@ -0,0 +1,114 @@
+package com.kakao.cafe.unit.session;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.kakao.cafe.session.SessionTokenCodec;
+import com.kakao.cafe.session.SessionTokenCodec.SessionToken;
+import com.kakao.cafe.session.SessionUser;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SessionTokenCodec 단위 테스트")
+public class SessionTokenCodecTest {
+
+    private static final byte[] SECRET =
+        "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+    private static final Instant NOW = Instant.parse("2022-03-01T00:00:00Z");
+    private static final Duration MAX_AGE = Duration.ofMinutes(30);
+
+    private SessionTokenCodec codec;
+    private SessionUser sessionUser;
+
+    @BeforeEach
+    public void setUp() {
+        codec = codecAt(NOW);
+        sessionUser = new SessionUser("userId", "userName");
+    }
+
+    private SessionTokenCodec codecAt(Instant instant) {
+        return new SessionTokenCodec(SECRET, Clock.fixed(instant, ZoneOffset.UTC), MAX_AGE);
+    }
+
+    @Test
+    @DisplayName("서명한 토큰을 유저 아이디와 이름으로 복원한다")
+    public void encodeDecodeTest() {
+        // given
+        String token = codec.encode(sessionUser);
+
+        // when
+        Optional<SessionToken> decoded = codec.decode(token);
+
+        // then
+        then(decoded).isPresent();
+        SessionUser user = decoded.get().getUser();
+        then(user.getUserId()).isEqualTo("userId");
+        then(user.getName()).isEqualTo("userName");
+        then(decoded.get().getExpiresAt()).isEqualTo(NOW.plus(MAX_AGE));
+    }
+
+    @Test
+    @DisplayName("payload 를 변조한 토큰은 거부한다")
+    public void tamperedTest() {
+        // given
+        String token = codec.encode(sessionUser);
+        String other = codec.encode(new SessionUser("otherId", "otherName"));
+
+        String tampered = other.substring(0, other.indexOf('.'))
+            + token.substring(token.indexOf('.'));
+
+        // when
+        Optional<SessionToken> decoded = codec.decode(tampered);
+
+        // then
+        then(decoded).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명한 토큰은 거부한다")
+    public void otherSecretTest() {
+        // given
+        SessionTokenCodec otherCodec = new SessionTokenCodec(
+            "fedcba9876543210fedcba9876543210".getBytes(StandardCharsets.UTF_8),
+            Clock.fixed(NOW, ZoneOffset.UTC), MAX_AGE);
+
+        // when
+        Optional<SessionToken> decoded = codec.decode(otherCodec.encode(sessionUser));
+
+        // then
+        then(decoded).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 거부하고, 유효 기간의 절반이 지난 토큰은 재발급 대상이다")
+    public void expiryTest() {
+        // given
+        String token = codec.encode(sessionUser);
+
+        // when
+        Optional<SessionToken> renewed = codecAt(NOW.plus(Duration.ofMinutes(20)))
+            .decode(token);
+        Optional<SessionToken> expired = codecAt(NOW.plus(MAX_AGE)).decode(token);
+
+        // then
+        then(codec.needsRenewal(codec.decode(token).get())).isFalse();
+        then(renewed).isPresent();
+        then(codecAt(NOW.plus(Duration.ofMinutes(20))).needsRenewal(renewed.get())).isTrue();
+        then(expired).isEmpty();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 토큰은 예외 없이 거부한다")
+    public void malformedTest() {
+        then(codec.decode(null)).isEmpty();
+        then(codec.decode("")).isEmpty();
+        then(codec.decode("no-separator")).isEmpty();
+        then(codec.decode("!!!.???")).isEmpty();
+    }
+}
@@ -0,0 +1,93 @@
+package com.kakao.cafe.unit.session;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.kakao.cafe.session.SessionTokenCodec;
+import com.kakao.cafe.session.SessionUser;
+import com.kakao.cafe.session.SignedCookieSessionManager;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import javax.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("SignedCookieSessionManager 단위 테스트")
+public class SignedCookieSessionManagerTest {
+
+    private static final String COOKIE_NAME = "CAFE_SESSION";
+
+    private SignedCookieSessionManager sessionManager;
+    private SessionUser sessionUser;
+
+    @BeforeEach
+    public void setUp() {
+        SessionTokenCodec codec = new SessionTokenCodec(
+            "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8),
+            Clock.systemUTC(), Duration.ofMinutes(30));
+        sessionManager = new SignedCookieSessionManager(codec, COOKIE_NAME, true);
+
+        sessionUser = new SessionUser("userId", "userName");
+    }
+
+    @Test
+    @DisplayName("로그인한 쿠키로 HttpSession 없이 다른 요청에서 유저를 확인한다")
+    public void loginResolveTest() {
+        // given
+        MockHttpServletResponse loginResponse = new MockHttpServletResponse();
+        sessionManager.login(new MockHttpServletRequest(), loginResponse, sessionUser);
+
+        Cookie cookie = loginResponse.getCookie(COOKIE_NAME);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(cookie);
+
+        // when
+        Optional<SessionUser> user = sessionManager.resolve(request,
+            new MockHttpServletResponse());
+
+        // then
+        then(cookie.isHttpOnly()).isTrue();
+        then(cookie.getSecure()).isTrue();
+        then(user).isPresent();
+        then(user.get().getUserId()).isEqualTo("userId");
+        then(request.getSession(false)).isNull();
+        then(SessionUser.from(request).getUserId()).isEqualTo("userId");
+    }
+
+    @Test
+    @DisplayName("쿠키가 없거나 변조되었으면 유저를 확인하지 않는다")
+    public void resolveInvalidTest() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletRequest tamperedRequest = new MockHttpServletRequest();
+        tamperedRequest.setCookies(new Cookie(COOKIE_NAME, "payload.signature"));
+
+        // when
+        Optional<SessionUser> user = sessionManager.resolve(request,
+            new MockHttpServletResponse());
+        Optional<SessionUser> tamperedUser = sessionManager.resolve(tamperedRequest,
+            new MockHttpServletResponse());
+
+        // then
+        then(user).isEmpty();
+        then(tamperedUser).isEmpty();
+    }
+
+    @Test
+    @DisplayName("로그아웃하면 쿠키를 만료시킨다")
+    public void logoutTest() {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        sessionManager.logout(new MockHttpServletRequest(), response);
+
+        // then
+        then(response.getHeader(HttpHeaders.SET_COOKIE)).contains("Max-Age=0");
+    }
+}
@@ -0,0 +1,219 @@
+package com.kakao.cafe.unit.template;
+
+import static org.assertj.core.api.BDDAssertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.kakao.cafe.dto.ArticlePageResponse;
+import com.kakao.cafe.dto.ArticleResponse;
+import com.kakao.cafe.dto.NavbarResponse;
+import com.kakao.cafe.session.SessionUser;
+import com.kakao.cafe.template.TemplateCompiler;
+import com.samskivert.mustache.DefaultCollector;
+import com.samskivert.mustache.Mustache;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.util.StreamUtils;
+
+@DisplayName("TemplateCompiler 단위 테스트")
+public class TemplateCompilerTest {
+
+    private final Map<String, String> sources = new HashMap<>();
+
+    private final Mustache.Compiler mustache = Mustache.compiler()
+        .withLoader(name -> new StringReader(load(name)));
+
+    private final TemplateCompiler compiler = new TemplateCompiler(mustache, this::load,
+        StandardCharsets.UTF_8);
+
+    private String load(String name) {
+        if (sources.containsKey(name)) {
+            return sources.get(name);
+        }
+        try {
+            return StreamUtils.copyToString(
+                new ClassPathResource("templates/" + name + ".html").getInputStream(),
+                StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String render(String name, Object context) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        compiler.compile(name).execute(context, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private String renderWithJMustache(String name, Object context) {
+        return mustache.compile(load(name)).execute(context);
+    }
+
+    private String normalize(String html) {
+        return html.replaceAll("\\s+", " ").strip();
+    }
+
+    @Test
+    @DisplayName("변수, 섹션, 반전 섹션을 JMustache 와 같게 렌더링한다")
+    public void renderTest() throws IOException {
+        // given
+        sources.put("test", "<p>{{title}}</p><p>{{&title}}</p>{{#items}}<i>{{name}}</i>{{/items}}"
+            + "{{^items}}empty{{/items}}{{#flag}}on{{/flag}}{{^flag}}off{{/flag}}{{! comment }}");
+        Map<String, Object> context = Map.of(
+            "title", "<b>&</b>",
+            "items", List.of(Map.of("name", "a"), Map.of("name", "<c>")),
+            "flag", false);
+
+        // when
+        String rendered = render("test", context);
+
+        // then
+        then(rendered).isEqualTo(renderWithJMustache("test", context));
+        then(rendered).contains("<p>&lt;b&gt;&amp;&lt;/b&gt;</p><p><b>&</b></p>");
+    }
+
+    @Test
+    @DisplayName("partial 을 컴파일할 때 펼치고 바깥 섹션의 값을 사용한다")
+    public void inlinePartialTest() throws IOException {
+        // given
+        sources.put("outer", "{{#user}}{{> inner}}{{/user}}");
+        sources.put("inner", "<a>{{name}}</a>{{> leaf}}");
+        sources.put("leaf", "<b>{{name}}</b>");
+
+        // when
+        String rendered = render("outer", Map.of("user", Map.of("name", "javajigi")));
+
+        // then
+        then(rendered).isEqualTo("<a>javajigi</a><b>javajigi</b>");
+    }
+
+    @Test
+    @DisplayName("안쪽 섹션에 없는 값은 한 번만 찾고 바깥 섹션의 값을 사용한다")
+    public void cacheMissingFetcherTest() throws IOException {
+        // given
+        AtomicInteger lookups = new AtomicInteger();
+        Mustache.Compiler counting = Mustache.compiler()
+            .withCollector(new DefaultCollector() {
+                @Override
+                public Mustache.VariableFetcher createFetcher(Object ctx, String name) {
+                    if (ctx instanceof Item && name.equals("title")) {
+                        lookups.incrementAndGet();
+                    }
+                    return super.createFetcher(ctx, name);
+                }
+            });
+        TemplateCompiler compiler = new TemplateCompiler(counting,
+            name -> "{{#items}}<i>{{title}} {{name}}</i>{{/items}}", StandardCharsets.UTF_8);
+        Page page = new Page("title", List.of(new Item("a"), new Item("b")));
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < 3; i++) {
+            compiler.compile("page").execute(page, out);
+        }
+
+        // then
+        then(out.toString(StandardCharsets.UTF_8)).startsWith("<i>title a</i><i>title b</i>");
+        then(lookups.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("들여쓰기와 빈 줄은 지우고 textarea 안의 공백은 유지한다")
+    public void collapseWhitespaceTest() throws IOException {
+        // given
+        sources.put("test", "<div>\n\n    <span>{{name}}</span>\n    {{#show}}\n"
+            + "    <textarea>\n      keep\n    </textarea>\n    {{/show}}\n</div>\n");
+
+        // when
+        String rendered = render("test", Map.of("name", "name", "show", true));
+
+        // then
+        then(rendered).isEqualTo(
+            "<div>\n<span>name</span>\n<textarea>\n      keep\n    </textarea>\n</div>\n");
+    }
+
+    @Test
+    @DisplayName("질문 목록 화면을 JMustache 와 같은 내용으로 렌더링한다")
+    public void renderArticleListTest() throws IOException {
+        // given
+        List<ArticleResponse> articles = IntStream.rangeClosed(1, 20)
+            .mapToObj(id -> ArticleResponse.createWithArticle(id, "writer", "<title " + id + ">",
+                "contents", LocalDateTime.of(2022, 3, 1, 12, 0)))
+            .collect(Collectors.toList());
+
+        Function<NavbarResponse, Map<String, Object>> model = navbar -> Map.of(
+            "articles", articles,
+            "page", new ArticlePageResponse(articles, true, LocalDateTime.of(2022, 3, 1, 12, 0), 1),
+            NavbarResponse.MODEL_KEY, navbar);
+
+        for (NavbarResponse navbar : List.of(NavbarResponse.from(null),
+            NavbarResponse.from(new SessionUser("writer", "userName")))) {
+            // when
+            String rendered = render("qna/list", model.apply(navbar));
+
+            // then
+            then(normalize(rendered))
+                .isEqualTo(normalize(renderWithJMustache("qna/list", model.apply(navbar))));
+            then(rendered.length())
+                .isLessThan(renderWithJMustache("qna/list", model.apply(navbar)).length());
+        }
+    }
+
+    @Test
+    @DisplayName("섹션이 맞지 않는 템플릿은 컴파일할 때 예외가 발생한다")
+    public void unbalancedSectionTest() {
+        // given
+        sources.put("test", "{{#items}}<i></i>{{/other}}");
+
+        // when
+        Throwable throwable = catchThrowable(() -> compiler.compile("test"));
+
+        // then
+        then(throwable).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    public static class Page {
+
+        private final String title;
+        private final List<Item> items;
+
+        Page(String title, List<Item> items) {
+            this.title = title;
+            this.items = items;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public List<Item> getItems() {
+            return items;
+        }
+    }
+
+    public static class Item {
+
+        private final String name;
+
+        Item(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.kakao.cafe.unit.util;
+
+import static org.assertj.core.api.BDDAssertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.kakao.cafe.exception.ErrorCode;
+import com.kakao.cafe.exception.InternalOperationException;
+import com.kakao.cafe.util.Mapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Mapper 단위 테스트")
+public class MapperTest {
+
+    @Test
+    @DisplayName("이름이 같은 필드의 값을 새 객체에 복사한다")
+    public void mapTest() {
+        // given
+        Source source = new Source(1, "userId", null);
+
+        // when
+        Target target = Mapper.map(source, Target.class);
+
+        // then
+        then(target.userNum).isEqualTo(1);
+        then(target.userId).isEqualTo("userId");
+        then(target.name).isEqualTo("default");
+    }
+
+    @Test
+    @DisplayName("같은 클래스 쌍을 여러 번 매핑해도 같은 결과를 반환한다")
+    public void mapRepeatTest() {
+        // given
+        Source source = new Source(1, "userId", "name");
+
+        // when
+        Target first = Mapper.map(source, Target.class);
+        Target second = Mapper.map(source, Target.class);
+
+        // then
+        then(first).isNotSameAs(second);
+        then(second.name).isEqualTo("name");
+    }
+
+    @Test
+    @DisplayName("기본 생성자가 없는 클래스로 매핑하면 예외를 반환한다")
+    public void mapNoConstructorTest() {
+        // when
+        Throwable throwable = catchThrowable(
+            () -> Mapper.map(new Source(1, "userId", "name"), Source.class));
+
+        // then
+        then(throwable)
+            .isInstanceOf(InternalOperationException.class)
+            .hasMessage(ErrorCode.INTERNAL_ERROR.getMessage());
+    }
+
+    @Test
+    @DisplayName("null 을 매핑하면 예외를 반환한다")
+    public void mapNullTest() {
+        // when
+        Throwable throwable = catchThrowable(() -> Mapper.map(null, Target.class));
+
+        // then
+        then(throwable)
+            .isInstanceOf(InternalOperationException.class)
+            .hasMessage(ErrorCode.INTERNAL_ERROR.getMessage());
+    }
+
+    private static class Source {
+
+        private final Integer userNum;
+        private final String userId;
+        private final String name;
+
+        Source(Integer userNum, String userId, String name) {
+            this.userNum = userNum;
+            this.userId = userId;
+            this.name = name;
+        }
+    }
+
+    private static class Target {
+
+        private Integer userNum;
+        private String userId;
+        private String name = "default";
+
+        private Target() {
+        }
+    }
+}